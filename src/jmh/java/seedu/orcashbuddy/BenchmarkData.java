@@ -0,0 +1,64 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared set-up for the JMH benchmarks, so that every benchmark measures the same ledgers
+ * under the same conditions as the application.
+ */
+public final class BenchmarkData {
+    /** Number of distinct categories in a generated ledger. */
+    private static final int CATEGORY_COUNT = 20;
+    /** Seed for generated ledgers, so runs before and after a change see the same data. */
+    private static final long SEED = 42;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Turns logging off the way {@code Main} does, so benchmarks do not measure log output.
+     */
+    public static void silenceLogging() {
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    /**
+     * Creates a ledger of {@code size} expenses with varied amounts, descriptions of the
+     * form {@code Item N}, a handful of categories, and every third expense marked.
+     *
+     * @param size the number of expenses
+     * @return the ledger, with a budget set
+     */
+    public static ExpenseManager createLedger(int size) {
+        ExpenseManager expenseManager = new ExpenseManager();
+        expenseManager.setBudget(1_000_000_00L);
+        Random random = new Random(SEED);
+        for (int i = 0; i < size; i++) {
+            Expense expense = new Expense(1 + random.nextInt(100_000), "Item " + i,
+                    "Category" + random.nextInt(CATEGORY_COUNT));
+            if (i % 3 == 0) {
+                expense.mark();
+            }
+            expenseManager.addExpense(expense);
+        }
+        return expenseManager;
+    }
+
+    /**
+     * Creates a {@code Ui} whose output is discarded.
+     *
+     * @return the silent {@code Ui}
+     */
+    public static Ui createSilentUi() {
+        return new Ui(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
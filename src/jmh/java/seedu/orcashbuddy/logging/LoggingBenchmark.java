@@ -0,0 +1,67 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.orcashbuddy.BenchmarkData;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures a disabled log call with a number and two strings, as {@code addExpense} makes,
+ * through {@code java.util.logging} directly and through {@link OrCashBuddyLogger}.
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the number of bytes each call
+ * allocates, and should be 0 for {@link #orCashBuddyLogger()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final Logger JUL_LOGGER = Logger.getLogger(LoggingBenchmark.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(LoggingBenchmark.class);
+    private static final String PATTERN = "Added expense amount={0}, desc={1}, category={2}";
+
+    // Not constants, so the JIT cannot fold the boxing away; the amount is outside the Long cache
+    private long amountCents = 123_456;
+    private String description = "Chicken rice";
+    private String category = "Food";
+
+    /**
+     * Turns logging off as {@code Main} does.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkData.silenceLogging();
+    }
+
+    /**
+     * Logs through {@code java.util.logging}, which boxes the amount and builds the argument
+     * array before checking the level.
+     */
+    @Benchmark
+    public void javaUtilLogging() {
+        JUL_LOGGER.log(Level.INFO, PATTERN, new Object[]{amountCents, description, category});
+    }
+
+    /**
+     * Logs through {@link OrCashBuddyLogger}, which checks the level first.
+     */
+    @Benchmark
+    public void orCashBuddyLogger() {
+        LOGGER.log(Level.INFO, PATTERN, amountCents, description, category);
+    }
+}
@@ -0,0 +1,74 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.orcashbuddy.BenchmarkData;
+import seedu.orcashbuddy.command.Command;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Parser#parse(String)} for a typical input of every command word, and for
+ * input that is rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "add a/12.50 desc/Chicken rice cat/Food",
+        "add a/12.345 desc/Too many decimals",
+        "delete 3",
+        "delete 1-20 25 30-40",
+        "edit id/2 a/4.20 desc/Kopi cat/Drinks",
+        "mark 2",
+        "mark 1-100",
+        "unmark cat/Food",
+        "find desc/chicken",
+        "sort",
+        "sort top/10 page/2",
+        "setbudget a/500",
+        "list",
+        "help",
+        "import expenses.csv",
+        "export expenses.json cat/Food",
+        "bye",
+        "unknown command"
+    })
+    private String input;
+
+    private Parser parser;
+
+    /**
+     * Creates the parser.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.silenceLogging();
+        parser = new Parser();
+    }
+
+    /**
+     * Parses the input into a command without running it.
+     *
+     * @return the parsed command
+     */
+    @Benchmark
+    public Command parse() {
+        return parser.parse(input);
+    }
+}
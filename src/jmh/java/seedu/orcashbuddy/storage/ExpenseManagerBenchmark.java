@@ -0,0 +1,115 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.orcashbuddy.BenchmarkData;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ExpenseManager} operations behind {@code add}, {@code delete},
+ * {@code sort} and {@code find} on ledgers of different sizes.
+ * <p>
+ * Each mutating benchmark undoes its own change, so the ledger keeps its size however
+ * many times it runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExpenseManagerBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ExpenseManager expenseManager;
+    private Expense newExpense;
+    private String searchTerm;
+
+    /**
+     * Builds the ledger once for each size.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.silenceLogging();
+        expenseManager = BenchmarkData.createLedger(size);
+        newExpense = new Expense(1234, "Benchmark lunch", "Food");
+        // Matches only some of the descriptions, as a typical search does
+        searchTerm = "item " + (size / 200);
+    }
+
+    /**
+     * Adds an expense at the end of the list, then deletes it again.
+     *
+     * @return the deleted expense
+     * @throws OrCashBuddyException never, as the index is always valid
+     */
+    @Benchmark
+    public Expense addExpense() throws OrCashBuddyException {
+        expenseManager.addExpense(newExpense);
+        return expenseManager.deleteExpense(size + 1);
+    }
+
+    /**
+     * Deletes the first expense, the case that shifts every other expense in a plain list,
+     * then adds it back at the end.
+     *
+     * @return the deleted expense
+     * @throws OrCashBuddyException never, as the index is always valid
+     */
+    @Benchmark
+    public Expense deleteExpense() throws OrCashBuddyException {
+        Expense deleted = expenseManager.deleteExpense(1);
+        expenseManager.addExpense(deleted);
+        return deleted;
+    }
+
+    /**
+     * Sorts the ledger by amount with no changes since the last sort.
+     *
+     * @return the sorted view
+     */
+    @Benchmark
+    public List<Expense> sortExpenses() {
+        return expenseManager.sortExpenses();
+    }
+
+    /**
+     * Sorts the ledger after one expense has been added, so the sort order must be updated.
+     *
+     * @return the sorted view
+     * @throws OrCashBuddyException never, as the index is always valid
+     */
+    @Benchmark
+    public List<Expense> sortExpensesAfterAdd() throws OrCashBuddyException {
+        expenseManager.addExpense(newExpense);
+        List<Expense> sorted = expenseManager.sortExpenses();
+        expenseManager.deleteExpense(size + 1);
+        return sorted;
+    }
+
+    /**
+     * Finds the expenses whose description contains a term that only some of them contain.
+     *
+     * @return the matching expenses
+     */
+    @Benchmark
+    public List<Expense> findExpensesByDescription() {
+        return expenseManager.findExpensesByDescription(searchTerm);
+    }
+}
@@ -0,0 +1,93 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.orcashbuddy.BenchmarkData;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StorageManager} saving and loading ledgers of different sizes.
+ * <p>
+ * Files are written to {@code data} under the working directory, which the {@code jmh}
+ * Gradle task sets to {@code build/jmh}. The store and load options, such as
+ * {@code -Dorcashbuddy.mappedLoad=true}, can be passed with JMH's {@code -jvmArgsAppend}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ExpenseManager expenseManager;
+    private Ui ui;
+
+    /**
+     * Builds the ledger and saves it, so that there is a snapshot to load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.silenceLogging();
+        ui = BenchmarkData.createSilentUi();
+        expenseManager = BenchmarkData.createLedger(size);
+        StorageManager.saveExpenseManager(expenseManager, ui);
+    }
+
+    /**
+     * Writes a full snapshot of the ledger, as the first save of a session does.
+     *
+     * @return the saved ledger
+     */
+    @Benchmark
+    public ExpenseManager saveSnapshot() {
+        expenseManager.attachJournal(null);
+        StorageManager.saveExpenseManager(expenseManager, ui);
+        return expenseManager;
+    }
+
+    /**
+     * Saves after marking one expense, as most saves during a session do. Every
+     * {@link StorageManager#SNAPSHOT_INTERVAL} saves this writes a full snapshot instead,
+     * so the result is the amortized cost of a save.
+     *
+     * @return the saved ledger
+     * @throws OrCashBuddyException never, as the index is always valid
+     */
+    @Benchmark
+    public ExpenseManager saveAfterOneChange() throws OrCashBuddyException {
+        if (expenseManager.getExpense(2).isMarked()) {
+            expenseManager.unmarkExpense(2);
+        } else {
+            expenseManager.markExpense(2);
+        }
+        StorageManager.saveExpenseManager(expenseManager, ui);
+        return expenseManager;
+    }
+
+    /**
+     * Loads the ledger from the latest snapshot and journal.
+     *
+     * @return the loaded ledger
+     */
+    @Benchmark
+    public ExpenseManager load() {
+        return StorageManager.loadExpenseManager(ui);
+    }
+}
@@ -1,12 +1,24 @@
 package seedu.orcashbuddy;
 
 import seedu.orcashbuddy.command.Command;
+import seedu.orcashbuddy.command.InvalidCommand;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
+import seedu.orcashbuddy.metrics.CommandEvent;
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.metrics.FlightEvents;
 import seedu.orcashbuddy.parser.Parser;
+import seedu.orcashbuddy.storage.BackgroundSaver;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.storage.StorageManager;
 import seedu.orcashbuddy.ui.Ui;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.logging.Handler;
@@ -21,15 +33,30 @@ import java.util.logging.Logger;
  *   <li>Load saved expenses/budget from disk</li>
  *   <li>Read user commands in a loop</li>
  *   <li>Parse and execute each command</li>
- *   <li>Persist changes after each successful command</li>
+ *   <li>Persist changes after each successful command that modifies data</li>
  *   <li>Gracefully shut down on {@code bye}</li>
  * </ul>
+ * Started with {@code --script FILE}, it runs the commands in {@code FILE} instead of
+ * reading them from the user, saving once at the end (see {@link #runScript(Path, int)}).
+ * <p>
+ * The parse, execute and save time of every command is recorded in a {@link CommandMetrics}
+ * shown by {@code stats}, and also on exit when {@code -Dorcashbuddy.statsOnExit=true}.
+ * Each phase is also emitted as a Java Flight Recorder event (see {@link CommandEvent}).
  */
 public class Main {
-    private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(Main.class);
+    private static final long DEFAULT_SAVE_DELAY_MILLIS = 200;
+    private static final String SCRIPT_OPTION = "--script";
+    private static final String SAVE_EVERY_OPTION = "--save-every";
+    private static final String USAGE = "Usage: orcashbuddy [" + SCRIPT_OPTION + " FILE ["
+            + SAVE_EVERY_OPTION + " N]]";
     private final Ui ui;
     private final ExpenseManager expenseManager;
     private final Parser parser;
+    private final BackgroundSaver saver;
+    //@@author aydrienlaw
+    private final CommandMetrics metrics;
+    //@@author
 
     // Configure root logger level once.
     static {
@@ -43,20 +70,57 @@ public class Main {
     /**
      * Constructs the main application object.
      * Loads persisted data (if any) via {@link StorageManager}.
+     * <p>
+     * Saves are written by a {@link BackgroundSaver}, which coalesces saves made within
+     * {@code -Dorcashbuddy.saveDelayMillis} (default 200) milliseconds of each other.
+     * Passing {@code -Dorcashbuddy.syncSave=true} saves on the command thread instead.
      */
     public Main() {
-        this.ui = new Ui();
+        this(new Ui(), new CommandMetrics());
+    }
+
+    //@@author aydrienlaw
+    private Main(Ui ui, CommandMetrics metrics) {
+        this(ui, metrics, createSaver(metrics));
+    }
+
+    /**
+     * Constructs the main application object with the given output, metrics and saver,
+     * loading persisted data as {@link #Main()} does.
+     *
+     * @param ui      the UI to show output on
+     * @param metrics where command timings are recorded
+     * @param saver   the saver to write saves with, or {@code null} to save on the command thread
+     */
+    Main(Ui ui, CommandMetrics metrics, BackgroundSaver saver) {
+        this.ui = ui;
         this.expenseManager = StorageManager.loadExpenseManager(ui);
-        this.parser = new Parser();
+        this.metrics = metrics;
+        this.parser = new Parser(metrics);
+        this.saver = saver;
     }
 
+    private static BackgroundSaver createSaver(CommandMetrics metrics) {
+        if (Boolean.getBoolean("orcashbuddy.syncSave")) {
+            return null;
+        }
+        long delayMillis = Math.max(0, Long.getLong("orcashbuddy.saveDelayMillis", DEFAULT_SAVE_DELAY_MILLIS));
+        BackgroundSaver saver = new BackgroundSaver(delayMillis, metrics);
+        Runtime.getRuntime().addShutdownHook(new Thread(saver::close, "orcashbuddy-shutdown"));
+        return saver;
+    }
+
+    //@@author
     /**
      * Runs the interactive command loop:
      * shows the welcome banner, reads commands,
      * executes them, and stops when a command indicates exit.
+     * Any saves still pending are written before returning.
+     * The output of each command is flushed once it has finished.
      */
     public void run() {
         ui.showWelcome();
+        ui.flush();
 
         Scanner scanner = new Scanner(System.in);
         boolean shouldExit = false;
@@ -67,9 +131,82 @@ public class Main {
             }
 
             shouldExit = executeCommand(input);
+            ui.flush();
         }
+
+        if (saver != null) {
+            saver.flush(expenseManager, ui);
+        }
+        showStatsOnExit();
+        ui.flush();
     }
 
+    //@@author aydrienlaw
+    /**
+     * Runs every command in {@code script}, one per line, without the welcome banner.
+     * <p>
+     * Unlike {@link #run()}, changes are not saved after each command: they are saved after
+     * every {@code saveInterval} commands that change data, or only once at the end when
+     * {@code saveInterval} is 0. Blank lines and lines starting with {@code #} are skipped.
+     * A {@code bye} stops the script early.
+     *
+     * @param script       the file of commands to run
+     * @param saveInterval the number of data-changing commands between saves, or 0
+     * @return the number of commands that failed, or -1 if the script could not be read
+     */
+    public int runScript(Path script, int saveInterval) {
+        assert saveInterval >= 0 : "Save interval must not be negative";
+
+        int commandCount = 0;
+        int failedCount = 0;
+        int unsavedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String input = line.trim();
+                if (input.isEmpty() || input.startsWith("#")) {
+                    continue;
+                }
+
+                commandCount++;
+                Command command = parseAndExecute(input);
+                if (command == null || command instanceof InvalidCommand) {
+                    failedCount++;
+                    continue;
+                }
+                if (command.isMutating() && ++unsavedCount == saveInterval) {
+                    timedSave(Parser.getCommandWord(input));
+                    unsavedCount = 0;
+                }
+                if (command.isExit()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read script", e);
+            ui.showError("Unable to read script: " + script);
+            failedCount = -1;
+        }
+
+        // Commands run before a read error are kept
+        if (unsavedCount > 0) {
+            save();
+        }
+        if (saver != null) {
+            saver.flush(expenseManager, ui);
+        }
+        LOGGER.log(Level.INFO, "Ran script {0}: {1} command(s), {2} failed",
+                script, commandCount, failedCount);
+        if (failedCount >= 0) {
+            ui.showScriptSummary(script.toString(), commandCount, failedCount);
+        }
+        showStatsOnExit();
+        // Output is only flushed as the buffer fills, not after every command
+        ui.flush();
+        return failedCount;
+    }
+
+    //@@author
     /**
      * Reads user input from {@link Scanner}.
      * If the input stream is closed (EOF), returns {@code null}.
@@ -88,35 +225,144 @@ public class Main {
 
     /**
      * Parses and executes a single user command.
-     * Also persists updated data after successful execution.
+     * Also persists updated data after successful execution of a command
+     * that can modify it; read-only commands skip the save.
      *
      * @param input the user input string
      * @return {@code true} if the executed command signals application exit; {@code false} otherwise
      */
     private boolean executeCommand(String input) {
+        //@@author aydrienlaw
+        Command command = parseAndExecute(input);
+        if (command == null) {
+            return false;
+        }
+        if (command.isMutating()) {
+            timedSave(Parser.getCommandWord(input));
+        }
+        //@@author
+        return command.isExit();
+    }
+
+    /**
+     * Parses and executes a single user command without saving, showing any error to the user.
+     *
+     * @param input the user input string
+     * @return the command executed, or {@code null} if it failed with an exception
+     */
+    private Command parseAndExecute(String input) {
+        //@@author aydrienlaw
+        String commandWord = Parser.getCommandWord(input);
+        CommandEvent event = FlightEvents.beginCommandParse();
+        long startNanos = System.nanoTime();
+        //@@author
         try {
             Command command = parser.parse(input);
+            //@@author aydrienlaw
+            long parsedNanos = System.nanoTime();
+            boolean isInvalid = command instanceof InvalidCommand;
+            FlightEvents.commitCommand(event, commandWord, expenseManager.getSize(), isInvalid);
+            metrics.record(commandWord, CommandMetrics.Phase.PARSE, parsedNanos - startNanos);
+            if (isInvalid) {
+                metrics.recordError(commandWord);
+            }
+
+            event = FlightEvents.beginCommandExecute();
             command.execute(expenseManager, ui);
-            StorageManager.saveExpenseManager(expenseManager, ui);
-            return command.isExit();
+            metrics.record(commandWord, CommandMetrics.Phase.EXECUTE, System.nanoTime() - parsedNanos);
+            FlightEvents.commitCommand(event, commandWord, expenseManager.getSize(), false);
+            //@@author
+            return command;
         } catch (OrCashBuddyException e) {
             // Handle expected application exceptions
-            LOGGER.log(Level.INFO, "Application error: " + e.getMessage());
+            LOGGER.info(() -> "Application error: " + e.getMessage());
             ui.showError(e.getMessage());
         } catch (Exception e) {
             // Handle unexpected exceptions
-            LOGGER.log(Level.WARNING, "Unexpected error executing command: " + e.getMessage(), e);
+            LOGGER.log(Level.WARNING, "Unexpected error executing command", e);
             ui.showError("An unexpected error occurred while processing your command.");
         }
-        return false;
+        //@@author aydrienlaw
+        FlightEvents.commitCommand(event, commandWord, expenseManager.getSize(), true);
+        metrics.recordError(commandWord);
+        //@@author
+        return null;
+    }
+
+    //@@author aydrienlaw
+    private void timedSave(String commandWord) {
+        long startNanos = System.nanoTime();
+        save();
+        metrics.record(commandWord, CommandMetrics.Phase.SAVE, System.nanoTime() - startNanos);
+    }
+
+    private void showStatsOnExit() {
+        if (Boolean.getBoolean("orcashbuddy.statsOnExit")) {
+            ui.showSeparator();
+            ui.showCommandStats(metrics.getCommandStats(), metrics.getBackgroundWrites());
+            ui.showSeparator();
+        }
+    }
+
+    private void save() {
+        if (saver != null) {
+            saver.submit(expenseManager, ui);
+        } else {
+            StorageManager.saveExpenseManager(expenseManager, ui);
+        }
     }
 
+    //@@author
     /**
-     * Program entry point. Creates a {@link Main} instance and starts the REPL loop.
+     * Program entry point. Creates a {@link Main} instance and starts the REPL loop,
+     * or runs a script when given {@code --script FILE [--save-every N]}.
+     * A script that could not be read or had failing commands exits with status 1.
      *
-     * @param args standard {@code main} arguments (unused)
+     * @param args no arguments, or the script options
      */
     public static void main(String[] args) {
+        //@@author aydrienlaw
+        if (args.length > 0) {
+            runScriptFromArguments(args);
+            return;
+        }
+        //@@author
         new Main().run();
     }
+
+    //@@author aydrienlaw
+    private static void runScriptFromArguments(String[] args) {
+        int saveInterval = parseSaveInterval(args);
+        if (saveInterval < 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        int failedCount = new Main().runScript(Paths.get(args[1]), saveInterval);
+        if (failedCount != 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the save interval given by {@code --script FILE [--save-every N]}.
+     *
+     * @param args the command-line arguments
+     * @return {@code N}, 0 if it is not given, or -1 if the arguments are not in that form
+     */
+    static int parseSaveInterval(String[] args) {
+        boolean hasScript = args.length > 0 && args[0].equals(SCRIPT_OPTION) && (args.length == 2
+                || args.length == 4 && args[2].equals(SAVE_EVERY_OPTION));
+        if (!hasScript) {
+            return -1;
+        }
+        if (args.length == 2) {
+            return 0;
+        }
+        try {
+            return Math.max(-1, Integer.parseInt(args[3]));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
@@ -2,41 +2,41 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Command to add a new expense to the expense manager.
  */
 public class AddCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(AddCommand.class.getName());
-    private final double amount;
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(AddCommand.class);
+    private final long amountCents;
     private final String description;
     private final String category;
 
     /**
      * Constructs an AddCommand with the specified amount and description, using the default category.
      *
-     * @param amount the expense amount
+     * @param amountCents the expense amount in cents
      * @param description the expense description
      */
-    public AddCommand(double amount, String description) {
-        this(amount, description, Expense.DEFAULT_CATEGORY);
+    public AddCommand(long amountCents, String description) {
+        this(amountCents, description, Expense.DEFAULT_CATEGORY);
     }
 
     /**
      * Constructs an {@code AddCommand} with the specified amount and description,
      * using the default category {@link Expense#DEFAULT_CATEGORY}.
      *
-     * @param amount the expense amount
+     * @param amountCents the expense amount in cents
      * @param description the expense description
      * @param category the expense category
      */
-    public AddCommand(double amount, String description, String category) {
-        this.amount = amount;
+    public AddCommand(long amountCents, String description, String category) {
+        this.amountCents = amountCents;
         this.description = description;
         this.category = category;
     }
@@ -49,15 +49,15 @@ public class AddCommand extends Command {
      */
     @Override
     public void execute(ExpenseManager expenseManager, Ui ui) {
-        assert amount > 0.0 : "Amount must be positive";
+        assert amountCents > 0 : "Amount must be positive";
         assert description != null && !description.isBlank() : "Description must not be blank";
         assert category != null && !category.isBlank() : "Category must not be blank";
 
-        Expense expense = new Expense(amount, description, category);
+        Expense expense = new Expense(amountCents, description, category);
         expenseManager.addExpense(expense);
 
-        LOGGER.log(Level.INFO, "Added expense: amount={0}, desc={1}, category={2}",
-                new Object[]{amount, description, category});
+        LOGGER.log(Level.INFO, "Added expense: amountCents={0}, desc={1}, category={2}",
+                amountCents, description, category);
 
         ui.showSeparator();
         ui.showNewExpense(expense);
@@ -1,16 +1,15 @@
 package seedu.orcashbuddy.command;
 
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
-import java.util.logging.Logger;
-
 /**
  * Command to exit the application gracefully.
  * Displays a farewell message and signals the program to stop running.
  */
 public class ByeCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(ByeCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(ByeCommand.class);
 
     /**
      * Shows a goodbye message and visual separators.
@@ -35,4 +34,14 @@ public class ByeCommand extends Command {
     public boolean isExit() {
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false}; earlier commands have already saved their changes
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -9,7 +9,8 @@ import seedu.orcashbuddy.ui.Ui;
  * <p>
  * Each concrete subclass implements {@link #execute(ExpenseManager, Ui)} to
  * perform its logic (e.g. add an expense, list expenses, etc.).
- * After execution, {@link #isExit()} may signal the main loop to terminate.
+ * After execution, {@link #isExit()} may signal the main loop to terminate, and
+ * {@link #isMutating()} tells the main loop whether the data needs to be saved.
  */
 public abstract class Command {
 
@@ -30,4 +31,14 @@ public abstract class Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Indicates whether executing this command may change the data held by {@link ExpenseManager}.
+     * Read-only commands override this to return {@code false} so that saving can be skipped.
+     *
+     * @return {@code true} if the data should be persisted after execution; {@code false} otherwise
+     */
+    public boolean isMutating() {
+        return true;
+    }
 }
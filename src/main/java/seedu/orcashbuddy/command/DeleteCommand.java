@@ -3,20 +3,26 @@ package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.BudgetStatus;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
- * Command to delete an expense from the expense manager.
+ * Command to delete one or more expenses from the expense manager.
  */
 public class DeleteCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(DeleteCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(DeleteCommand.class);
     private final int index;
+    //@@author aydrienlaw
+    /** Indices to delete together, or {@code null} to delete only {@link #index}. */
+    private final IndexSelection indices;
 
+    //@@author saheer17
     /**
      * Constructs a {@code DeleteCommand} with the specified expense index.
      *
@@ -24,30 +30,54 @@ public class DeleteCommand extends Command {
      */
     public DeleteCommand(int index) {
         this.index = index;
+        this.indices = null;
     }
 
+    //@@author aydrienlaw
     /**
-     * Deletes the chosen expense and displays confirmation,
+     * Constructs a {@code DeleteCommand} that deletes the expenses at all the given indices
+     * at once, as numbered before any of them is deleted.
+     *
+     * @param indices the 1-based indices of the expenses to delete
+     */
+    public DeleteCommand(IndexSelection indices) {
+        this.index = indices.getLowestIndex();
+        this.indices = indices;
+    }
+
+    //@@author saheer17
+
+    /**
+     * Deletes the chosen expenses and displays confirmation,
      * along with an updated budget status if relevant.
      *
      * @param expenseManager the central data model that stores all expenses and budget state
      * @param ui the UI used to show output to the user
-     * @throws OrCashBuddyException if the provided index is invalid
+     * @throws OrCashBuddyException if any provided index is invalid
      */
     @Override
     public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
         assert index >= 1 : "Index must be at least 1";
 
-        Expense removedExpense = expenseManager.deleteExpense(index);
+        //@@author aydrienlaw
+        if (indices != null) {
+            BitSet targets = indices.toBitSet(expenseManager.getSize());
+            List<Expense> removedExpenses = expenseManager.deleteExpenses(targets);
+            LOGGER.log(Level.INFO, "Deleted {0} expenses", removedExpenses.size());
+            ui.showDeletedExpenses(removedExpenses);
+        } else {
+            //@@author saheer17
+            Expense removedExpense = expenseManager.deleteExpense(index);
 
-        LOGGER.log(Level.INFO, "Deleted expense at index {0}: {1}",
-                new Object[]{index, removedExpense.getDescription()});
+            LOGGER.log(Level.INFO, "Deleted expense at index {0}: {1}",
+                    index, removedExpense.getDescription());
 
-        ui.showDeletedExpense(removedExpense);
+            ui.showDeletedExpense(removedExpense);
+        }
         BudgetStatus status = expenseManager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = expenseManager.getRemainingBalance();
-            ui.showBudgetStatus(status, remainingBalance);
+            long remainingBalanceCents = expenseManager.getRemainingBalanceCents();
+            ui.showBudgetStatus(status, remainingBalanceCents);
         }
         ui.showSeparator();
     }
@@ -3,20 +3,20 @@ package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.BudgetStatus;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
-import java.util.logging.Logger;
 import java.util.logging.Level;
 
 /**
  * Command to edit expense in the expense manager.
  */
 public class EditCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(EditCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(EditCommand.class);
     private final int index;
-    private final Double newAmount; // can be null if unchanged
+    private final Long newAmountCents; // can be null if unchanged
     private final String newDescription;
     private final String newCategory;
 
@@ -24,14 +24,14 @@ public class EditCommand extends Command {
      * Constructs an {@code EditCommand}.
      *
      * @param index index of the expense to edit (1-based)
-     * @param newAmount new amount (nullable to keep existing)
+     * @param newAmountCents new amount in cents (nullable to keep existing)
      * @param newDescription new description (nullable to keep existing)
      * @param newCategory new category (nullable to keep existing)
      */
-    public EditCommand(int index, Double newAmount, String newDescription,
+    public EditCommand(int index, Long newAmountCents, String newDescription,
             String newCategory) {
         this.index = index;
-        this.newAmount = newAmount;
+        this.newAmountCents = newAmountCents;
         this.newDescription = newDescription;
         this.newCategory = newCategory;
     }
@@ -58,15 +58,15 @@ public class EditCommand extends Command {
             LOGGER.log(Level.WARNING, "No expense found at index {0}", index);
             throw new OrCashBuddyException("No expense found at index " + index);
         }
-        double updatedAmount = (newAmount != null) ? newAmount : original.getAmount();
+        long updatedAmountCents = (newAmountCents != null) ? newAmountCents : original.getAmountCents();
         String updatedDescription = (newDescription != null) ? newDescription : original.getDescription();
         String updatedCategory = (newCategory != null) ? newCategory : original.getCategory();
         boolean wasMarked = original.isMarked();
         LOGGER.log(Level.FINE, "Original expense: {0}", original.formatForDisplay());
-        LOGGER.log(Level.FINE, "Updated fields — amount: {0}, desc: {1}, category: {2}",
-                new Object[]{updatedAmount, updatedDescription, updatedCategory});
+        LOGGER.log(Level.FINE, "Updated fields — amount: {0} cents, desc: {1}, category: {2}",
+                updatedAmountCents, updatedDescription, updatedCategory);
 
-        Expense edited = new Expense(updatedAmount, updatedDescription, updatedCategory);
+        Expense edited = new Expense(updatedAmountCents, updatedDescription, updatedCategory);
         expenseManager.replaceExpense(index, edited);
 
         if  (wasMarked) {
@@ -74,7 +74,7 @@ public class EditCommand extends Command {
         }
 
         ui.showSeparator();
-        if (newAmount == null && newDescription == null && newCategory == null){
+        if (newAmountCents == null && newDescription == null && newCategory == null){
             ui.showEmptyEdit(edited);
             LOGGER.log(Level.INFO, "No changes were made to the expense.");
         } else {
@@ -82,8 +82,8 @@ public class EditCommand extends Command {
         }
         BudgetStatus status = expenseManager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = expenseManager.getRemainingBalance();
-            ui.showBudgetStatus(status, remainingBalance);
+            long remainingBalanceCents = expenseManager.getRemainingBalanceCents();
+            ui.showBudgetStatus(status, remainingBalanceCents);
         }
         LOGGER.log(Level.INFO, "Expense at index {0} successfully edited.", index);
         ui.showSeparator();
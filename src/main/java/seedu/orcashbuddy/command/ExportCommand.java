@@ -0,0 +1,83 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
+import seedu.orcashbuddy.storage.ExpenseExporter;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.logging.Level;
+
+/**
+ * Command to write expenses to a CSV or JSON lines file, optionally only those a search finds.
+ * The format follows the file name (see {@link ExpenseExporter.Format#forFileName(String)}).
+ */
+public class ExportCommand extends Command {
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(ExportCommand.class);
+
+    private final String fileName;
+    /** Search selecting the expenses to export, or {@code null} to export all of them. */
+    private final FindCommand query;
+
+    /**
+     * Constructs an {@code ExportCommand} that writes every expense.
+     *
+     * @param fileName the path of the file to write
+     */
+    public ExportCommand(String fileName) {
+        this(fileName, null);
+    }
+
+    /**
+     * Constructs an {@code ExportCommand} that writes the expenses {@code query} finds.
+     *
+     * @param fileName the path of the file to write
+     * @param query    the search selecting the expenses, or {@code null} for all
+     */
+    public ExportCommand(String fileName, FindCommand query) {
+        this.fileName = fileName;
+        this.query = query;
+    }
+
+    /**
+     * Writes the selected expenses and shows how many were written.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @param ui the UI used to show output to the user
+     * @throws OrCashBuddyException if the file cannot be written
+     */
+    @Override
+    public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+        assert fileName != null && !fileName.isBlank() : "File name must not be blank";
+
+        BitSet indices = (query == null) ? null : query.findIndices(expenseManager);
+        ExpenseExporter.Format format = ExpenseExporter.Format.forFileName(fileName);
+        int exportedCount;
+        try {
+            exportedCount = ExpenseExporter.export(expenseManager, indices, Paths.get(fileName), format);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to export to " + fileName, e);
+            throw OrCashBuddyException.unwritableFile(fileName, e);
+        }
+
+        LOGGER.log(Level.INFO, "Exported {0} expenses to {1} as {2}",
+                exportedCount, fileName, format);
+        ui.showSeparator();
+        ui.showExportResult(fileName, exportedCount);
+        ui.showSeparator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false} since exporting never changes the expense list
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -2,18 +2,19 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Command to find expenses by category or description.
  */
 public class FindCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(FindCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(FindCommand.class);
 
     private final String searchType; // "category" or "description"
     private final String searchTerm;
@@ -42,7 +43,7 @@ public class FindCommand extends Command {
         assert searchTerm != null && !searchTerm.isBlank() : "Search term must not be blank";
 
         LOGGER.log(Level.INFO, "Executing find command: type={0}, term={1}",
-                new Object[]{searchType, searchTerm});
+                searchType, searchTerm);
 
         List<Expense> foundExpenses;
 
@@ -58,4 +59,38 @@ public class FindCommand extends Command {
         ui.showFoundExpenses(foundExpenses, searchTerm, searchType);
         ui.showSeparator();
     }
+
+    //@@author aydrienlaw
+    /**
+     * Returns the indices of the expenses this search matches, for commands that change
+     * every match.
+     *
+     * @param expenseManager the model to search
+     * @return the 1-based indices of the matches, possibly none
+     */
+    BitSet findIndices(ExpenseManager expenseManager) {
+        return searchType.equals("category")
+                ? expenseManager.findIndicesByCategory(searchTerm)
+                : expenseManager.findIndicesByDescription(searchTerm);
+    }
+
+    /**
+     * Tells the user that this search matched nothing.
+     *
+     * @param ui the UI used to show output to the user
+     */
+    void showNoMatches(Ui ui) {
+        ui.showFoundExpenses(List.of(), searchTerm, searchType);
+    }
+
+    //@@author muadzyamani
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false} since searching never changes the expense list
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -1,16 +1,15 @@
 //@@author gumingyoujia
 package seedu.orcashbuddy.command;
 
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
-import java.util.logging.Logger;
-
 /**
  * Command to display help information / usage menu.
  */
 public class HelpCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(HelpCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(HelpCommand.class);
 
     /**
      * Shows the available commands and their formats.
@@ -26,4 +25,14 @@ public class HelpCommand extends Command {
         LOGGER.info("Help menu displayed successfully");
         ui.showSeparator();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false}; the help menu does not touch any data
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -0,0 +1,90 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
+import seedu.orcashbuddy.parser.CsvExpenseReader;
+import seedu.orcashbuddy.storage.BudgetStatus;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Command to add every valid row of a CSV file as an expense.
+ * <p>
+ * Rows are read and validated a chunk at a time by {@link CsvExpenseReader}, and each chunk
+ * is added with {@link ExpenseManager#addExpenses(List)}. Invalid rows are reported and skipped.
+ */
+public class ImportCommand extends Command {
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(ImportCommand.class);
+    /** Most rejected rows whose reasons are shown; the rest are only counted. */
+    private static final int MAX_LISTED_REJECTS = 10;
+
+    private final String fileName;
+
+    /**
+     * Constructs an {@code ImportCommand} for the given CSV file.
+     *
+     * @param fileName the path of the CSV file to import
+     */
+    public ImportCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Imports the file and shows how many rows were added and why any were rejected.
+     * If a read error stops the import after some rows were added, the error is shown and
+     * those rows are kept, so that they are saved like any other change.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @param ui the UI used to show output to the user
+     * @throws OrCashBuddyException if the file cannot be opened, or a read error occurs before
+     *                              any row is added
+     */
+    @Override
+    public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+        assert fileName != null && !fileName.isBlank() : "File name must not be blank";
+
+        int importedCount = 0;
+        int rejectedCount = 0;
+        List<String> listedRejects = new ArrayList<>();
+        try (CsvExpenseReader reader = CsvExpenseReader.open(Paths.get(fileName))) {
+            List<String> rejects = new ArrayList<>();
+            List<Expense> chunk;
+            while ((chunk = reader.readChunk(rejects)) != null) {
+                if (!chunk.isEmpty()) {
+                    expenseManager.addExpenses(chunk);
+                }
+                importedCount += chunk.size();
+                rejectedCount += rejects.size();
+                for (int i = 0; i < rejects.size() && listedRejects.size() < MAX_LISTED_REJECTS; i++) {
+                    listedRejects.add(rejects.get(i));
+                }
+                rejects.clear();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Import stopped by a read error", e);
+            if (importedCount == 0) {
+                throw OrCashBuddyException.unreadableFile(fileName, e);
+            }
+            // Returning normally lets the caller save the rows already added
+            ui.showError(OrCashBuddyException.unreadableFile(fileName, e).getMessage());
+        }
+
+        LOGGER.log(Level.INFO, "Imported {0} expenses from {1}, rejected {2} rows",
+                importedCount, fileName, rejectedCount);
+        ui.showSeparator();
+        ui.showImportResult(fileName, importedCount, rejectedCount, listedRejects);
+        BudgetStatus status = expenseManager.determineBudgetStatus();
+        if (status != BudgetStatus.OK) {
+            ui.showBudgetStatus(status, expenseManager.getRemainingBalanceCents());
+        }
+        ui.showSeparator();
+    }
+}
@@ -0,0 +1,81 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The 1-based indices and index ranges chosen by a bulk {@code delete}, {@code mark} or
+ * {@code unmark}, such as {@code 3 7 10-200}.
+ * <p>
+ * Ranges are kept as their two ends until the command runs, so a range like
+ * {@code 1-2147483647} costs nothing to parse. {@link #toBitSet(int)} checks every index
+ * against the list size before expanding the ranges into a {@link BitSet}.
+ */
+public final class IndexSelection {
+    /** First and last index of each range, in the order typed; a single index is a range of one. */
+    private final int[] bounds;
+    private final int lowestIndex;
+    private final int highestIndex;
+
+    /**
+     * Constructs a selection of the given ranges.
+     *
+     * @param bounds the first and last index of each range, in pairs, with each first index
+     *               at least 1 and no greater than its last
+     */
+    public IndexSelection(int[] bounds) {
+        assert bounds.length > 0 && bounds.length % 2 == 0 : "Bounds must come in pairs";
+        this.bounds = Arrays.copyOf(bounds, bounds.length);
+        int lowest = Integer.MAX_VALUE;
+        int highest = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            assert 1 <= bounds[i] && bounds[i] <= bounds[i + 1] : "Range must run from low to high";
+            lowest = Math.min(lowest, bounds[i]);
+            highest = Math.max(highest, bounds[i + 1]);
+        }
+        this.lowestIndex = lowest;
+        this.highestIndex = highest;
+    }
+
+    /**
+     * Returns the lowest index selected.
+     *
+     * @return the lowest 1-based index
+     */
+    public int getLowestIndex() {
+        return lowestIndex;
+    }
+
+    /**
+     * Returns whether the selection is one index, however many times it was typed.
+     *
+     * @return {@code true} if exactly one index is selected
+     */
+    public boolean isSingleIndex() {
+        return lowestIndex == highestIndex;
+    }
+
+    /**
+     * Returns the selected indices, each once, after checking that none is past the end of
+     * the list.
+     *
+     * @param maxIndex the highest valid index (the size of the expense list)
+     * @return the 1-based indices selected
+     * @throws OrCashBuddyException if any index is greater than {@code maxIndex}
+     */
+    public BitSet toBitSet(int maxIndex) throws OrCashBuddyException {
+        if (highestIndex > maxIndex) {
+            throw OrCashBuddyException.expenseIndexOutOfRange(highestIndex, maxIndex);
+        }
+        BitSet indices = new BitSet(highestIndex + 1);
+        for (int i = 0; i < bounds.length; i += 2) {
+            // The last index is set on its own, as last + 1 could overflow
+            indices.set(bounds[i], bounds[i + 1]);
+            indices.set(bounds[i + 1]);
+        }
+        return indices;
+    }
+}
@@ -64,6 +64,10 @@ public class InvalidCommand extends Command {
             ui.showDeleteUsage();
         } else if (errorMessage.contains("'edit'")){
             ui.showEditUsage();
+        } else if (errorMessage.contains("'import'")) {
+            ui.showImportUsage();
+        } else if (errorMessage.contains("'export'")) {
+            ui.showExportUsage();
         } else if (errorMessage.contains("budget") || errorMessage.contains("Budget")) {
             ui.showSetBudgetUsage();
         } else if (errorMessage.contains("find") || errorMessage.contains("search criteria")) {
@@ -73,7 +77,17 @@ public class InvalidCommand extends Command {
         } else if (errorMessage.contains("'unmark'")) {
             ui.showUnmarkUsage();
         } else {
-            System.out.println(errorMessage);
+            ui.showMessage(errorMessage);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false} because nothing was executed
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
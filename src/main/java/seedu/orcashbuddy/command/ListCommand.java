@@ -2,17 +2,17 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
 import java.util.List;
-import java.util.logging.Logger;
 
 /**
  * Command to list all expenses along with summary statistics.
  */
 public class ListCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(ListCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(ListCommand.class);
 
     /**
      * Displays the current financial summary:
@@ -30,11 +30,21 @@ public class ListCommand extends Command {
     public void execute(ExpenseManager expenseManager, Ui ui) {
         LOGGER.fine("Executing list command");
         ui.showSeparator();
-        double budget = expenseManager.getBudget();
-        double totalExpenses = expenseManager.getTotalExpenses();
-        double remainingBalance = expenseManager.getRemainingBalance();
+        long budget = expenseManager.getBudgetCents();
+        long totalExpenses = expenseManager.getTotalExpensesCents();
+        long remainingBalance = expenseManager.getRemainingBalanceCents();
         List<Expense> expenses = expenseManager.getExpenses();
         ui.showFinancialSummary(budget, totalExpenses, remainingBalance, expenses);
         ui.showSeparator();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false} since listing only reads the expenses and budget
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
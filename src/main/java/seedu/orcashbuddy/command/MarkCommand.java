@@ -3,20 +3,27 @@ package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.BudgetStatus;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
+import java.util.BitSet;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Command to mark an expense as paid.
  */
 public class MarkCommand extends Command {
-    private static final Logger LOGGER = Logger.getLogger(MarkCommand.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(MarkCommand.class);
     private final int index;
+    //@@author aydrienlaw
+    /** Indices to mark together, or {@code null} to mark only {@link #index} or the matches of {@link #query}. */
+    private final IndexSelection indices;
+    /** Search whose matches are all marked, or {@code null}. */
+    private final FindCommand query;
 
+    //@@author muadzyamani
     /**
      * Constructs a {@code MarkCommand} with the specified expense index.
      *
@@ -24,8 +31,34 @@ public class MarkCommand extends Command {
      */
     public MarkCommand(int index) {
         this.index = index;
+        this.indices = null;
+        this.query = null;
     }
 
+    //@@author aydrienlaw
+    /**
+     * Constructs a {@code MarkCommand} that marks the expenses at all the given indices at once.
+     *
+     * @param indices the 1-based indices of the expenses to mark
+     */
+    public MarkCommand(IndexSelection indices) {
+        this.index = indices.getLowestIndex();
+        this.indices = indices;
+        this.query = null;
+    }
+
+    /**
+     * Constructs a {@code MarkCommand} that marks every expense {@code query} finds.
+     *
+     * @param query the search selecting the expenses to mark
+     */
+    public MarkCommand(FindCommand query) {
+        this.index = 1;
+        this.indices = null;
+        this.query = query;
+    }
+
+    //@@author muadzyamani
     /**
      * Marks the specified expense as paid, updates budget tracking,
      * and shows the marked expense plus any budget alerts.
@@ -38,17 +71,51 @@ public class MarkCommand extends Command {
     public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
         assert index >= 1 : "Index must be at least 1";
 
+        //@@author aydrienlaw
+        if (indices != null || query != null) {
+            executeBulk(expenseManager, ui);
+            return;
+        }
+
+        //@@author muadzyamani
         Expense expense = expenseManager.markExpense(index);
 
         LOGGER.log(Level.INFO, "Marked expense at index {0}: {1}",
-                new Object[]{index, expense.getDescription()});
+                index, expense.getDescription());
 
         ui.showSeparator();
         ui.showMarkedExpense(expense);
         BudgetStatus status = expenseManager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = expenseManager.getRemainingBalance();
-            ui.showBudgetStatus(status, remainingBalance);
+            long remainingBalanceCents = expenseManager.getRemainingBalanceCents();
+            ui.showBudgetStatus(status, remainingBalanceCents);
+        }
+        ui.showSeparator();
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Marks every selected expense in one batch and shows how many changed.
+     */
+    private void executeBulk(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+        BitSet targets = (indices != null)
+                ? indices.toBitSet(expenseManager.getSize())
+                : query.findIndices(expenseManager);
+        ui.showSeparator();
+        if (targets.isEmpty()) {
+            query.showNoMatches(ui);
+            ui.showSeparator();
+            return;
+        }
+
+        int changedCount = expenseManager.markExpenses(targets);
+        LOGGER.log(Level.INFO, "Marked {0} of {1} selected expenses",
+                changedCount, targets.cardinality());
+
+        ui.showMarkedExpenses(targets.cardinality(), changedCount);
+        BudgetStatus status = expenseManager.determineBudgetStatus();
+        if (status != BudgetStatus.OK) {
+            ui.showBudgetStatus(status, expenseManager.getRemainingBalanceCents());
         }
         ui.showSeparator();
     }
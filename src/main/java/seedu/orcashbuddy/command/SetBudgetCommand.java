@@ -8,24 +8,24 @@ import seedu.orcashbuddy.ui.Ui;
  * Command to set the budget amount.
  */
 public class SetBudgetCommand extends Command {
-    private final double budget;
+    private final long budgetCents;
 
     /**
      * Constructs a {@code SetBudgetCommand} with the specified budget amount.
      *
-     * @param budget the budget amount to set
+     * @param budgetCents the budget amount to set, in cents
      */
-    public SetBudgetCommand(double budget) {
-        this.budget = budget;
+    public SetBudgetCommand(long budgetCents) {
+        this.budgetCents = budgetCents;
     }
 
     @Override
     public void execute(ExpenseManager expenseManager, Ui ui) {
-        assert budget > 0.0 : "Budget must be positive";
+        assert budgetCents > 0 : "Budget must be positive";
 
         ui.showSeparator();
-        expenseManager.setBudget(budget);
-        ui.showNewBudget(budget);
+        expenseManager.setBudget(budgetCents);
+        ui.showNewBudget(budgetCents);
         ui.showSeparator();
     }
 }
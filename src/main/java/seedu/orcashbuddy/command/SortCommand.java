@@ -2,21 +2,55 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 import seedu.orcashbuddy.expense.Expense;
 import java.util.List;
-import java.util.logging.Logger;
 
 /**
- * Represents a command to sort all expenses in descending order of amount.
+ * Represents a command to sort all expenses in descending order of amount,
+ * or to show one page of that order.
  */
 public class SortCommand extends Command{
 
-    private static final Logger LOGGER = Logger.getLogger(SortCommand.class.getName());
+    //@@author aydrienlaw
+    /** Number of expenses per page when {@code page/} is given without {@code top/}. */
+    public static final int DEFAULT_PAGE_SIZE = 10;
+
+    //@@author saheer17
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(SortCommand.class);
+
+    //@@author aydrienlaw
+    /** Expenses per page, or {@code null} to show every expense. */
+    private final Integer pageSize;
+    private final int page;
 
     /**
-     * Sorts all expenses by amount (highest first) and displays the sorted list.
+     * Creates a command that sorts and shows every expense.
+     */
+    public SortCommand() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a command that shows one page of the sorted expenses.
+     *
+     * @param count the number of expenses per page, or {@code null} for {@link #DEFAULT_PAGE_SIZE}
+     *              when {@code page} is given and for every expense otherwise
+     * @param page  the 1-based page to show, or {@code null} for the first
+     */
+    public SortCommand(Integer count, Integer page) {
+        assert count == null || count > 0 : "Count must be positive";
+        assert page == null || page > 0 : "Page must be positive";
+        this.pageSize = (count == null && page != null) ? Integer.valueOf(DEFAULT_PAGE_SIZE) : count;
+        this.page = (page == null) ? 1 : page;
+    }
+
+    //@@author saheer17
+    /**
+     * Sorts all expenses by amount (highest first) and displays the sorted list, or only
+     * the requested page of it.
      * If there are no expenses, shows the appropriate empty state message.
      *
      * @param expenseManager the expense manager containing all expenses
@@ -33,6 +67,10 @@ public class SortCommand extends Command{
         if (expenseManager.getSize() == 0) {
             LOGGER.info("Cannot sort expenses - list is empty");
             ui.showEmptyExpenseList();  // prints "No expenses added so far."
+        } else if (pageSize != null) {
+            int offset = (int) Math.min((long) (page - 1) * pageSize, Integer.MAX_VALUE);
+            List<Expense> pageExpenses = expenseManager.sortExpenses(offset, pageSize);
+            ui.showSortedExpensePage(pageExpenses, offset + 1, expenseManager.getSize());
         } else {
             List<Expense> sortedExpenses = expenseManager.sortExpenses();
             assert sortedExpenses != null : "Sorted expenses should not be null";
@@ -43,4 +81,14 @@ public class SortCommand extends Command{
         LOGGER.info("SortCommand execution completed");
         ui.showSeparator();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false} since sorting works on a separate copy of the list
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -0,0 +1,51 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+/**
+ * Command to show how long each command has taken to parse, execute and save since
+ * start-up, and how often it failed.
+ */
+public class StatsCommand extends Command {
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(StatsCommand.class);
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Constructs a {@code StatsCommand} that shows the given metrics.
+     *
+     * @param metrics the metrics recorded by the command loop
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        assert metrics != null : "Metrics must not be null";
+        this.metrics = metrics;
+    }
+
+    /**
+     * Shows the latency percentiles and error count of every command word run so far.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state (unused)
+     * @param ui the UI used to show output to the user
+     */
+    @Override
+    public void execute(ExpenseManager expenseManager, Ui ui) {
+        LOGGER.fine("Executing stats command");
+        ui.showSeparator();
+        ui.showCommandStats(metrics.getCommandStats(), metrics.getBackgroundWrites());
+        ui.showSeparator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false}; statistics are not part of the saved data
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.orcashbuddy.exception;
 
+import seedu.orcashbuddy.expense.Money;
+
 /**
  * Custom exception class for orCASHbuddy application-specific errors.
  * Provides factory methods for creating common exception types with appropriate messages.
@@ -53,7 +55,7 @@ public class OrCashBuddyException extends Exception {
      * @return OrCashBuddyException for invalid amount
      */
     public static OrCashBuddyException invalidAmount(String amountStr) {
-        return new OrCashBuddyException("Amount is not a valid decimal: " + amountStr);
+        return new OrCashBuddyException("Amount must be a number with at most 2 decimal places: " + amountStr);
     }
 
     /**
@@ -64,7 +66,8 @@ public class OrCashBuddyException extends Exception {
      * @return OrCashBuddyException for invalid amount
      */
     public static OrCashBuddyException invalidAmount(String amountStr, Throwable cause) {
-        return new OrCashBuddyException("Amount is not a valid decimal: " + amountStr, cause);
+        return new OrCashBuddyException("Amount must be a number with at most 2 decimal places: " + amountStr,
+                cause);
     }
 
     /**
@@ -77,6 +80,16 @@ public class OrCashBuddyException extends Exception {
         return new OrCashBuddyException("Amount must be greater than 0: " + amountStr);
     }
 
+    /**
+     * Creates an exception for amounts above the supported maximum.
+     *
+     * @param amountStr the invalid amount string
+     * @return OrCashBuddyException for an amount that is too large
+     */
+    public static OrCashBuddyException amountTooLarge(String amountStr) {
+        return new OrCashBuddyException("Amount must not exceed $" + Money.format(Money.MAX_CENTS) + ": " + amountStr);
+    }
+
     // ========== Description-Related Exceptions ==========
 
     /**
@@ -178,6 +191,40 @@ public class OrCashBuddyException extends Exception {
     }
 
     //@@author aydrienlaw
+    /**
+     * Creates an exception for an index range whose first index is after its last.
+     *
+     * @param range the range as typed, e.g. {@code 9-3}
+     * @return OrCashBuddyException for an invalid index range
+     */
+    public static OrCashBuddyException invalidIndexRange(String range) {
+        return new OrCashBuddyException("Index range must not end before it starts: " + range);
+    }
+
+    // ========== Sort-Related Exceptions ==========
+
+    /**
+     * Creates an exception for an unrecognised option after {@code sort}.
+     *
+     * @param option the unrecognised option
+     * @return OrCashBuddyException for an invalid sort option
+     */
+    public static OrCashBuddyException invalidSortOption(String option) {
+        return new OrCashBuddyException("Unknown option for 'sort': " + option
+                + ". Use sort [top/COUNT] [page/PAGE]");
+    }
+
+    /**
+     * Creates an exception for a sort option whose value is not a positive integer.
+     *
+     * @param prefix the option's prefix, such as {@code top/}
+     * @param value  the invalid value
+     * @return OrCashBuddyException for an invalid sort option value
+     */
+    public static OrCashBuddyException invalidSortNumber(String prefix, String value) {
+        return new OrCashBuddyException("Value after '" + prefix + "' must be a positive integer: " + value);
+    }
+
     // ========== Budget-Related Exceptions ==========
 
     /**
@@ -199,4 +246,81 @@ public class OrCashBuddyException extends Exception {
     public static OrCashBuddyException emptyExpenseList() {
         return new OrCashBuddyException("No expenses available. Add some expenses first.");
     }
+
+    //@@author aydrienlaw
+    // ========== File-Related Exceptions ==========
+
+    /**
+     * Creates an exception for a command missing its file name.
+     *
+     * @param commandName the command missing the file name
+     * @return OrCashBuddyException for a missing file name
+     */
+    public static OrCashBuddyException missingFileName(String commandName) {
+        return new OrCashBuddyException("Missing file name for '" + commandName + "' command");
+    }
+
+    /**
+     * Creates an exception for a file that could not be read.
+     *
+     * @param fileName the file as given by the user
+     * @param cause    the underlying I/O exception
+     * @return OrCashBuddyException for an unreadable file
+     */
+    public static OrCashBuddyException unreadableFile(String fileName, Throwable cause) {
+        return new OrCashBuddyException("Unable to read file: " + fileName, cause);
+    }
+
+    /**
+     * Creates an exception for a file that could not be written.
+     *
+     * @param fileName the file as given by the user
+     * @param cause    the underlying I/O exception
+     * @return OrCashBuddyException for an unwritable file
+     */
+    public static OrCashBuddyException unwritableFile(String fileName, Throwable cause) {
+        return new OrCashBuddyException("Unable to write file: " + fileName, cause);
+    }
+
+    // ========== CSV-Related Exceptions ==========
+
+    /**
+     * Creates an exception for a CSV row with the wrong number of fields.
+     *
+     * @param fieldCount the number of fields found
+     * @return OrCashBuddyException for a malformed row
+     */
+    public static OrCashBuddyException invalidCsvFieldCount(int fieldCount) {
+        return new OrCashBuddyException("Expected AMOUNT,DESCRIPTION[,CATEGORY[,MARKED]] but found "
+                + fieldCount + " field(s)");
+    }
+
+    /**
+     * Creates an exception for an empty required CSV field.
+     *
+     * @param field the name of the field, such as {@code AMOUNT}
+     * @return OrCashBuddyException for an empty field
+     */
+    public static OrCashBuddyException emptyCsvField(String field) {
+        return new OrCashBuddyException(field + " is missing");
+    }
+
+    /**
+     * Creates an exception for a quoted CSV field without its closing quote.
+     *
+     * @return OrCashBuddyException for an unterminated quote
+     */
+    public static OrCashBuddyException unterminatedCsvQuote() {
+        return new OrCashBuddyException("Quoted field is not closed");
+    }
+
+    /**
+     * Creates an exception for a MARKED field that is not a recognised flag.
+     *
+     * @param value the invalid value
+     * @return OrCashBuddyException for an invalid marked flag
+     */
+    public static OrCashBuddyException invalidMarkedFlag(String value) {
+        return new OrCashBuddyException("MARKED must be true or false: " + value);
+    }
 }
@@ -1,13 +1,19 @@
 package seedu.orcashbuddy.expense;
+import seedu.orcashbuddy.storage.CategoryDictionary;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 
 /**
  * Represents an immutable expense entry consisting of:
  * <ul>
- *     <li>amount — how much was spent</li>
+ *     <li>amount — how much was spent, in cents (see {@link Money})</li>
  *     <li>description — what it was for</li>
- *     <li>category — user-defined grouping</li>
+ *     <li>category — user-defined grouping, stored as an id into the {@link CategoryDictionary}</li>
  *     <li>isMarked — whether it's marked/paid</li>
  * </ul>
  */
@@ -15,34 +21,57 @@ public class Expense implements Serializable{
     public static final String DEFAULT_CATEGORY = "Uncategorized";
     @Serial
     private static final long serialVersionUID = 1L;
-    private final double amount;
-    private final String description;
-    private final String category;
+    //@@author aydrienlaw
+    /** Fields of the legacy serialized form, which stored the amount in dollars as a double. */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("amount", double.class),
+        new ObjectStreamField("description", String.class),
+        new ObjectStreamField("category", String.class),
+        new ObjectStreamField("isMarked", boolean.class),
+    };
+
+    // Not final only so that readObject can restore them
+    private long amountCents;
+    private String description;
+    private int categoryId;
     private boolean isMarked;
 
     /**
      * Creates a new {@code Expense}.
      *
-     * @param amount the monetary amount of the expense
+     * @param amountCents the monetary amount of the expense, in cents
      * @param description human-readable description
      * @param category the category label (e.g. "Food", "Transport")
      */
-    public Expense(double amount, String description, String category) {
-        this.amount = amount;
+    public Expense(long amountCents, String description, String category) {
+        this.amountCents = amountCents;
         this.description = description;
-        this.category = category;
+        this.categoryId = CategoryDictionary.getInstance().intern(category);
         this.isMarked = false;
     }
 
     /**
-     * Returns the amount of this expense.
+     * Returns the amount of this expense in cents.
      *
-     * @return the expense amount
+     * @return the expense amount in cents
+     */
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    /**
+     * Returns the amount of this expense in dollars. Totals should be computed from
+     * {@link #getAmountCents()} instead, which is exact.
+     *
+     * @return the expense amount in dollars
      */
     public double getAmount() {
-        return amount;
+        return Money.toDollars(amountCents);
     }
 
+    //@@author
+
     /**
      * Returns the description of this expense.
      *
@@ -58,9 +87,21 @@ public class Expense implements Serializable{
      * @return the category label
      */
     public String getCategory() {
-        return category;
+        return CategoryDictionary.getInstance().getName(categoryId);
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Returns the id of this expense's category in the {@link CategoryDictionary}.
+     *
+     * @return the category id
+     */
+    public int getCategoryId() {
+        return categoryId;
     }
 
+    //@@author
+
     /**
      * Returns whether this expense is marked/paid.
      *
@@ -95,8 +136,39 @@ public class Expense implements Serializable{
      * @return formatted string for list display
      */
     public String formatForDisplay() {
-        String statusIcon = isMarked ? "[X]" : "[ ]";
-        return statusIcon + " [" + category + "] " + description + " - $"
-                + String.format("%.2f", amount);
+        return appendForDisplay(new StringBuilder(description.length() + 48)).toString();
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Appends the {@link #formatForDisplay()} form of this expense to {@code sb}, so that a
+     * listing can build all its rows in one buffer.
+     *
+     * @param sb the builder to append to
+     * @return {@code sb}
+     */
+    public StringBuilder appendForDisplay(StringBuilder sb) {
+        sb.append(isMarked ? "[X] [" : "[ ] [").append(getCategory()).append("] ")
+                .append(description).append(" - $");
+        return Money.appendTo(sb, amountCents);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("amount", Money.toDollars(amountCents));
+        fields.put("description", description);
+        fields.put("category", getCategory());
+        fields.put("isMarked", isMarked);
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        amountCents = Money.fromDollars(fields.get("amount", 0.0));
+        description = (String) fields.get("description", null);
+        categoryId = CategoryDictionary.getInstance().intern((String) fields.get("category", null));
+        isMarked = fields.get("isMarked", false);
     }
 }
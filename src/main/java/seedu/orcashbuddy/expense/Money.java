@@ -0,0 +1,171 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.expense;
+
+/**
+ * Helpers for money amounts, which orCASHbuddy keeps as a whole number of cents in a
+ * {@code long}.
+ * <p>
+ * Cents are exact: adding and subtracting them never drifts the way repeated
+ * {@code double} arithmetic does, so totals stay correct however often expenses are
+ * marked and unmarked. Parsing and formatting work on the digits directly rather than
+ * going through {@code double} or {@code BigDecimal}.
+ */
+public final class Money {
+    /** Largest amount accepted from the user: one billion dollars. */
+    public static final long MAX_CENTS = 100_000_000_000L;
+
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int MAX_DECIMAL_PLACES = 2;
+    private static final long BASIS_POINTS_PER_WHOLE = 10_000;
+    /** Largest whole for which {@code 2 * part * BASIS_POINTS_PER_WHOLE} cannot overflow. */
+    private static final long MAX_EXACT_PERCENT_WHOLE = Long.MAX_VALUE / (2 * BASIS_POINTS_PER_WHOLE);
+
+    private Money() {
+    }
+
+    /**
+     * Parses a decimal amount such as {@code 12}, {@code 12.5} or {@code -0.05} into cents.
+     * An optional leading sign, digits, and at most two decimal places are accepted;
+     * exponents, {@code NaN}, {@code Infinity} and extra decimal places are not.
+     *
+     * @param text the amount to parse
+     * @return the amount in cents
+     * @throws NumberFormatException if {@code text} is not a valid amount or does not fit in a {@code long}
+     */
+    public static long parseCents(String text) {
+        if (text == null || text.isEmpty()) {
+            throw new NumberFormatException("Empty amount");
+        }
+
+        int i = 0;
+        boolean isNegative = false;
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            isNegative = first == '-';
+            i++;
+        }
+
+        long cents = 0;
+        int wholeDigits = 0;
+        for (; i < text.length() && text.charAt(i) != '.'; i++) {
+            cents = appendDigit(cents, text, i);
+            wholeDigits++;
+        }
+
+        int decimalPlaces = 0;
+        if (i < text.length()) {
+            i++; // skip '.'
+            for (; i < text.length(); i++) {
+                if (++decimalPlaces > MAX_DECIMAL_PLACES) {
+                    throw new NumberFormatException("More than two decimal places: " + text);
+                }
+                cents = appendDigit(cents, text, i);
+            }
+        }
+        if (wholeDigits == 0 && decimalPlaces == 0) {
+            throw new NumberFormatException("No digits: " + text);
+        }
+
+        for (; decimalPlaces < MAX_DECIMAL_PLACES; decimalPlaces++) {
+            cents = shiftDigit(cents, 0, text);
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    /**
+     * Converts a dollar amount stored as a {@code double} by older save formats to cents,
+     * rounding to the nearest cent.
+     *
+     * @param dollars the amount in dollars
+     * @return the amount in cents
+     */
+    public static long fromDollars(double dollars) {
+        return Math.round(dollars * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts cents to dollars, for display or interoperability only.
+     *
+     * @param cents the amount in cents
+     * @return the amount in dollars
+     */
+    public static double toDollars(long cents) {
+        return cents / (double) CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Formats cents as a plain decimal with two places, e.g. {@code 1234} as {@code 12.34}
+     * and {@code -5} as {@code -0.05}.
+     *
+     * @param cents the amount in cents
+     * @return the formatted amount, without a currency symbol
+     */
+    public static String format(long cents) {
+        StringBuilder sb = new StringBuilder(24);
+        appendTo(sb, cents);
+        return sb.toString();
+    }
+
+    /**
+     * Appends cents to {@code sb} in the same form as {@link #format(long)}.
+     *
+     * @param sb    the builder to append to
+     * @param cents the amount in cents
+     * @return {@code sb}
+     */
+    public static StringBuilder appendTo(StringBuilder sb, long cents) {
+        if (cents < 0) {
+            sb.append('-');
+        }
+        // Long.MIN_VALUE has no positive counterpart, so split before taking the absolute value
+        long dollars = Math.abs(cents / CENTS_PER_DOLLAR);
+        int remainder = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+        sb.append(dollars).append('.');
+        if (remainder < 10) {
+            sb.append('0');
+        }
+        return sb.append(remainder);
+    }
+
+    /**
+     * Appends {@code part} as a percentage of {@code whole} with two decimal places, e.g.
+     * {@code 35.00%}, rounding half up and clamping to between {@code 0.00%} and
+     * {@code 100.00%}. A positive part of a whole that is zero or less counts as
+     * {@code 100.00%}.
+     *
+     * @param sb    the builder to append to
+     * @param part  the amount used, in cents
+     * @param whole the amount available, in cents
+     * @return {@code sb}
+     */
+    public static StringBuilder appendPercentTo(StringBuilder sb, long part, long whole) {
+        long basisPoints;
+        if (part <= 0) {
+            basisPoints = 0;
+        } else if (part >= whole) {
+            basisPoints = BASIS_POINTS_PER_WHOLE;
+        } else if (whole <= MAX_EXACT_PERCENT_WHOLE) {
+            basisPoints = (2 * part * BASIS_POINTS_PER_WHOLE + whole) / (2 * whole);
+        } else {
+            basisPoints = Math.round((double) part / whole * BASIS_POINTS_PER_WHOLE);
+        }
+        // A percentage with two decimal places has the same digits as an amount in cents
+        return appendTo(sb, basisPoints).append('%');
+    }
+
+    private static long appendDigit(long value, String text, int index) {
+        char c = text.charAt(index);
+        if (c < '0' || c > '9') {
+            throw new NumberFormatException("Invalid character '" + c + "' in amount: " + text);
+        }
+        return shiftDigit(value, c - '0', text);
+    }
+
+    private static long shiftDigit(long value, int digit, String text) {
+        try {
+            return Math.addExact(Math.multiplyExact(value, 10), digit);
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount too large: " + text);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.logging;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Wraps a {@link Logger} so that log calls on the command path allocate nothing while their
+ * level is disabled, which it is by default because {@code Main} turns the root logger off.
+ * <p>
+ * {@code Logger#log(Level, String, Object[])} needs its arguments boxed and copied into an
+ * array before it can check the level. The parameterized methods here take up to three
+ * arguments directly and only box them and build the array once the level is known to be
+ * enabled. There is an overload for every mix of {@code long} and {@code Object} arguments,
+ * so a call passing whole numbers and references picks one without boxing anything. Pass a
+ * {@code boolean} as {@code Boolean.valueOf(flag)}, which is cached. Messages that need more
+ * work than that should be passed as a {@link Supplier}, or built behind {@link #isLoggable}.
+ * <p>
+ * Patterns use the same {@code {0}}-style placeholders as {@code java.util.logging}, and
+ * records are logged with the calling class and method as their source.
+ */
+public final class OrCashBuddyLogger {
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final Logger logger;
+
+    private OrCashBuddyLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Returns a logger named after {@code type}, backed by the {@code java.util.logging} logger
+     * of the same name.
+     *
+     * @param type the class that logs
+     * @return the logger
+     */
+    public static OrCashBuddyLogger getLogger(Class<?> type) {
+        return new OrCashBuddyLogger(Logger.getLogger(type.getName()));
+    }
+
+    /**
+     * Returns whether a message at {@code level} would be logged.
+     *
+     * @param level the level to check
+     * @return {@code true} if {@code level} is enabled
+     */
+    public boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
+    /**
+     * Logs a fixed message at {@code level}.
+     *
+     * @param level   the level
+     * @param message the message
+     */
+    public void log(Level level, String message) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, message, null, null);
+        }
+    }
+
+    /**
+     * Logs a message at {@code level}, building it only if the level is enabled.
+     *
+     * @param level           the level
+     * @param messageSupplier builds the message
+     */
+    public void log(Level level, Supplier<String> messageSupplier) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, messageSupplier.get(), null, null);
+        }
+    }
+
+    /**
+     * Logs a message and the exception that caused it at {@code level}.
+     *
+     * @param level   the level
+     * @param message the message
+     * @param thrown  the exception
+     */
+    public void log(Level level, String message, Throwable thrown) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, message, null, thrown);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with one argument at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholder {@code {0}}
+     * @param arg     the argument
+     */
+    public void log(Level level, String pattern, Object arg) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with one argument at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholder {@code {0}}
+     * @param arg     the argument
+     */
+    public void log(Level level, String pattern, long arg) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with two arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} and {@code {1}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    public void log(Level level, String pattern, Object arg1, Object arg2) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with two arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} and {@code {1}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    public void log(Level level, String pattern, Object arg1, long arg2) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with two arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} and {@code {1}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    public void log(Level level, String pattern, long arg1, Object arg2) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with two arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} and {@code {1}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     */
+    public void log(Level level, String pattern, long arg1, long arg2) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, Object arg1, Object arg2, long arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, Object arg1, long arg2, Object arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, Object arg1, long arg2, long arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, long arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, long arg1, Object arg2, long arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, long arg1, long arg2, Object arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs {@code pattern} with three arguments at {@code level}.
+     *
+     * @param level   the level
+     * @param pattern the message, with placeholders {@code {0}} to {@code {2}}
+     * @param arg1    the first argument
+     * @param arg2    the second argument
+     * @param arg3    the third argument
+     */
+    public void log(Level level, String pattern, long arg1, long arg2, long arg3) {
+        if (logger.isLoggable(level)) {
+            logAtCaller(level, pattern, new Object[]{arg1, arg2, arg3}, null);
+        }
+    }
+
+    /**
+     * Logs a fixed message at {@link Level#INFO}.
+     *
+     * @param message the message
+     */
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Logs a message at {@link Level#INFO}, building it only if the level is enabled.
+     *
+     * @param messageSupplier builds the message
+     */
+    public void info(Supplier<String> messageSupplier) {
+        log(Level.INFO, messageSupplier);
+    }
+
+    /**
+     * Logs a fixed message at {@link Level#WARNING}.
+     *
+     * @param message the message
+     */
+    public void warning(String message) {
+        log(Level.WARNING, message);
+    }
+
+    /**
+     * Logs a fixed message at {@link Level#FINE}.
+     *
+     * @param message the message
+     */
+    public void fine(String message) {
+        log(Level.FINE, message);
+    }
+
+    /**
+     * Logs a message at {@link Level#FINE}, building it only if the level is enabled.
+     *
+     * @param messageSupplier builds the message
+     */
+    public void fine(Supplier<String> messageSupplier) {
+        log(Level.FINE, messageSupplier);
+    }
+
+    /**
+     * Logs a record whose source is the method that called this logger. Finding the caller
+     * walks the stack, so this is only reached once the level is known to be enabled.
+     */
+    private void logAtCaller(Level level, String message, Object[] params, Throwable thrown) {
+        StackWalker.StackFrame caller = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(OrCashBuddyLogger.class.getName()))
+                .findFirst()
+                .orElse(null));
+        String sourceClass = (caller == null) ? null : caller.getClassName();
+        String sourceMethod = (caller == null) ? null : caller.getMethodName();
+        if (thrown != null) {
+            logger.logp(level, sourceClass, sourceMethod, message, thrown);
+        } else if (params != null) {
+            logger.logp(level, sourceClass, sourceMethod, message, params);
+        } else {
+            logger.logp(level, sourceClass, sourceMethod, message);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by the Java Flight Recorder events for one phase of a command.
+ * Events are created and committed through {@link FlightEvents}.
+ */
+@Category({"orCASHbuddy", "Command"})
+@StackTrace(false)
+public abstract class CommandEvent extends Event {
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Ledger Size")
+    int ledgerSize;
+
+    @Label("Failed")
+    boolean isFailed;
+}
@@ -0,0 +1,15 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for running one command, including building its output.
+ */
+@Name("orcashbuddy.CommandExecute")
+@Label("Command Execute")
+@Description("Execution of one command, excluding saving")
+public class CommandExecuteEvent extends CommandEvent {
+}
@@ -0,0 +1,91 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how long each command word takes to parse, execute and save, and how often it
+ * fails, for the {@code stats} command.
+ * <p>
+ * Durations go into a {@link LatencyHistogram} per command word and phase, so memory use
+ * does not grow with the number of commands run. The registry is only used from the
+ * command thread and is not thread-safe, except for the background write times, which
+ * the background saver's writer thread records.
+ */
+public class CommandMetrics {
+    /**
+     * The parts of running a command that are timed separately.
+     */
+    public enum Phase {
+        /** Turning the input into a command. */
+        PARSE,
+        /** Running the command, including building its output. */
+        EXECUTE,
+        /**
+         * Saving the changes on the command thread: the whole write when saving synchronously,
+         * but only preparing and queueing the save when there is a background saver, whose
+         * writes are timed separately (see {@link #recordBackgroundWrite(long)}).
+         */
+        SAVE
+    }
+
+    private final Map<String, CommandStats> statsByCommandWord = new TreeMap<>();
+    /** Guarded by {@code this}, since the writer thread records into it. */
+    private final LatencyHistogram backgroundWrites = new LatencyHistogram();
+
+    /**
+     * Records how long one phase of a command took.
+     *
+     * @param commandWord the command word
+     * @param phase       the phase that was timed
+     * @param nanos       how long it took, in nanoseconds
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        statsFor(commandWord).record(phase, nanos);
+    }
+
+    /**
+     * Records that a command was rejected or failed.
+     *
+     * @param commandWord the command word
+     */
+    public void recordError(String commandWord) {
+        statsFor(commandWord).recordError();
+    }
+
+    /**
+     * Records how long the background saver took to write one batch of saves to disk,
+     * including forcing it to the device. May be called from any thread.
+     *
+     * @param nanos how long the write took, in nanoseconds
+     */
+    public synchronized void recordBackgroundWrite(long nanos) {
+        backgroundWrites.record(nanos);
+    }
+
+    /**
+     * Returns the background write times recorded so far. May be called from any thread.
+     *
+     * @return a copy of the write times
+     */
+    public synchronized LatencyHistogram getBackgroundWrites() {
+        return backgroundWrites.copy();
+    }
+
+    /**
+     * Returns the statistics of every command word recorded so far.
+     *
+     * @return the statistics, in alphabetical order of command word
+     */
+    public List<CommandStats> getCommandStats() {
+        return new ArrayList<>(statsByCommandWord.values());
+    }
+
+    private CommandStats statsFor(String commandWord) {
+        assert commandWord != null : "Command word must not be null";
+        return statsByCommandWord.computeIfAbsent(commandWord, CommandStats::new);
+    }
+}
@@ -0,0 +1,15 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for turning one line of input into a command.
+ */
+@Name("orcashbuddy.CommandParse")
+@Label("Command Parse")
+@Description("Parsing of one line of input into a command")
+public class CommandParseEvent extends CommandEvent {
+}
@@ -0,0 +1,63 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+/**
+ * The latencies and error count recorded for one command word by {@link CommandMetrics}.
+ */
+public class CommandStats {
+    private final String commandWord;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[CommandMetrics.Phase.values().length];
+    private long errorCount;
+
+    CommandStats(String commandWord) {
+        this.commandWord = commandWord;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Returns the command word these statistics are for.
+     *
+     * @return the command word
+     */
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /**
+     * Returns how many times the command was entered, including the times it failed.
+     *
+     * @return the number of runs
+     */
+    public long getRunCount() {
+        return getHistogram(CommandMetrics.Phase.PARSE).getCount();
+    }
+
+    /**
+     * Returns how many times the command was rejected or failed.
+     *
+     * @return the number of errors
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns the durations recorded for one phase of the command.
+     *
+     * @param phase the phase
+     * @return the histogram of its durations, empty if the phase never ran
+     */
+    public LatencyHistogram getHistogram(CommandMetrics.Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    void record(CommandMetrics.Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    void recordError() {
+        errorCount++;
+    }
+}
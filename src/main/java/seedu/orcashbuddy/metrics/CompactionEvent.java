@@ -0,0 +1,26 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for compacting the expense list once deletions have left it
+ * mostly tombstones, including remapping the built indexes onto the new slots.
+ */
+@Name("orcashbuddy.Compaction")
+@Label("Compaction")
+@Description("Dropping of deleted expenses from the expense list and remapping of its indexes")
+@Category({"orCASHbuddy", "Index"})
+@StackTrace(false)
+public class CompactionEvent extends Event {
+    @Label("Expense Count")
+    int expenseCount;
+
+    @Label("Removed Count")
+    int removedCount;
+}
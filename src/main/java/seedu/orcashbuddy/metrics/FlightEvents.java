@@ -0,0 +1,176 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Creates and commits the orCASHbuddy Java Flight Recorder events.
+ * <p>
+ * Creating the first event loads and instruments the JFR event classes, which adds a few
+ * hundred milliseconds to start-up. Events are therefore only created once Flight Recorder
+ * has been started in this JVM, by {@code -XX:StartFlightRecording} or later by
+ * {@code jcmd <pid> JFR.start}. Until then each {@code begin} method returns {@code null}
+ * after one static call, and every {@code commit} method accepts {@code null} and does nothing.
+ * Once recording has started, an event that is disabled or under its threshold is dropped by
+ * {@code shouldCommit()} before its fields are set.
+ */
+public final class FlightEvents {
+    private FlightEvents() {
+    }
+
+    private static boolean isRecorderStarted() {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Starts timing the parsing of one line of input.
+     *
+     * @return the begun event, or {@code null} if Flight Recorder has not been started
+     */
+    public static CommandEvent beginCommandParse() {
+        return isRecorderStarted() ? begin(new CommandParseEvent()) : null;
+    }
+
+    /**
+     * Starts timing the execution of one command.
+     *
+     * @return the begun event, or {@code null} if Flight Recorder has not been started
+     */
+    public static CommandEvent beginCommandExecute() {
+        return isRecorderStarted() ? begin(new CommandExecuteEvent()) : null;
+    }
+
+    /**
+     * Ends a command event and commits it if it is being recorded.
+     *
+     * @param event       the event from {@link #beginCommandParse()} or {@link #beginCommandExecute()}
+     * @param commandWord the command word, as given by {@code Parser#getCommandWord}
+     * @param ledgerSize  the number of expenses when the phase ended
+     * @param isFailed    whether the command was rejected or failed in this phase
+     */
+    public static void commitCommand(CommandEvent event, String commandWord, int ledgerSize, boolean isFailed) {
+        if (event == null || !end(event)) {
+            return;
+        }
+        event.commandWord = commandWord;
+        event.ledgerSize = ledgerSize;
+        event.isFailed = isFailed;
+        event.commit();
+    }
+
+    /**
+     * Starts timing the writing of one save.
+     *
+     * @return the begun event, or {@code null} if Flight Recorder has not been started
+     */
+    public static StorageSaveEvent beginStorageSave() {
+        return isRecorderStarted() ? begin(new StorageSaveEvent()) : null;
+    }
+
+    /**
+     * Ends a save event and commits it if it is being recorded.
+     *
+     * @param event         the event from {@link #beginStorageSave()}
+     * @param isSnapshot    whether a full snapshot was written
+     * @param snapshotBytes the size of the snapshot written, or 0
+     * @param journalBytes  the number of journal bytes appended
+     */
+    public static void commitStorageSave(StorageSaveEvent event, boolean isSnapshot, long snapshotBytes,
+            long journalBytes) {
+        if (event == null || !end(event)) {
+            return;
+        }
+        event.isSnapshot = isSnapshot;
+        event.snapshotBytes = snapshotBytes;
+        event.journalBytes = journalBytes;
+        event.commit();
+    }
+
+    /**
+     * Starts timing the loading of one snapshot.
+     *
+     * @return the begun event, or {@code null} if Flight Recorder has not been started
+     */
+    public static StorageLoadEvent beginStorageLoad() {
+        return isRecorderStarted() ? begin(new StorageLoadEvent()) : null;
+    }
+
+    /**
+     * Ends a load event and commits it if it is being recorded.
+     *
+     * @param event         the event from {@link #beginStorageLoad()}
+     * @param snapshotBytes the size of the snapshot read
+     * @param isMapped      whether the snapshot was memory-mapped
+     * @param expenseCount  the number of expenses loaded, after replaying the journal
+     */
+    public static void commitStorageLoad(StorageLoadEvent event, long snapshotBytes, boolean isMapped,
+            int expenseCount) {
+        if (event == null || !end(event)) {
+            return;
+        }
+        event.snapshotBytes = snapshotBytes;
+        event.isMapped = isMapped;
+        event.expenseCount = expenseCount;
+        event.commit();
+    }
+
+    /**
+     * Starts timing an index build.
+     *
+     * @return the begun event, or {@code null} if Flight Recorder has not been started
+     */
+    public static IndexBuildEvent beginIndexBuild() {
+        return isRecorderStarted() ? begin(new IndexBuildEvent()) : null;
+    }
+
+    /**
+     * Ends an index build event and commits it if it is being recorded.
+     *
+     * @param event        the event from {@link #beginIndexBuild()}
+     * @param index        the index built
+     * @param expenseCount the number of expenses indexed
+     */
+    public static void commitIndexBuild(IndexBuildEvent event, String index, int expenseCount) {
+        if (event == null || !end(event)) {
+            return;
+        }
+        event.index = index;
+        event.expenseCount = expenseCount;
+        event.commit();
+    }
+
+    /**
+     * Starts timing a compaction of the expense list.
+     *
+     * @return the begun event, or {@code null} if Flight Recorder has not been started
+     */
+    public static CompactionEvent beginCompaction() {
+        return isRecorderStarted() ? begin(new CompactionEvent()) : null;
+    }
+
+    /**
+     * Ends a compaction event and commits it if it is being recorded.
+     *
+     * @param event        the event from {@link #beginCompaction()}
+     * @param expenseCount the number of expenses left
+     * @param removedCount the number of deleted expenses dropped
+     */
+    public static void commitCompaction(CompactionEvent event, int expenseCount, int removedCount) {
+        if (event == null || !end(event)) {
+            return;
+        }
+        event.expenseCount = expenseCount;
+        event.removedCount = removedCount;
+        event.commit();
+    }
+
+    private static <T extends jdk.jfr.Event> T begin(T event) {
+        event.begin();
+        return event;
+    }
+
+    private static boolean end(jdk.jfr.Event event) {
+        event.end();
+        return event.shouldCommit();
+    }
+}
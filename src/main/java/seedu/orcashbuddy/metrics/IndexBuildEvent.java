@@ -0,0 +1,26 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for building a search or sort index over every expense.
+ */
+@Name("orcashbuddy.IndexBuild")
+@Label("Index Build")
+@Description("Building of an expense index from scratch")
+@Category({"orCASHbuddy", "Index"})
+@StackTrace(false)
+public class IndexBuildEvent extends Event {
+    /** Index built: {@code category}, {@code description} or {@code amount}. */
+    @Label("Index")
+    String index;
+
+    @Label("Expense Count")
+    int expenseCount;
+}
@@ -0,0 +1,31 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for loading one snapshot and replaying its journal.
+ */
+@Name("orcashbuddy.StorageLoad")
+@Label("Storage Load")
+@Description("Reading of a snapshot file and replay of its journal")
+@Category({"orCASHbuddy", "Storage"})
+@StackTrace(false)
+public class StorageLoadEvent extends Event {
+    @Label("Snapshot Size")
+    @DataAmount
+    long snapshotBytes;
+
+    /** Whether the snapshot was memory-mapped and decoded lazily. */
+    @Label("Mapped")
+    boolean isMapped;
+
+    @Label("Expense Count")
+    int expenseCount;
+}
@@ -0,0 +1,32 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for writing one save to disk, on whichever thread writes it.
+ */
+@Name("orcashbuddy.StorageSave")
+@Label("Storage Save")
+@Description("Writing of a snapshot and/or journal records, including forcing them to the device")
+@Category({"orCASHbuddy", "Storage"})
+@StackTrace(false)
+public class StorageSaveEvent extends Event {
+    /** Whether a full snapshot was written, rather than only journal records. */
+    @Label("Snapshot")
+    boolean isSnapshot;
+
+    @Label("Snapshot Size")
+    @DataAmount
+    long snapshotBytes;
+
+    @Label("Journal Bytes Appended")
+    @DataAmount
+    long journalBytes;
+}
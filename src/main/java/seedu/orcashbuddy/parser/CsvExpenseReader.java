@@ -0,0 +1,232 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.parser;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Streams expenses from a CSV file for the {@code import} command.
+ * <p>
+ * Each row is {@code AMOUNT,DESCRIPTION[,CATEGORY[,MARKED]]} and is checked with the same
+ * {@link InputValidator} rules as {@code add}. Fields may be wrapped in double quotes, with
+ * {@code ""} standing for a quote, so descriptions can contain commas. An optional header
+ * row starting with {@code amount} and blank lines are skipped.
+ * <p>
+ * The file is read {@link #CHUNK_SIZE} rows at a time and the rows of a chunk are validated
+ * in parallel, so the reader holds at most one chunk of rows. The expenses imported are all
+ * kept by the {@code ExpenseManager}, so the file must still fit in memory once parsed.
+ */
+public class CsvExpenseReader implements Closeable {
+    /** Rows read and validated together. */
+    static final int CHUNK_SIZE = 8192;
+
+    private static final String COMMAND_NAME = "import";
+    private static final String HEADER_FIRST_FIELD = "amount";
+    private static final int MIN_FIELDS = 2;
+    private static final int MAX_FIELDS = 4;
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private boolean isPastHeader;
+
+    /**
+     * Creates a reader over already opened CSV input.
+     *
+     * @param reader the CSV input, which this reader closes
+     */
+    public CsvExpenseReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Opens {@code file} as UTF-8 CSV.
+     *
+     * @param file the CSV file
+     * @return a reader positioned at the first row
+     * @throws IOException if the file cannot be opened
+     */
+    public static CsvExpenseReader open(Path file) throws IOException {
+        return new CsvExpenseReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads and validates the next chunk of rows.
+     * <p>
+     * Valid rows become expenses, in file order. Each invalid row adds one message of the
+     * form {@code Line N: reason} to {@code rejects} and does not stop the import.
+     *
+     * @param rejects the list to add a message for each rejected row to
+     * @return the expenses in the chunk, possibly none, or {@code null} at the end of the file
+     * @throws IOException if reading fails
+     */
+    public List<Expense> readChunk(List<String> rejects) throws IOException {
+        String[] rows = new String[CHUNK_SIZE];
+        int[] rowLineNumbers = new int[CHUNK_SIZE];
+        int rowCount = 0;
+        String line = null;
+        while (rowCount < CHUNK_SIZE && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || !isPastHeader && isHeader(line)) {
+                continue;
+            }
+            isPastHeader = true;
+            rows[rowCount] = line;
+            rowLineNumbers[rowCount] = lineNumber;
+            rowCount++;
+        }
+        if (rowCount == 0 && line == null) {
+            return null;
+        }
+
+        Expense[] parsed = new Expense[rowCount];
+        String[] errors = new String[rowCount];
+        IntStream.range(0, rowCount).parallel().forEach(i -> {
+            try {
+                parsed[i] = parseRow(rows[i]);
+            } catch (OrCashBuddyException e) {
+                errors[i] = "Line " + rowLineNumbers[i] + ": " + e.getMessage();
+            }
+        });
+
+        List<Expense> expenses = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            if (parsed[i] != null) {
+                expenses.add(parsed[i]);
+            } else {
+                rejects.add(errors[i]);
+            }
+        }
+        return expenses;
+    }
+
+    /**
+     * Closes the underlying input.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static boolean isHeader(String line) {
+        try {
+            return splitFields(line).get(0).trim().equalsIgnoreCase(HEADER_FIRST_FIELD);
+        } catch (OrCashBuddyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates one CSV row and creates its expense.
+     *
+     * @param row the row, without its line terminator
+     * @return the expense, marked if its MARKED field says so
+     * @throws OrCashBuddyException if the row is malformed or a field is invalid
+     */
+    static Expense parseRow(String row) throws OrCashBuddyException {
+        List<String> fields = splitFields(row);
+        if (fields.size() < MIN_FIELDS || fields.size() > MAX_FIELDS) {
+            throw OrCashBuddyException.invalidCsvFieldCount(fields.size());
+        }
+
+        String amount = fields.get(0).trim();
+        if (amount.isEmpty()) {
+            throw OrCashBuddyException.emptyCsvField("AMOUNT");
+        }
+        long amountCents = InputValidator.validateAmount(amount, COMMAND_NAME);
+        if (fields.get(1).isBlank()) {
+            throw OrCashBuddyException.emptyCsvField("DESCRIPTION");
+        }
+        String description = InputValidator.validateDescription(fields.get(1), COMMAND_NAME);
+        String category = (fields.size() > 2 && !fields.get(2).isBlank())
+                ? InputValidator.validateCategory(fields.get(2), COMMAND_NAME)
+                : Expense.DEFAULT_CATEGORY;
+        boolean isMarked = fields.size() > 3 && parseMarked(fields.get(3).trim());
+
+        Expense expense = new Expense(amountCents, description, category);
+        if (isMarked) {
+            expense.mark();
+        }
+        return expense;
+    }
+
+    /**
+     * Splits a CSV row into its fields, removing the quotes around quoted fields.
+     *
+     * @param row the row to split
+     * @return the fields, at least one
+     * @throws OrCashBuddyException if a quoted field is not closed
+     */
+    static List<String> splitFields(String row) throws OrCashBuddyException {
+        List<String> fields = new ArrayList<>(MAX_FIELDS);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            // Leading spaces before an opening quote are allowed, as spreadsheets write them
+            int start = i;
+            while (i < row.length() && row.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < row.length() && row.charAt(i) == '"') {
+                i = readQuoted(row, i + 1, field);
+                while (i < row.length() && row.charAt(i) != ',') {
+                    field.append(row.charAt(i++));
+                }
+            } else {
+                i = start;
+                while (i < row.length() && row.charAt(i) != ',') {
+                    field.append(row.charAt(i++));
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= row.length()) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    private static int readQuoted(String row, int from, StringBuilder field) throws OrCashBuddyException {
+        int i = from;
+        while (i < row.length()) {
+            char c = row.charAt(i++);
+            if (c != '"') {
+                field.append(c);
+            } else if (i < row.length() && row.charAt(i) == '"') {
+                field.append('"');
+                i++;
+            } else {
+                return i;
+            }
+        }
+        throw OrCashBuddyException.unterminatedCsvQuote();
+    }
+
+    private static boolean parseMarked(String value) throws OrCashBuddyException {
+        switch (value.toLowerCase()) {
+        case "":
+        case "false":
+        case "no":
+        case "0":
+            return false;
+        case "true":
+        case "yes":
+        case "1":
+            return true;
+        default:
+            throw OrCashBuddyException.invalidMarkedFlag(value);
+        }
+    }
+}
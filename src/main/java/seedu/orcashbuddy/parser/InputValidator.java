@@ -1,7 +1,9 @@
 package seedu.orcashbuddy.parser;
 
+import seedu.orcashbuddy.command.IndexSelection;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.expense.Money;
 
 /**
  * Provides static helpers to sanity-check raw argument values
@@ -9,10 +11,12 @@ import seedu.orcashbuddy.expense.Expense;
  * <p>
  * This class enforces constraints such as:
  * <ul>
- *     <li>Amount is a valid positive number</li>
+ *     <li>Amount is a valid positive number with at most two decimal places</li>
  *     <li>Description is non-empty</li>
  *     <li>Category is non-empty and alphanumeric (within limits)</li>
  *     <li>Index is a positive integer</li>
+ *     <li>Index ranges run from a lower to a higher index</li>
+ *     <li>Sort counts and page numbers are positive integers</li>
  * </ul>
  *
  * The methods here throw {@link OrCashBuddyException} with user-friendly
@@ -26,26 +30,30 @@ public class InputValidator {
      *
      * @param amountStr raw string after {@code a/}
      * @param commandName the command being validated (used in error messages)
-     * @return the parsed amount as a double
-     * @throws OrCashBuddyException if the amount is missing, non-numeric, or not positive
+     * @return the parsed amount in cents
+     * @throws OrCashBuddyException if the amount is missing, non-numeric, has more than two
+     *                              decimal places, is not positive, or is too large
      */
-    public static double validateAmount(String amountStr, String commandName) throws OrCashBuddyException {
+    public static long validateAmount(String amountStr, String commandName) throws OrCashBuddyException {
         if (amountStr == null || amountStr.isEmpty()) {
             throw OrCashBuddyException.emptyAmount(commandName);
         }
 
-        double amount;
+        long amountCents;
         try {
-            amount = Double.parseDouble(amountStr);
+            amountCents = Money.parseCents(amountStr);
         } catch (NumberFormatException e) {
             throw OrCashBuddyException.invalidAmount(amountStr, e);
         }
 
-        if (amount <= 0) {
+        if (amountCents <= 0) {
             throw OrCashBuddyException.amountNotPositive(amountStr);
         }
+        if (amountCents > Money.MAX_CENTS) {
+            throw OrCashBuddyException.amountTooLarge(amountStr);
+        }
 
-        return amount;
+        return amountCents;
     }
 
     /**
@@ -116,4 +124,64 @@ public class InputValidator {
             throw OrCashBuddyException.invalidExpenseIndex(e);
         }
     }
+
+    //@@author aydrienlaw
+    /**
+     * Validates a whitespace-separated list of indices and index ranges, such as
+     * {@code 3 7 10-200}, used by commands that act on several expenses at once.
+     *
+     * @param input the raw list
+     * @param commandName the command being validated
+     * @return the 1-based indices and ranges selected, checked against the list size only
+     *         when the command runs
+     * @throws OrCashBuddyException if the list is missing, an index is invalid,
+     *                              or a range ends before it starts
+     */
+    public static IndexSelection validateIndices(String input, String commandName) throws OrCashBuddyException {
+        if (input == null || input.isBlank()) {
+            throw OrCashBuddyException.missingExpenseIndex(commandName);
+        }
+
+        String[] tokens = input.trim().split("\\s+");
+        int[] bounds = new int[tokens.length * 2];
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            // Searching from 1 leaves a leading minus sign to validateIndex
+            int dash = token.indexOf('-', 1);
+            if (dash < 0) {
+                int index = validateIndex(token, commandName);
+                bounds[2 * i] = index;
+                bounds[2 * i + 1] = index;
+                continue;
+            }
+            int first = validateIndex(token.substring(0, dash), commandName);
+            int last = validateIndex(token.substring(dash + 1), commandName);
+            if (last < first) {
+                throw OrCashBuddyException.invalidIndexRange(token);
+            }
+            bounds[2 * i] = first;
+            bounds[2 * i + 1] = last;
+        }
+        return new IndexSelection(bounds);
+    }
+
+    /**
+     * Validates the value of a {@code sort} option such as {@code top/} or {@code page/}.
+     *
+     * @param value  the raw value after the prefix
+     * @param prefix the option's prefix (used in error messages)
+     * @return the parsed value
+     * @throws OrCashBuddyException if the value is missing, not an integer, or &lt; 1
+     */
+    public static int validateSortNumber(String value, String prefix) throws OrCashBuddyException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number < 1) {
+                throw OrCashBuddyException.invalidSortNumber(prefix, value);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw OrCashBuddyException.invalidSortNumber(prefix, value);
+        }
+    }
 }
@@ -13,10 +13,18 @@ import seedu.orcashbuddy.command.InvalidCommand;
 import seedu.orcashbuddy.command.SortCommand;
 import seedu.orcashbuddy.command.ByeCommand;
 import seedu.orcashbuddy.command.EditCommand;
+import seedu.orcashbuddy.command.ExportCommand;
+import seedu.orcashbuddy.command.ImportCommand;
+import seedu.orcashbuddy.command.IndexSelection;
+import seedu.orcashbuddy.command.StatsCommand;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
+import seedu.orcashbuddy.metrics.CommandMetrics;
 
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Parses raw user input into executable {@link Command} objects.
@@ -29,7 +37,7 @@ import java.util.logging.Logger;
  * </ol>
  */
 public class Parser {
-    private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(Parser.class);
     private static final int COMMAND_WORD_INDEX = 0;
     private static final int ARGUMENTS_INDEX = 1;
     private static final int MAX_SPLIT_PARTS = 2;
@@ -39,6 +47,47 @@ public class Parser {
     private static final String DESCRIPTION_PREFIX = "desc/";
     private static final String CATEGORY_PREFIX = "cat/";
     private static final String INDEX_PREFIX = "id/";
+    private static final String TOP_PREFIX = "top/";
+    private static final String PAGE_PREFIX = "page/";
+    //@@author aydrienlaw
+    /** Where the optional search after an {@code export} file name starts. */
+    private static final Pattern EXPORT_SEARCH_START = Pattern.compile("(^|\\s)(cat|desc)/");
+    /** Command word that {@link #getCommandWord(String)} gives input it does not recognise. */
+    public static final String UNKNOWN_COMMAND_WORD = "unknown";
+    private static final Set<String> COMMAND_WORDS = Set.of("add", "setbudget", "delete", "mark", "unmark",
+            "list", "help", "sort", "find", "edit", "import", "export", "stats", "bye");
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a parser whose {@code stats} command shows metrics nothing records.
+     */
+    public Parser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} command shows {@code metrics}.
+     *
+     * @param metrics the metrics recorded by the command loop
+     */
+    public Parser(CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the command word of {@code userInput} in lower case, for grouping metrics.
+     * Input that does not start with a command word gives {@link #UNKNOWN_COMMAND_WORD}, so
+     * typos do not each get their own group.
+     *
+     * @param userInput the raw input string from the user
+     * @return the command word, or {@link #UNKNOWN_COMMAND_WORD}
+     */
+    public static String getCommandWord(String userInput) {
+        String commandWord = userInput.trim().split("\\s+", MAX_SPLIT_PARTS)[COMMAND_WORD_INDEX].toLowerCase();
+        return COMMAND_WORDS.contains(commandWord) ? commandWord : UNKNOWN_COMMAND_WORD;
+    }
+    //@@author
 
     /**
      * Parses the user input and returns the corresponding {@link Command}.
@@ -54,7 +103,7 @@ public class Parser {
         String commandWord = words[COMMAND_WORD_INDEX].toLowerCase();
         String arguments = (words.length > ARGUMENTS_INDEX) ? words[ARGUMENTS_INDEX] : "";
 
-        LOGGER.fine(() -> "Parsing command: " + commandWord);
+        LOGGER.log(Level.FINE, "Parsing command: {0}", commandWord);
 
         try {
             switch (commandWord) {
@@ -78,16 +127,22 @@ public class Parser {
                 return parseFindCommand(arguments);
             case "edit":
                 return parseEditCommand(arguments);
+            case "import":
+                return parseImportCommand(arguments);
+            case "export":
+                return parseExportCommand(arguments);
+            case "stats":
+                return new StatsCommand(metrics);
             case "bye":
                 return parseByeCommand(arguments);
             default:
                 return new InvalidCommand();
             }
         } catch (OrCashBuddyException e) {
-            LOGGER.log(Level.WARNING, "Error parsing command: " + e.getMessage(), e);
+            LOGGER.log(Level.WARNING, "Error parsing command", e);
             return new InvalidCommand(e);
         } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Unexpected error parsing command: " + e.getMessage(), e);
+            LOGGER.log(Level.WARNING, "Unexpected error parsing command", e);
             return new InvalidCommand();
         }
     }
@@ -108,13 +163,51 @@ public class Parser {
         String descStr = argParser.getValue(DESCRIPTION_PREFIX);
         String categoryStr = argParser.getOptionalValue(CATEGORY_PREFIX);
 
-        double amount = InputValidator.validateAmount(amountStr, "add");
+        long amount = InputValidator.validateAmount(amountStr, "add");
         String description = InputValidator.validateDescription(descStr, "add");
         String category = InputValidator.validateCategory(categoryStr, "add");
 
         return new AddCommand(amount, description, category);
     }
 
+    //@@author aydrienlaw
+    /**
+     * Parses the {@code import} command and creates an {@link ImportCommand}.
+     *
+     * @param arguments the path of the CSV file to import
+     * @return an {@link ImportCommand}
+     * @throws OrCashBuddyException if the file name is missing
+     */
+    private Command parseImportCommand(String arguments) throws OrCashBuddyException {
+        String fileName = arguments.trim();
+        if (fileName.isEmpty()) {
+            throw OrCashBuddyException.missingFileName("import");
+        }
+        return new ImportCommand(fileName);
+    }
+
+    /**
+     * Parses the {@code export} command and creates an {@link ExportCommand}.
+     * A {@code cat/} or {@code desc/} search after the file name exports only its matches.
+     *
+     * @param arguments the path of the file to write, then an optional search
+     * @return an {@link ExportCommand}
+     * @throws OrCashBuddyException if the file name is missing or the search is empty
+     */
+    private Command parseExportCommand(String arguments) throws OrCashBuddyException {
+        Matcher searchStart = EXPORT_SEARCH_START.matcher(arguments);
+        boolean hasSearch = searchStart.find();
+        String fileName = (hasSearch ? arguments.substring(0, searchStart.start()) : arguments).trim();
+        if (fileName.isEmpty()) {
+            throw OrCashBuddyException.missingFileName("export");
+        }
+        if (!hasSearch) {
+            return new ExportCommand(fileName);
+        }
+        return new ExportCommand(fileName, parseSearchQuery(arguments.substring(searchStart.start()), "export"));
+    }
+
+    //@@author limzerui
     /**
      * Parses the {@code bye} command and creates a {@link ByeCommand}.
      *
@@ -141,46 +234,72 @@ public class Parser {
         ArgumentParser argParser = new ArgumentParser(arguments);
         String amountStr = argParser.getValue(AMOUNT_PREFIX);
 
-        double budget = InputValidator.validateAmount(amountStr,"setbudget");
+        long budget = InputValidator.validateAmount(amountStr,"setbudget");
         return new SetBudgetCommand(budget);
     }
 
     //@@author saheer17
     /**
      * Parses the {@code delete} command and creates a {@link DeleteCommand}.
+     * Several indices and ranges, such as {@code 3 7 10-200}, delete every expense they cover.
      *
-     * @param arguments the 1-based index of the expense to delete
+     * @param arguments the 1-based indices or index ranges of the expenses to delete
      * @return a {@link DeleteCommand}
-     * @throws OrCashBuddyException if the index is missing or invalid
+     * @throws OrCashBuddyException if an index or range is missing or invalid
      */
     private Command parseDeleteCommand(String arguments) throws OrCashBuddyException {
-        int index = InputValidator.validateIndex(arguments, "delete");
-        return new DeleteCommand(index);
+        //@@author aydrienlaw
+        IndexSelection indices = InputValidator.validateIndices(arguments, "delete");
+        if (!indices.isSingleIndex()) {
+            return new DeleteCommand(indices);
+        }
+        //@@author saheer17
+        return new DeleteCommand(indices.getLowestIndex());
     }
 
     //@@author muadzyamani
     /**
      * Parses the {@code mark} command and creates a {@link MarkCommand}.
+     * Several indices and ranges, or a {@code cat/} or {@code desc/} search, mark every
+     * expense they select.
      *
-     * @param arguments the 1-based index of the expense to mark
+     * @param arguments the 1-based indices or index ranges, or the search, selecting the expenses to mark
      * @return a {@link MarkCommand}
-     * @throws OrCashBuddyException if the index is missing or invalid
+     * @throws OrCashBuddyException if an index, range or search is missing or invalid
      */
     private Command parseMarkCommand(String arguments) throws OrCashBuddyException {
-        int index = InputValidator.validateIndex(arguments, "mark");
-        return new MarkCommand(index);
+        //@@author aydrienlaw
+        if (isSearchQuery(arguments)) {
+            return new MarkCommand(parseSearchQuery(arguments, "mark"));
+        }
+        IndexSelection indices = InputValidator.validateIndices(arguments, "mark");
+        if (!indices.isSingleIndex()) {
+            return new MarkCommand(indices);
+        }
+        //@@author muadzyamani
+        return new MarkCommand(indices.getLowestIndex());
     }
 
     /**
      * Parses the {@code unmark} command and creates an {@link UnmarkCommand}.
+     * Several indices and ranges, or a {@code cat/} or {@code desc/} search, unmark every
+     * expense they select.
      *
-     * @param arguments the 1-based index of the expense to unmark
+     * @param arguments the 1-based indices or index ranges, or the search, selecting the expenses to unmark
      * @return an {@link UnmarkCommand}
-     * @throws OrCashBuddyException if the index is missing or invalid
+     * @throws OrCashBuddyException if an index, range or search is missing or invalid
      */
     private Command parseUnmarkCommand(String arguments) throws OrCashBuddyException {
-        int index = InputValidator.validateIndex(arguments, "unmark");
-        return new UnmarkCommand(index);
+        //@@author aydrienlaw
+        if (isSearchQuery(arguments)) {
+            return new UnmarkCommand(parseSearchQuery(arguments, "unmark"));
+        }
+        IndexSelection indices = InputValidator.validateIndices(arguments, "unmark");
+        if (!indices.isSingleIndex()) {
+            return new UnmarkCommand(indices);
+        }
+        //@@author muadzyamani
+        return new UnmarkCommand(indices.getLowestIndex());
     }
 
     /**
@@ -192,6 +311,48 @@ public class Parser {
      * @throws OrCashBuddyException if neither category nor description is provided
      */
     private Command parseFindCommand(String arguments) throws OrCashBuddyException {
+        FindCommand query = parseSearch(arguments);
+        if (query == null) {
+            throw new OrCashBuddyException("Missing search criteria for 'find' command");
+        }
+        return query;
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Returns whether {@code arguments} select expenses by search rather than by index.
+     *
+     * @param arguments the arguments of a {@code mark} or {@code unmark} command
+     * @return {@code true} if they contain {@code cat/} or {@code desc/}
+     */
+    private static boolean isSearchQuery(String arguments) {
+        return arguments.contains(CATEGORY_PREFIX) || arguments.contains(DESCRIPTION_PREFIX);
+    }
+
+    /**
+     * Parses the {@code cat/} or {@code desc/} search of a command that acts on every match.
+     *
+     * @param arguments   the arguments after the command word
+     * @param commandName the command word, for the error message
+     * @return the search
+     * @throws OrCashBuddyException if neither category nor description is provided
+     */
+    private FindCommand parseSearchQuery(String arguments, String commandName) throws OrCashBuddyException {
+        FindCommand query = parseSearch(arguments);
+        if (query == null) {
+            throw new OrCashBuddyException("Missing category or description for '" + commandName + "' command");
+        }
+        return query;
+    }
+
+    //@@author muadzyamani
+    /**
+     * Parses a {@code cat/} or {@code desc/} search, preferring the category.
+     *
+     * @param arguments the argument string holding the search
+     * @return the search, or {@code null} if neither prefix has a value
+     */
+    private FindCommand parseSearch(String arguments) {
         ArgumentParser argParser = new ArgumentParser(arguments);
 
         String category = argParser.getOptionalValue(CATEGORY_PREFIX);
@@ -203,8 +364,7 @@ public class Parser {
         if (description != null && !description.trim().isEmpty()) {
             return new FindCommand("description", description.trim());
         }
-
-        throw new OrCashBuddyException("Missing search criteria for 'find' command");
+        return null;
     }
 
     //@@author gumingyoujia
@@ -225,7 +385,7 @@ public class Parser {
         String descStr = argParser.getOptionalValue(DESCRIPTION_PREFIX);
         String categoryStr = argParser.getOptionalValue(CATEGORY_PREFIX);
 
-        Double amount = (amountStr==null) ? null : InputValidator.validateAmount(amountStr,"edit");
+        Long amount = (amountStr==null) ? null : InputValidator.validateAmount(amountStr,"edit");
         String description = (descStr==null) ? null : InputValidator.validateDescription(descStr, "edit");
         String category = (categoryStr==null) ? null : InputValidator.validateCategory(categoryStr, "edit");
 
@@ -233,10 +393,34 @@ public class Parser {
     }
 
     //@@author saheer17
+    /**
+     * Parses the {@code sort} command and creates a {@link SortCommand}.
+     * Without options every expense is sorted; {@code top/COUNT} limits the output to the
+     * {@code COUNT} largest expenses and {@code page/PAGE} selects a later page of that size.
+     *
+     * @param arguments the argument string after {@code sort}
+     * @return a {@link SortCommand} for the whole list or for one page of it
+     * @throws OrCashBuddyException if an option is unknown or its value is not a positive integer
+     */
     private Command parseSortCommand(String arguments) throws OrCashBuddyException {
-        if (arguments != null && !arguments.isBlank()) {
-            throw new OrCashBuddyException("'sort' command does not take any arguments");
+        if (arguments == null || arguments.isBlank()) {
+            return new SortCommand();
+        }
+
+        //@@author aydrienlaw
+        // Options are split on whitespace rather than through ArgumentParser, so that
+        // "top/" and "page/" never cut into descriptions given to other commands
+        Integer count = null;
+        Integer page = null;
+        for (String option : arguments.trim().split("\\s+")) {
+            if (option.startsWith(TOP_PREFIX)) {
+                count = InputValidator.validateSortNumber(option.substring(TOP_PREFIX.length()), TOP_PREFIX);
+            } else if (option.startsWith(PAGE_PREFIX)) {
+                page = InputValidator.validateSortNumber(option.substring(PAGE_PREFIX.length()), PAGE_PREFIX);
+            } else {
+                throw OrCashBuddyException.invalidSortOption(option);
+            }
         }
-        return new SortCommand();
+        return new SortCommand(count, page);
     }
 }
@@ -0,0 +1,232 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Ordered index of expenses by amount, so listing them from highest to lowest amount walks
+ * the index instead of sorting the ledger.
+ * <p>
+ * Expenses are filed by amount in a red-black tree ({@link TreeMap}) with one entry per
+ * distinct amount, and under each amount by slot (see {@link SlottedExpenseList}). Slots
+ * increase in list order, so expenses with equal amounts come out in list order, as a
+ * stable sort would give.
+ */
+class AmountIndex {
+    private final NavigableMap<Long, SortedIntList> slotsByAmount = new TreeMap<>(Collections.reverseOrder());
+    private int size;
+
+    /**
+     * Builds an index of the amounts of the live expenses in {@code expenses}.
+     *
+     * @param expenses the expenses to index
+     * @return the new index
+     */
+    static AmountIndex build(SlottedExpenseList expenses) {
+        AmountIndex index = new AmountIndex();
+        List<Expense> store = expenses.store();
+        for (int slot = expenses.nextLiveSlot(0); slot != SlottedExpenseList.NO_SLOT;
+                slot = expenses.nextLiveSlot(slot + 1)) {
+            index.insert(slot, amountAt(store, slot));
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of expenses indexed.
+     *
+     * @return the number of amounts indexed
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Records an expense of {@code amountCents} at {@code slot}.
+     *
+     * @param slot        the expense's slot
+     * @param amountCents its amount in cents
+     */
+    void insert(int slot, long amountCents) {
+        slotsByAmount.computeIfAbsent(amountCents, amount -> new SortedIntList()).add(slot);
+        size++;
+    }
+
+    /**
+     * Records that the expense at {@code slot}, of {@code amountCents}, is gone.
+     *
+     * @param slot        the expense's slot
+     * @param amountCents its amount in cents
+     */
+    void remove(int slot, long amountCents) {
+        SortedIntList sameAmount = slotsByAmount.get(amountCents);
+        boolean isRemoved = sameAmount != null && sameAmount.remove(slot);
+        assert isRemoved : "Removed expense was not indexed under its amount";
+        if (sameAmount != null && sameAmount.count() == 0) {
+            slotsByAmount.remove(amountCents);
+        }
+        size--;
+    }
+
+    /**
+     * Moves every indexed slot to its new slot after the list was compacted.
+     *
+     * @param newSlots the new slot of each old slot
+     */
+    void remap(int[] newSlots) {
+        for (SortedIntList sameAmount : slotsByAmount.values()) {
+            sameAmount.remap(newSlots);
+        }
+    }
+
+    /**
+     * Returns the slots of all expenses from highest to lowest amount, keeping list order
+     * for equal amounts.
+     *
+     * @return the sorted slots
+     */
+    int[] slotsByAmountDescending() {
+        int[] sorted = new int[size];
+        int filled = 0;
+        for (SortedIntList sameAmount : slotsByAmount.values()) {
+            filled = sameAmount.copyInto(sorted, filled);
+        }
+        assert filled == sorted.length : "Every expense should be indexed under one amount";
+        return sorted;
+    }
+
+    /**
+     * Returns the slots of the expenses ranked {@code offset} to {@code offset + limit - 1}
+     * in the order of {@link #slotsByAmountDescending()}, without visiting later ones.
+     *
+     * @param offset the 0-based rank of the first expense to return
+     * @param limit  the maximum number of slots to return
+     * @return up to {@code limit} sorted slots
+     */
+    int[] slotsByAmountDescending(int offset, int limit) {
+        int[] page = new int[Math.max(0, Math.min(limit, size - offset))];
+        int toSkip = offset;
+        int filled = 0;
+        for (SortedIntList sameAmount : slotsByAmount.values()) {
+            if (filled == page.length) {
+                break;
+            }
+            if (toSkip >= sameAmount.count()) {
+                toSkip -= sameAmount.count();
+                continue;
+            }
+            for (int i = toSkip; i < sameAmount.count() && filled < page.length; i++) {
+                page[filled++] = sameAmount.get(i);
+            }
+            toSkip = 0;
+        }
+        return page;
+    }
+
+    /**
+     * Returns the slots of the {@code count} live expenses with the highest amounts, in the
+     * order of {@link #slotsByAmountDescending()}, without building an index.
+     * <p>
+     * Keeps the best {@code count} expenses seen so far in a bounded min-heap whose root is
+     * the lowest-ranked of them, so this costs {@code O(n log count)} rather than a full sort.
+     *
+     * @param expenses the expenses to rank
+     * @param count    the number of slots to return
+     * @return up to {@code count} sorted slots
+     */
+    static int[] selectTopSlots(SlottedExpenseList expenses, int count) {
+        List<Expense> store = expenses.store();
+        int capacity = Math.min(count, expenses.size());
+        long[] heapAmounts = new long[capacity];
+        int[] heapSlots = new int[capacity];
+        int heapSize = 0;
+
+        for (int slot = expenses.nextLiveSlot(0); slot != SlottedExpenseList.NO_SLOT && capacity > 0;
+                slot = expenses.nextLiveSlot(slot + 1)) {
+            long amountCents = amountAt(store, slot);
+            if (heapSize < capacity) {
+                heapAmounts[heapSize] = amountCents;
+                heapSlots[heapSize] = slot;
+                siftUp(heapAmounts, heapSlots, heapSize++);
+            } else if (amountCents > heapAmounts[0]) {
+                // An equal amount later in the list ranks lower, so only a larger one gets in
+                heapAmounts[0] = amountCents;
+                heapSlots[0] = slot;
+                siftDown(heapAmounts, heapSlots, heapSize);
+            }
+        }
+
+        int[] top = new int[heapSize];
+        while (heapSize > 0) {
+            top[--heapSize] = heapSlots[0];
+            heapAmounts[0] = heapAmounts[heapSize];
+            heapSlots[0] = heapSlots[heapSize];
+            siftDown(heapAmounts, heapSlots, heapSize);
+        }
+        return top;
+    }
+
+    /**
+     * Returns whether the expense at heap node {@code first} ranks below the one at {@code second}.
+     */
+    private static boolean ranksBelow(long[] amounts, int[] slots, int first, int second) {
+        return amounts[first] < amounts[second]
+                || (amounts[first] == amounts[second] && slots[first] > slots[second]);
+    }
+
+    private static void siftUp(long[] amounts, int[] slots, int node) {
+        while (node > 0) {
+            int parent = (node - 1) / 2;
+            if (!ranksBelow(amounts, slots, node, parent)) {
+                return;
+            }
+            swap(amounts, slots, node, parent);
+            node = parent;
+        }
+    }
+
+    private static void siftDown(long[] amounts, int[] slots, int heapSize) {
+        int node = 0;
+        while (true) {
+            int lowest = node;
+            int left = 2 * node + 1;
+            int right = left + 1;
+            if (left < heapSize && ranksBelow(amounts, slots, left, lowest)) {
+                lowest = left;
+            }
+            if (right < heapSize && ranksBelow(amounts, slots, right, lowest)) {
+                lowest = right;
+            }
+            if (lowest == node) {
+                return;
+            }
+            swap(amounts, slots, node, lowest);
+            node = lowest;
+        }
+    }
+
+    private static void swap(long[] amounts, int[] slots, int first, int second) {
+        long amount = amounts[first];
+        amounts[first] = amounts[second];
+        amounts[second] = amount;
+        int slot = slots[first];
+        slots[first] = slots[second];
+        slots[second] = slot;
+    }
+
+    /**
+     * Returns the amount in store slot {@code slot}, reading the column directly for a
+     * columnar store.
+     */
+    private static long amountAt(List<Expense> store, int slot) {
+        if (store instanceof ColumnarExpenseList columns) {
+            return columns.getAmountCents(slot);
+        }
+        return store.get(slot).getAmountCents();
+    }
+}
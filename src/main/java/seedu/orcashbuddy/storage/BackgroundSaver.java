@@ -0,0 +1,238 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persists an {@link ExpenseManager} on a single background writer thread.
+ * <p>
+ * {@link #submit} does the cheap part of a save on the caller's thread: it drains the
+ * journal records (or copies the manager when a full snapshot is due) into a
+ * {@link PendingSave} and queues it. The writer thread waits up to
+ * {@code flushDelayMillis} after the first queued save so that a burst of commands is
+ * written, and forced to the device, as one merged save. A crash can therefore lose at
+ * most that window of changes.
+ * <p>
+ * Write failures cannot be shown from the writer thread, so they are reported by the
+ * next {@link #submit} or {@link #flush} call, which also falls back to a full snapshot.
+ * The time taken by each successful write is recorded in the {@link CommandMetrics} given.
+ */
+public class BackgroundSaver {
+    private static final Logger LOGGER = Logger.getLogger(BackgroundSaver.class.getName());
+    private static final String SAVE_FAILED_MESSAGE = "Failed to save your expenses.";
+
+    private final long flushDelayMillis;
+    private final Object lock = new Object();
+    private final List<PendingSave> queue = new ArrayList<>();
+    private final Thread writer;
+    private final CommandMetrics metrics;
+
+    // Guarded by lock
+    private long submittedCount = 0;
+    private long writtenCount = 0;
+    private long flushTarget = 0;
+    private boolean isClosed = false;
+
+    private volatile boolean hasFailed = false;
+
+    // Only touched by the writer thread
+    private boolean isJournalBroken = false;
+
+    /**
+     * Creates a saver whose write times are not reported, and starts its writer thread.
+     *
+     * @param flushDelayMillis how long the writer waits to coalesce saves; {@code 0} writes immediately
+     */
+    public BackgroundSaver(long flushDelayMillis) {
+        this(flushDelayMillis, new CommandMetrics());
+    }
+
+    /**
+     * Creates a saver and starts its writer thread.
+     *
+     * @param flushDelayMillis how long the writer waits to coalesce saves; {@code 0} writes immediately
+     * @param metrics          where the time taken by each write is recorded
+     */
+    public BackgroundSaver(long flushDelayMillis, CommandMetrics metrics) {
+        assert flushDelayMillis >= 0 : "Flush delay must not be negative";
+        this.flushDelayMillis = flushDelayMillis;
+        this.metrics = metrics;
+        this.writer = new Thread(this::runWriter, "orcashbuddy-saver");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a save of the current state of {@code expenseManager}.
+     * Must be called on the thread that mutates the manager.
+     *
+     * @param expenseManager the manager to save; must not be null
+     * @param ui             the UI used to report an earlier failed write; must not be null
+     */
+    public void submit(ExpenseManager expenseManager, Ui ui) {
+        assert expenseManager != null : "ExpenseManager must not be null";
+        assert ui != null : "Ui must not be null";
+
+        reportFailure(expenseManager, ui);
+        PendingSave save = StorageManager.prepareSave(expenseManager);
+        if (!save.isEmpty()) {
+            enqueue(save);
+        }
+    }
+
+    /**
+     * Queues an already prepared save for the writer thread.
+     *
+     * @param save the save to write
+     */
+    void enqueue(PendingSave save) {
+        synchronized (lock) {
+            if (isClosed) {
+                LOGGER.warning("Save submitted after the saver was closed; ignoring it");
+                return;
+            }
+            queue.add(save);
+            submittedCount++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Blocks until every save submitted so far is on disk. If any of them failed,
+     * the failure is reported and the manager is saved again as a full snapshot before
+     * returning. That snapshot goes through the writer thread, so the writer knows the
+     * journal is whole again and resumes appending to it.
+     *
+     * @param expenseManager the manager being saved; must not be null
+     * @param ui             the UI used to report failures; must not be null
+     */
+    public void flush(ExpenseManager expenseManager, Ui ui) {
+        awaitWritten();
+        if (reportFailure(expenseManager, ui)) {
+            // The journal is now detached, so this queues a full snapshot
+            submit(expenseManager, ui);
+            awaitWritten();
+            reportFailure(expenseManager, ui);
+        }
+    }
+
+    /**
+     * Writes out everything still queued and stops the writer thread.
+     * Intended for a JVM shutdown hook, where the UI can no longer be used.
+     */
+    public void close() {
+        awaitWritten();
+        synchronized (lock) {
+            isClosed = true;
+            lock.notifyAll();
+        }
+        if (hasFailed) {
+            LOGGER.warning("Last background save failed; recent changes may not be on disk");
+        }
+    }
+
+    private void awaitWritten() {
+        synchronized (lock) {
+            flushTarget = submittedCount;
+            lock.notifyAll();
+            try {
+                while (writtenCount < flushTarget && writer.isAlive()) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warning("Interrupted while waiting for pending saves");
+            }
+        }
+    }
+
+    /**
+     * Reports a failed background write, if there was one, and detaches the manager's
+     * journal so the next save writes a full snapshot covering the lost records.
+     *
+     * @return {@code true} if a failure was reported
+     */
+    private boolean reportFailure(ExpenseManager expenseManager, Ui ui) {
+        if (!hasFailed) {
+            return false;
+        }
+        hasFailed = false;
+        ui.showError(SAVE_FAILED_MESSAGE);
+        expenseManager.attachJournal(null);
+        return true;
+    }
+
+    private void runWriter() {
+        while (true) {
+            List<PendingSave> batch;
+            synchronized (lock) {
+                try {
+                    while (queue.isEmpty() && !isClosed) {
+                        lock.wait();
+                    }
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                    waitForMoreSaves();
+                } catch (InterruptedException e) {
+                    LOGGER.warning("Background saver interrupted; pending saves are written now");
+                }
+                batch = new ArrayList<>(queue);
+                queue.clear();
+            }
+
+            write(batch);
+
+            synchronized (lock) {
+                writtenCount += batch.size();
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Holds the first queued save for the coalescing window, unless someone is waiting on a flush.
+     */
+    private void waitForMoreSaves() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + flushDelayMillis;
+        long remaining = flushDelayMillis;
+        while (remaining > 0 && flushTarget <= writtenCount && !isClosed) {
+            lock.wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Writes one batch of saves. Any exception is treated as a failed write, since letting
+     * it escape would end the writer thread and leave every later save unwritten.
+     */
+    private void write(List<PendingSave> batch) {
+        try {
+            PendingSave save = PendingSave.merge(batch);
+            if (isJournalBroken && !save.hasSnapshot()) {
+                // Appending after lost records would replay later changes against the wrong state.
+                // A snapshot is already on its way, since the failure has been flagged.
+                LOGGER.fine("Skipping journal append until the next snapshot");
+                return;
+            }
+
+            long startNanos = System.nanoTime();
+            StorageManager.writeSave(save, new File(StorageManager.DIRECTORY));
+            metrics.recordBackgroundWrite(System.nanoTime() - startNanos);
+            isJournalBroken = false;
+            LOGGER.fine(() -> "Wrote " + batch.size() + " coalesced save(s)");
+        } catch (IOException | RuntimeException e) {
+            hasFailed = true;
+            isJournalBroken = true;
+            LOGGER.log(Level.WARNING, "Background save failed", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Application-wide dictionary that interns expense categories to small integer ids.
+ * <p>
+ * A ledger typically uses a handful of categories (already checked by
+ * {@code InputValidator#validateCategory}) across many expenses, so each {@code Expense}
+ * stores only the id and every expense in a category shares one {@code String}. The
+ * lower-case form of each category is computed once, when it is first interned, so a
+ * category search matches against the distinct categories only (see
+ * {@link #findIdsContaining(String)}) and then selects expenses by id.
+ * <p>
+ * Ids are never reused or removed. Interning is synchronized; looking up a name by id
+ * is not, and is safe from any thread that obtained the id through a happens-before
+ * edge, such as the expense handed to the {@link BackgroundSaver}.
+ */
+public final class CategoryDictionary {
+    private static final CategoryDictionary INSTANCE = new CategoryDictionary();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private volatile String[] names = new String[INITIAL_CAPACITY];
+    private volatile String[] lowerCaseNames = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    private CategoryDictionary() {
+    }
+
+    /**
+     * Returns the dictionary shared by every expense.
+     *
+     * @return the shared dictionary
+     */
+    public static CategoryDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the id of {@code category}, assigning the next free id if it is new.
+     *
+     * @param category the category name
+     * @return the category's id
+     * @throws NullPointerException if {@code category} is null
+     */
+    public synchronized int intern(String category) {
+        Objects.requireNonNull(category, "Category must not be null");
+        Integer id = idsByName.get(category);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = size;
+        String[] newNames = names;
+        String[] newLowerCaseNames = lowerCaseNames;
+        if (newId == newNames.length) {
+            newNames = Arrays.copyOf(newNames, newId * 2);
+            newLowerCaseNames = Arrays.copyOf(newLowerCaseNames, newId * 2);
+        }
+        newNames[newId] = category;
+        newLowerCaseNames[newId] = category.toLowerCase();
+        names = newNames;
+        lowerCaseNames = newLowerCaseNames;
+        size = newId + 1;
+        idsByName.put(category, newId);
+        return newId;
+    }
+
+    /**
+     * Returns the category with the given id.
+     *
+     * @param id an id returned by {@link #intern(String)}
+     * @return the category name
+     */
+    public String getName(int id) {
+        Objects.checkIndex(id, size);
+        return names[id];
+    }
+
+    /**
+     * Returns the lower-case form of the category with the given id.
+     *
+     * @param id an id returned by {@link #intern(String)}
+     * @return the lower-case category name
+     */
+    public String getLowerCaseName(int id) {
+        Objects.checkIndex(id, size);
+        return lowerCaseNames[id];
+    }
+
+    /**
+     * Returns the number of distinct categories interned so far.
+     *
+     * @return the number of ids in use
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ids of all categories whose lower-case form contains {@code lowerCaseTerm}.
+     *
+     * @param lowerCaseTerm the lower-case text to look for
+     * @return the matching ids
+     */
+    public BitSet findIdsContaining(String lowerCaseTerm) {
+        int count = size;
+        String[] candidates = lowerCaseNames;
+        BitSet matchingIds = new BitSet(count);
+        for (int id = 0; id < count; id++) {
+            if (candidates[id].contains(lowerCaseTerm)) {
+                matchingIds.set(id);
+            }
+        }
+        return matchingIds;
+    }
+}
@@ -0,0 +1,119 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Secondary index from {@link CategoryDictionary} id to the slots of the expenses in
+ * that category, so a category search costs time proportional to the number of matches
+ * rather than to the size of the ledger.
+ * <p>
+ * Slots (see {@link SlottedExpenseList}) keep list order and do not move when other
+ * expenses are deleted, so {@link ExpenseManager} only has to add or remove the one slot
+ * that changed.
+ */
+class CategoryIndex {
+    /** Sorted slots by category id; {@code null} for ids never indexed. */
+    private SortedIntList[] slotsById = new SortedIntList[0];
+    private int size;
+
+    /**
+     * Builds an index of the live expenses in {@code expenses}.
+     *
+     * @param expenses the expenses to index
+     * @return the new index
+     */
+    static CategoryIndex build(SlottedExpenseList expenses) {
+        CategoryIndex index = new CategoryIndex();
+        for (int slot = expenses.nextLiveSlot(0); slot != SlottedExpenseList.NO_SLOT;
+                slot = expenses.nextLiveSlot(slot + 1)) {
+            index.insert(slot, expenses.getAtSlot(slot).getCategoryId());
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of expenses indexed.
+     *
+     * @return the number of slots across all categories
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Records an expense in category {@code categoryId} at {@code slot}.
+     *
+     * @param slot       the expense's slot
+     * @param categoryId its category id
+     */
+    void insert(int slot, int categoryId) {
+        if (categoryId >= slotsById.length) {
+            slotsById = Arrays.copyOf(slotsById, Math.max(categoryId + 1, slotsById.length * 2));
+        }
+        if (slotsById[categoryId] == null) {
+            slotsById[categoryId] = new SortedIntList();
+        }
+        slotsById[categoryId].add(slot);
+        size++;
+    }
+
+    /**
+     * Records that the expense at {@code slot}, in category {@code categoryId}, is gone.
+     *
+     * @param slot       the expense's slot
+     * @param categoryId its category id
+     */
+    void remove(int slot, int categoryId) {
+        boolean isRemoved = slotsById[categoryId].remove(slot);
+        assert isRemoved : "Removed expense was not indexed under its category";
+        size--;
+    }
+
+    /**
+     * Returns the slots of every expense whose category id is in {@code categoryIds},
+     * in list order.
+     *
+     * @param categoryIds the categories to select
+     * @return the matching slots, sorted
+     */
+    int[] find(BitSet categoryIds) {
+        int total = 0;
+        int matchingCategories = 0;
+        for (int id = categoryIds.nextSetBit(0); id >= 0 && id < slotsById.length;
+                id = categoryIds.nextSetBit(id + 1)) {
+            if (slotsById[id] != null && slotsById[id].count() > 0) {
+                total += slotsById[id].count();
+                matchingCategories++;
+            }
+        }
+
+        int[] matches = new int[total];
+        int filled = 0;
+        for (int id = categoryIds.nextSetBit(0); id >= 0 && id < slotsById.length;
+                id = categoryIds.nextSetBit(id + 1)) {
+            if (slotsById[id] != null) {
+                filled = slotsById[id].copyInto(matches, filled);
+            }
+        }
+        // Each category's slots are sorted; merging several only needs a sort of the matches
+        if (matchingCategories > 1) {
+            Arrays.sort(matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Moves every indexed slot to its new slot after the list was compacted.
+     *
+     * @param newSlots the new slot of each old slot
+     */
+    void remap(int[] newSlots) {
+        for (SortedIntList slots : slotsById) {
+            if (slots != null) {
+                slots.remap(newSlots);
+            }
+        }
+    }
+}
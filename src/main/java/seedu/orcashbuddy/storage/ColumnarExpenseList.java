@@ -0,0 +1,307 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List of expenses stored column by column in primitive arrays instead of as one object
+ * per expense: amounts in a {@code long[]}, marked flags in a {@link BitSet}, categories as
+ * {@link CategoryDictionary} ids, and descriptions as ranges of one shared
+ * {@code char[]} pool.
+ * <p>
+ * An expense then costs a few dozen bytes with no object headers or pointers to follow,
+ * and {@link ExpenseManager} can search descriptions by reading the pool directly
+ * (see {@link #findByDescription(String)}).
+ * <p>
+ * {@link #get(int)} builds a new {@link Expense} on every call, so changing the returned
+ * object does not change the list; write it back with {@link #set(int, Expense)}.
+ */
+class ColumnarExpenseList extends AbstractList<Expense> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Smallest number of unused pool characters worth compacting. */
+    private static final int MIN_COMPACT_CHARS = 1 << 12;
+
+    private long[] amountCents;
+    private int[] categoryIds;
+    private int[] descriptionStarts;
+    private int[] descriptionLengths;
+    private final BitSet marked;
+    private int size;
+
+    private char[] descriptionPool;
+    private int poolLength;
+    /** Characters in the pool no longer referenced by any expense. */
+    private int unusedPoolChars;
+
+    /**
+     * Creates an empty list.
+     */
+    ColumnarExpenseList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for {@code capacity} expenses.
+     *
+     * @param capacity the initial capacity
+     */
+    ColumnarExpenseList(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        amountCents = new long[initialCapacity];
+        categoryIds = new int[initialCapacity];
+        descriptionStarts = new int[initialCapacity];
+        descriptionLengths = new int[initialCapacity];
+        marked = new BitSet(initialCapacity);
+        descriptionPool = new char[initialCapacity * 16];
+    }
+
+    private ColumnarExpenseList(ColumnarExpenseList other) {
+        amountCents = Arrays.copyOf(other.amountCents, other.size);
+        categoryIds = Arrays.copyOf(other.categoryIds, other.size);
+        descriptionStarts = Arrays.copyOf(other.descriptionStarts, other.size);
+        descriptionLengths = Arrays.copyOf(other.descriptionLengths, other.size);
+        marked = (BitSet) other.marked.clone();
+        size = other.size;
+        descriptionPool = Arrays.copyOf(other.descriptionPool, other.poolLength);
+        poolLength = other.poolLength;
+        unusedPoolChars = other.unusedPoolChars;
+    }
+
+    /**
+     * Returns an independent copy of this list, made by copying the columns.
+     *
+     * @return the copy
+     */
+    ColumnarExpenseList copy() {
+        return new ColumnarExpenseList(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Expense get(int index) {
+        Objects.checkIndex(index, size);
+        Expense expense = new Expense(amountCents[index],
+                new String(descriptionPool, descriptionStarts[index], descriptionLengths[index]),
+                CategoryDictionary.getInstance().getName(categoryIds[index]));
+        if (marked.get(index)) {
+            expense.mark();
+        }
+        return expense;
+    }
+
+    /**
+     * Returns the amount of the expense at {@code index} without building the expense.
+     *
+     * @param index the 0-based position
+     * @return the amount in cents
+     */
+    long getAmountCents(int index) {
+        Objects.checkIndex(index, size);
+        return amountCents[index];
+    }
+
+    /**
+     * Returns whether the expense at {@code index} is marked, without building the expense.
+     *
+     * @param index the 0-based position
+     * @return {@code true} if marked
+     */
+    boolean isMarked(int index) {
+        Objects.checkIndex(index, size);
+        return marked.get(index);
+    }
+
+    /**
+     * Marks or unmarks the expense at {@code index} without building the expense.
+     *
+     * @param index    the 0-based position
+     * @param isMarked whether it should be marked
+     */
+    void setMarked(int index, boolean isMarked) {
+        Objects.checkIndex(index, size);
+        marked.set(index, isMarked);
+    }
+
+    /**
+     * Returns the category of the expense at {@code index} without building the expense.
+     *
+     * @param index the 0-based position
+     * @return the category name
+     */
+    String getCategory(int index) {
+        Objects.checkIndex(index, size);
+        return CategoryDictionary.getInstance().getName(categoryIds[index]);
+    }
+
+    /**
+     * Appends the description of the expense at {@code index} to {@code sb}, straight from
+     * the pool and without building a {@code String}.
+     *
+     * @param index the 0-based position
+     * @param sb    the builder to append to
+     */
+    void appendDescription(int index, StringBuilder sb) {
+        Objects.checkIndex(index, size);
+        sb.append(descriptionPool, descriptionStarts[index], descriptionLengths[index]);
+    }
+
+    @Override
+    public Expense set(int index, Expense expense) {
+        Expense previous = get(index);
+        // Writing back a marked or unmarked expense keeps its description where it is
+        if (previous.getDescription().equals(expense.getDescription())) {
+            storeColumns(index, expense);
+            return previous;
+        }
+        unusedPoolChars += descriptionLengths[index];
+        store(index, expense);
+        compactPoolIfWasteful();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Expense expense) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        int tail = size - index;
+        System.arraycopy(amountCents, index, amountCents, index + 1, tail);
+        System.arraycopy(categoryIds, index, categoryIds, index + 1, tail);
+        System.arraycopy(descriptionStarts, index, descriptionStarts, index + 1, tail);
+        System.arraycopy(descriptionLengths, index, descriptionLengths, index + 1, tail);
+        if (index < size) {
+            BitSet shifted = marked.get(index, size);
+            marked.clear(index, size + 1);
+            shifted.stream().forEach(bit -> marked.set(index + 1 + bit));
+        }
+        size++;
+        store(index, expense);
+        modCount++;
+    }
+
+    @Override
+    public Expense remove(int index) {
+        Expense removed = get(index);
+        unusedPoolChars += descriptionLengths[index];
+        int tail = size - index - 1;
+        System.arraycopy(amountCents, index + 1, amountCents, index, tail);
+        System.arraycopy(categoryIds, index + 1, categoryIds, index, tail);
+        System.arraycopy(descriptionStarts, index + 1, descriptionStarts, index, tail);
+        System.arraycopy(descriptionLengths, index + 1, descriptionLengths, index, tail);
+        BitSet shifted = marked.get(index + 1, size);
+        marked.clear(index, size);
+        shifted.stream().forEach(bit -> marked.set(index + bit));
+        size--;
+        modCount++;
+        compactPoolIfWasteful();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        poolLength = 0;
+        unusedPoolChars = 0;
+        marked.clear();
+        modCount++;
+    }
+
+    // ========== Column scans ==========
+
+    /**
+     * Returns the positions of expenses whose description contains {@code lowerCaseTerm},
+     * ignoring case. Descriptions are compared in the pool without building strings.
+     *
+     * @param lowerCaseTerm the lower-case text to look for
+     * @return the matching positions in list order
+     */
+    int[] findByDescription(String lowerCaseTerm) {
+        char[] term = lowerCaseTerm.toCharArray();
+        int[] matches = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (containsIgnoreCase(descriptionStarts[i], descriptionLengths[i], term)) {
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    // ========== Helpers ==========
+
+    private void store(int index, Expense expense) {
+        storeColumns(index, expense);
+
+        String description = expense.getDescription();
+        int length = description.length();
+        if (poolLength + length > descriptionPool.length) {
+            descriptionPool = Arrays.copyOf(descriptionPool,
+                    Math.max(poolLength + length, descriptionPool.length + (descriptionPool.length >> 1)));
+        }
+        description.getChars(0, length, descriptionPool, poolLength);
+        descriptionStarts[index] = poolLength;
+        descriptionLengths[index] = length;
+        poolLength += length;
+    }
+
+    private void storeColumns(int index, Expense expense) {
+        amountCents[index] = expense.getAmountCents();
+        categoryIds[index] = expense.getCategoryId();
+        marked.set(index, expense.isMarked());
+    }
+
+    private boolean containsIgnoreCase(int start, int length, char[] term) {
+        int last = start + length - term.length;
+        for (int from = start; from <= last; from++) {
+            int matched = 0;
+            while (matched < term.length
+                    && Character.toLowerCase(descriptionPool[from + matched]) == term[matched]) {
+                matched++;
+            }
+            if (matched == term.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= amountCents.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, amountCents.length + (amountCents.length >> 1) + 1);
+        amountCents = Arrays.copyOf(amountCents, newLength);
+        categoryIds = Arrays.copyOf(categoryIds, newLength);
+        descriptionStarts = Arrays.copyOf(descriptionStarts, newLength);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, newLength);
+    }
+
+    /**
+     * Rewrites the description pool without unused characters once they make up more
+     * than half of it, so repeated edits and deletions do not grow it without bound.
+     */
+    private void compactPoolIfWasteful() {
+        if (unusedPoolChars < MIN_COMPACT_CHARS || unusedPoolChars * 2 < poolLength) {
+            return;
+        }
+        char[] compacted = new char[Math.max(poolLength - unusedPoolChars, DEFAULT_CAPACITY)];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(descriptionPool, descriptionStarts[i], compacted, length, descriptionLengths[i]);
+            descriptionStarts[i] = length;
+            length += descriptionLengths[i];
+        }
+        descriptionPool = compacted;
+        poolLength = length;
+        unusedPoolChars = 0;
+    }
+}
@@ -0,0 +1,127 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trigram inverted index over lower-case expense descriptions, so a description search
+ * verifies only the expenses that contain every three-character run of the search term
+ * instead of every expense in the ledger.
+ * <p>
+ * Posting lists hold sorted slots (see {@link SlottedExpenseList}), which keep list order
+ * and do not move when other expenses are deleted.
+ */
+class DescriptionIndex {
+    /** Length of the character runs indexed. */
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, SortedIntList> postingsByGram = new HashMap<>();
+    private int size;
+
+    /**
+     * Builds an index of the descriptions of the live expenses in {@code expenses}.
+     *
+     * @param expenses the expenses to index
+     * @return the new index
+     */
+    static DescriptionIndex build(SlottedExpenseList expenses) {
+        DescriptionIndex index = new DescriptionIndex();
+        for (int slot = expenses.nextLiveSlot(0); slot != SlottedExpenseList.NO_SLOT;
+                slot = expenses.nextLiveSlot(slot + 1)) {
+            index.insert(slot, expenses.getAtSlot(slot).getDescription());
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of expenses indexed.
+     *
+     * @return the number of descriptions indexed
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Records an expense with {@code description} at {@code slot}.
+     *
+     * @param slot        the expense's slot
+     * @param description its description
+     */
+    void insert(int slot, String description) {
+        String text = description.toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            postingsByGram.computeIfAbsent(gramAt(text, i), gram -> new SortedIntList()).add(slot);
+        }
+        size++;
+    }
+
+    /**
+     * Records that the expense at {@code slot}, with {@code description}, is gone.
+     *
+     * @param slot        the expense's slot
+     * @param description its description
+     */
+    void remove(int slot, String description) {
+        String text = description.toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            Long gram = gramAt(text, i);
+            SortedIntList postings = postingsByGram.get(gram);
+            if (postings != null && postings.remove(slot) && postings.count() == 0) {
+                postingsByGram.remove(gram);
+            }
+        }
+        size--;
+    }
+
+    /**
+     * Moves every indexed slot to its new slot after the list was compacted.
+     *
+     * @param newSlots the new slot of each old slot
+     */
+    void remap(int[] newSlots) {
+        for (SortedIntList postings : postingsByGram.values()) {
+            postings.remap(newSlots);
+        }
+    }
+
+    /**
+     * Returns the slots of expenses whose description may contain {@code lowerCaseTerm}:
+     * those containing every trigram of the term. Callers must still check each candidate.
+     *
+     * @param lowerCaseTerm the lower-case text to look for
+     * @return candidate slots in list order, or {@code null} if the term is
+     *         shorter than {@link #GRAM_LENGTH} and cannot be looked up
+     */
+    int[] findCandidates(String lowerCaseTerm) {
+        if (lowerCaseTerm.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        SortedIntList[] termPostings = new SortedIntList[lowerCaseTerm.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < termPostings.length; i++) {
+            termPostings[i] = postingsByGram.get(gramAt(lowerCaseTerm, i));
+            if (termPostings[i] == null) {
+                return new int[0];
+            }
+        }
+        // Start from the rarest trigram so every later step can only shrink the candidates
+        Arrays.sort(termPostings, (first, second) -> Integer.compare(first.count(), second.count()));
+
+        int[] candidates = termPostings[0].toArray();
+        int candidateCount = candidates.length;
+        for (int i = 1; i < termPostings.length && candidateCount > 0; i++) {
+            candidateCount = termPostings[i].retainAll(candidates, candidateCount);
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    /**
+     * Packs the {@link #GRAM_LENGTH} characters of {@code text} starting at {@code start} into one key.
+     */
+    private static Long gramAt(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
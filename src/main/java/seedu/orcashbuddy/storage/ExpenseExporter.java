@@ -0,0 +1,194 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.expense.Money;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams expenses from an {@link ExpenseManager} to a CSV or JSON lines file for the
+ * {@code export} command.
+ * <p>
+ * Rows are appended to one reusable character buffer and written through a
+ * {@link FileChannel} writer whenever it fills, so memory use does not depend on the number
+ * of expenses and no {@code String} is built per row. The columnar and mapped stores are
+ * read without creating or caching an {@link Expense} for every row.
+ * <p>
+ * CSV output has the header and columns read by {@code import}, so an exported file can be
+ * imported again.
+ */
+public class ExpenseExporter {
+    private static final String CSV_HEADER = "amount,description,category,marked";
+    private static final int FLUSH_CHARS = 1 << 15;
+    private static final int WRITER_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * The file formats an export can write.
+     */
+    public enum Format {
+        /** Comma-separated values with a header row, quoted as needed. */
+        CSV,
+        /** One JSON object per line. */
+        JSON_LINES;
+
+        /**
+         * Picks the format from a file name: {@code .json}, {@code .jsonl} and {@code .ndjson}
+         * files get JSON lines, and everything else CSV.
+         *
+         * @param fileName the name of the file to write
+         * @return the format to write it in
+         */
+        public static Format forFileName(String fileName) {
+            String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+            boolean isJson = lowerCaseName.endsWith(".json") || lowerCaseName.endsWith(".jsonl")
+                    || lowerCaseName.endsWith(".ndjson");
+            return isJson ? JSON_LINES : CSV;
+        }
+    }
+
+    private final Format format;
+    private final Writer out;
+    private final StringBuilder pending = new StringBuilder(FLUSH_CHARS + 256);
+    /** Description of the current row, before escaping. */
+    private final StringBuilder description = new StringBuilder();
+    private char[] chars = new char[FLUSH_CHARS + 256];
+
+    private ExpenseExporter(Format format, Writer out) {
+        this.format = format;
+        this.out = out;
+    }
+
+    /**
+     * Writes the expenses at {@code indices}, or all expenses, to {@code file}, replacing
+     * anything already there.
+     *
+     * @param expenseManager the expenses to export
+     * @param indices        the 1-based indices of the expenses to export, or {@code null} for all
+     * @param file           the file to write
+     * @param format         the format to write
+     * @return the number of expenses written
+     * @throws IOException if the file cannot be written
+     */
+    public static int export(ExpenseManager expenseManager, BitSet indices, Path file, Format format)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(),
+                        WRITER_BUFFER_BYTES)) {
+            return new ExpenseExporter(format, out).writeAll(expenseManager.getExpenseSlots(), indices);
+        }
+    }
+
+    private int writeAll(SlottedExpenseList expenses, BitSet indices) throws IOException {
+        if (format == Format.CSV) {
+            pending.append(CSV_HEADER).append('\n');
+        }
+        int count = 0;
+        if (indices == null) {
+            for (int slot = expenses.nextLiveSlot(0); slot != SlottedExpenseList.NO_SLOT;
+                    slot = expenses.nextLiveSlot(slot + 1)) {
+                writeRow(expenses.store(), slot);
+                count++;
+            }
+        } else {
+            for (int index = indices.nextSetBit(0); index >= 0; index = indices.nextSetBit(index + 1)) {
+                writeRow(expenses.store(), expenses.slotOf(index - 1));
+                count++;
+            }
+        }
+        flushPending();
+        out.flush();
+        return count;
+    }
+
+    private void writeRow(List<Expense> store, int slot) throws IOException {
+        long amountCents;
+        String category;
+        boolean isMarked;
+        description.setLength(0);
+        if (store instanceof ColumnarExpenseList columns) {
+            amountCents = columns.getAmountCents(slot);
+            category = columns.getCategory(slot);
+            isMarked = columns.isMarked(slot);
+            columns.appendDescription(slot, description);
+        } else {
+            Expense expense = (store instanceof MappedExpenseList mapped) ? mapped.peek(slot) : store.get(slot);
+            amountCents = expense.getAmountCents();
+            category = expense.getCategory();
+            isMarked = expense.isMarked();
+            description.append(expense.getDescription());
+        }
+
+        if (format == Format.CSV) {
+            Money.appendTo(pending, amountCents).append(',');
+            appendCsvField(description);
+            pending.append(',');
+            appendCsvField(category);
+            pending.append(',').append(isMarked).append('\n');
+        } else {
+            Money.appendTo(pending.append("{\"amount\":"), amountCents);
+            appendJsonString(pending.append(",\"description\":"), description);
+            appendJsonString(pending.append(",\"category\":"), category);
+            pending.append(",\"marked\":").append(isMarked).append("}\n");
+        }
+        if (pending.length() >= FLUSH_CHARS) {
+            flushPending();
+        }
+    }
+
+    private void appendCsvField(CharSequence value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r' || i == 0 && c == ' ';
+        }
+        if (!needsQuotes) {
+            pending.append(value);
+            return;
+        }
+        pending.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                pending.append('"');
+            }
+            pending.append(c);
+        }
+        pending.append('"');
+    }
+
+    private void appendJsonString(StringBuilder sb, CharSequence value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    private void flushPending() throws IOException {
+        int length = pending.length();
+        if (chars.length < length) {
+            chars = new char[length];
+        }
+        pending.getChars(0, length, chars, 0);
+        out.write(chars, 0, length);
+        pending.setLength(0);
+    }
+}
@@ -0,0 +1,414 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.util.BitSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only write-ahead journal of changes made to an {@link ExpenseManager}.
+ * <p>
+ * Instead of re-serializing the whole ledger after every command, each mutation
+ * (add, delete, replace, mark, unmark, set budget, and their bulk forms) is encoded as a small binary
+ * record. Records are buffered in memory and appended to the journal file when
+ * {@link StorageManager} saves. On load, the journal is replayed on top of the
+ * last full snapshot.
+ * <p>
+ * File layout:
+ * <pre>
+ * [int MAGIC][short VERSION][long generation]   header
+ * [byte opcode][payload...]                      repeated records
+ * </pre>
+ * The header {@code generation} must match the generation stored with the snapshot;
+ * a journal left over from an older snapshot is ignored rather than replayed twice.
+ * Amounts are written as {@code long} cents.
+ */
+public class ExpenseJournal {
+    private static final Logger LOGGER = Logger.getLogger(ExpenseJournal.class.getName());
+
+    static final int MAGIC = 0x4F43424A; // "OCBJ"
+    static final short VERSION = 1;
+
+    private static final byte OP_ADD = 1;
+    private static final byte OP_DELETE = 2;
+    private static final byte OP_REPLACE = 3;
+    private static final byte OP_MARK = 4;
+    private static final byte OP_UNMARK = 5;
+    private static final byte OP_SET_BUDGET = 6;
+    private static final byte OP_DELETE_ALL = 7;
+    private static final byte OP_MARK_ALL = 8;
+    private static final byte OP_UNMARK_ALL = 9;
+
+    private final long generation;
+    private final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pending = new DataOutputStream(pendingBytes);
+    private int pendingCount = 0;
+    private int recordsSinceSnapshot;
+
+    /**
+     * Creates a journal bound to the snapshot with the given generation.
+     *
+     * @param generation           generation of the snapshot this journal extends
+     * @param recordsSinceSnapshot number of records already on disk for this generation
+     */
+    public ExpenseJournal(long generation, int recordsSinceSnapshot) {
+        this.generation = generation;
+        this.recordsSinceSnapshot = recordsSinceSnapshot;
+    }
+
+    /**
+     * Returns the snapshot generation this journal extends.
+     *
+     * @return the snapshot generation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of records written or pending since the last snapshot.
+     *
+     * @return total journal length in records
+     */
+    public int getRecordCount() {
+        return recordsSinceSnapshot + pendingCount;
+    }
+
+    /**
+     * Returns whether there are buffered records that have not been written yet.
+     *
+     * @return {@code true} if {@link #drainPending()} would return any records
+     */
+    public boolean hasPendingRecords() {
+        return pendingCount > 0;
+    }
+
+    // ========== Recording ==========
+
+    void recordAdd(Expense expense) {
+        try {
+            pending.writeByte(OP_ADD);
+            writeExpense(expense);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount++;
+    }
+
+    void recordDelete(int index) {
+        recordIndexOperation(OP_DELETE, index);
+    }
+
+    void recordDeleteAll(BitSet indices) {
+        recordIndexRunOperation(OP_DELETE_ALL, indices);
+    }
+
+    void recordReplace(int index, Expense expense) {
+        try {
+            pending.writeByte(OP_REPLACE);
+            pending.writeInt(index);
+            writeExpense(expense);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount++;
+    }
+
+    void recordMark(int index) {
+        recordIndexOperation(OP_MARK, index);
+    }
+
+    void recordUnmark(int index) {
+        recordIndexOperation(OP_UNMARK, index);
+    }
+
+    void recordMarkAll(BitSet indices) {
+        recordIndexRunOperation(OP_MARK_ALL, indices);
+    }
+
+    void recordUnmarkAll(BitSet indices) {
+        recordIndexRunOperation(OP_UNMARK_ALL, indices);
+    }
+
+    void recordSetBudget(long budgetCents) {
+        try {
+            pending.writeByte(OP_SET_BUDGET);
+            pending.writeLong(budgetCents);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount++;
+    }
+
+    private void recordIndexOperation(byte opcode, int index) {
+        try {
+            pending.writeByte(opcode);
+            pending.writeInt(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount++;
+    }
+
+    /**
+     * Records an operation on many indices as runs of consecutive indices, so a range
+     * costs eight bytes however many expenses it covers.
+     */
+    private void recordIndexRunOperation(byte opcode, BitSet indices) {
+        try {
+            pending.writeByte(opcode);
+            ByteArrayOutputStream runBytes = new ByteArrayOutputStream();
+            DataOutputStream runs = new DataOutputStream(runBytes);
+            int runCount = 0;
+            int first = indices.nextSetBit(0);
+            while (first >= 0) {
+                int end = indices.nextClearBit(first);
+                runs.writeInt(first);
+                runs.writeInt(end - first);
+                runCount++;
+                first = indices.nextSetBit(end);
+            }
+            pending.writeInt(runCount);
+            runBytes.writeTo(pending);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pendingCount++;
+    }
+
+    private void writeExpense(Expense expense) throws IOException {
+        pending.writeLong(expense.getAmountCents());
+        pending.writeUTF(expense.getDescription());
+        pending.writeUTF(expense.getCategory());
+    }
+
+    // ========== File operations ==========
+
+    /**
+     * Hands over all buffered records as encoded bytes, counting them as written.
+     * The caller becomes responsible for appending them to the journal file,
+     * which lets the write happen off the command thread.
+     *
+     * @return the encoded records, possibly empty
+     */
+    byte[] drainPending() {
+        byte[] records = pendingBytes.toByteArray();
+        recordsSinceSnapshot += pendingCount;
+        pendingBytes.reset();
+        pendingCount = 0;
+        return records;
+    }
+
+    /**
+     * Appends already-encoded records to the journal file and forces them to the device.
+     *
+     * @param file    the journal file, which must already carry a header
+     * @param records the encoded records
+     * @throws IOException if writing fails
+     */
+    static void append(File file, byte[] records) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(records);
+            out.getChannel().force(false);
+        }
+    }
+
+    /**
+     * Truncates the journal file and writes a fresh header for {@code generation}.
+     *
+     * @param file       the journal file
+     * @param generation the snapshot generation the new journal extends
+     * @throws IOException if the file cannot be written
+     */
+    static void reset(File file, long generation) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file, false))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(generation);
+        }
+    }
+
+    /**
+     * Reads the generation stored in a journal header.
+     *
+     * @param file the journal file
+     * @return the header generation, or {@code -1} if the file is missing or unreadable
+     */
+    static long readGeneration(File file) {
+        if (!file.exists()) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                return -1;
+            }
+            return in.readLong();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Replays all complete records in {@code file} against {@code manager}.
+     * <p>
+     * Replay stops at the first truncated or invalid record; the file is then
+     * cut back to the last good record so later appends stay readable.
+     *
+     * @param file       the journal file
+     * @param manager    the manager loaded from the matching snapshot; must have no journal attached
+     * @param generation the generation of that snapshot
+     * @return the number of records applied, or {@code -1} if the journal does not belong to the snapshot
+     * @throws IOException if the file cannot be read
+     */
+    static int replay(File file, ExpenseManager manager, long generation) throws IOException {
+        assert manager.getJournal() == null : "Replaying must not record new journal entries";
+
+        int applied = 0;
+        long validLength;
+        try (CountingInputStream counter = new CountingInputStream(new FileInputStream(file));
+             DataInputStream in = new DataInputStream(counter)) {
+            if (in.readInt() != MAGIC) {
+                return -1;
+            }
+            if (in.readShort() != VERSION || in.readLong() != generation) {
+                return -1;
+            }
+            validLength = counter.position;
+
+            while (true) {
+                int opcode = in.read();
+                if (opcode == -1) {
+                    break;
+                }
+                try {
+                    applyRecord((byte) opcode, in, manager);
+                } catch (EOFException e) {
+                    LOGGER.warning("Journal ends with a partial record; ignoring it");
+                    break;
+                } catch (OrCashBuddyException | IllegalArgumentException e) {
+                    LOGGER.log(Level.WARNING, "Journal record could not be applied; stopping replay", e);
+                    break;
+                }
+                applied++;
+                validLength = counter.position;
+            }
+        } catch (EOFException e) {
+            return -1;
+        }
+
+        if (validLength < file.length()) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(validLength);
+            }
+        }
+        return applied;
+    }
+
+    private static void applyRecord(byte opcode, DataInputStream in, ExpenseManager manager)
+            throws IOException, OrCashBuddyException {
+        switch (opcode) {
+        case OP_ADD:
+            manager.addExpense(readExpense(in));
+            break;
+        case OP_DELETE:
+            manager.deleteExpense(in.readInt());
+            break;
+        case OP_DELETE_ALL:
+            manager.deleteExpenses(readIndexRuns(in));
+            break;
+        case OP_MARK_ALL:
+            manager.markExpenses(readIndexRuns(in));
+            break;
+        case OP_UNMARK_ALL:
+            manager.unmarkExpenses(readIndexRuns(in));
+            break;
+        case OP_REPLACE:
+            int index = in.readInt();
+            manager.replaceExpense(index, readExpense(in));
+            break;
+        case OP_MARK:
+            manager.markExpense(in.readInt());
+            break;
+        case OP_UNMARK:
+            manager.unmarkExpense(in.readInt());
+            break;
+        case OP_SET_BUDGET:
+            manager.setBudget(in.readLong());
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown journal opcode: " + opcode);
+        }
+    }
+
+    private static BitSet readIndexRuns(DataInputStream in) throws IOException {
+        BitSet indices = new BitSet();
+        int runCount = in.readInt();
+        for (int i = 0; i < runCount; i++) {
+            int first = in.readInt();
+            int length = in.readInt();
+            if (first < 1 || length < 1 || first > Integer.MAX_VALUE - length) {
+                throw new IllegalArgumentException("Invalid index run in journal: " + first + "+" + length);
+            }
+            indices.set(first, first + length);
+        }
+        return indices;
+    }
+
+    private static Expense readExpense(DataInputStream in) throws IOException {
+        long amountCents = in.readLong();
+        String description = in.readUTF();
+        String category = in.readUTF();
+        return new Expense(amountCents, description, category);
+    }
+
+    /**
+     * Input stream wrapper that tracks how many bytes have been consumed,
+     * so replay knows where the last complete record ended.
+     */
+    private static class CountingInputStream extends BufferedInputStream {
+        private long position = 0;
+
+        CountingInputStream(FileInputStream in) {
+            super(in);
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                position++;
+            }
+            return b;
+        }
+
+        @Override
+        public synchronized int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                position += n;
+            }
+            return n;
+        }
+
+        @Override
+        public synchronized long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            position += skipped;
+            return skipped;
+        }
+    }
+}
@@ -3,12 +3,23 @@ package seedu.orcashbuddy.storage;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
 
+import seedu.orcashbuddy.expense.Money;
+import seedu.orcashbuddy.logging.OrCashBuddyLogger;
+import seedu.orcashbuddy.metrics.CompactionEvent;
+import seedu.orcashbuddy.metrics.FlightEvents;
+import seedu.orcashbuddy.metrics.IndexBuildEvent;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Central data model for orCASHbuddy.
@@ -26,6 +37,7 @@ import java.util.logging.Logger;
  *   <li>{@code totalExpenses} is the sum of amounts of all <b>marked</b> expenses.</li>
  *   <li>{@code remainingBalance} is always {@code budget - totalExpenses}.</li>
  *   <li>All user-facing indexes are 1-based (the first expense is index 1).</li>
+ *   <li>All amounts are kept in cents (see {@link Money}), so totals are exact.</li>
  * </ul>
  *
  * <p>Responsibilities:
@@ -40,52 +52,150 @@ import java.util.logging.Logger;
 public class ExpenseManager implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
-    private static final Logger LOGGER = Logger.getLogger(ExpenseManager.class.getName());
-    private static final double BUDGET_ALERT_THRESHOLD = 10.0;
+    private static final OrCashBuddyLogger LOGGER = OrCashBuddyLogger.getLogger(ExpenseManager.class);
+    private static final long BUDGET_ALERT_THRESHOLD_CENTS = 1000;
+    //@@author aydrienlaw
+    /** Fields of the legacy serialized form, which stored amounts in dollars as doubles. */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("expenses", List.class),
+        new ObjectStreamField("budget", double.class),
+        new ObjectStreamField("totalExpenses", double.class),
+        new ObjectStreamField("remainingBalance", double.class),
+    };
+
+    /**
+     * Whether expenses are kept in a {@link ColumnarExpenseList} rather than an {@link ArrayList},
+     * set with {@code -Dorcashbuddy.store=columnar}. The columnar store uses far less memory per
+     * expense.
+     */
+    private static final boolean IS_COLUMNAR_STORE = "columnar".equals(System.getProperty("orcashbuddy.store"));
 
+    /**
+     * Largest fraction (one in this many) of the ledger that {@link #sortExpenses(int, int)}
+     * picks out with a bounded heap rather than by building the amount index.
+     */
+    private static final int TOP_K_SELECTION_RATIO = 8;
+
+    /**
+     * Largest fraction (one in this many) of the ledger that {@link #deleteExpenses(BitSet)}
+     * removes from the secondary indexes one expense at a time; deleting more drops the
+     * indexes, to be rebuilt on next use.
+     */
+    private static final int BULK_DELETE_UNINDEX_RATIO = 1024;
+
+    //@@author
     // ========== State ==========
-    private final List<Expense> expenses;
-    private double budget = 0.0;
-    private double totalExpenses = 0.0;
-    private double remainingBalance = 0.0;
+    // Not final only so that readObject can restore it
+    private SlottedExpenseList expenses;
+    private long budgetCents = 0;
+    private long totalExpensesCents = 0;
+    private long remainingBalanceCents = 0;
+    private transient ExpenseJournal journal;
+    //@@author aydrienlaw
+    /** Category id to slots; built on the first category search, then kept up to date. */
+    private transient CategoryIndex categoryIndex;
+    /** Description trigrams to expenses; built on the first description search, then kept up to date. */
+    private transient DescriptionIndex descriptionIndex;
+    /** Amounts in descending order; built on the first sort, then kept up to date. */
+    private transient AmountIndex amountIndex;
+    /** The {@link SlottedExpenseList#getSlotGeneration() slot generation} the indexes were built for. */
+    private transient int indexedSlotGeneration;
+    //@@author
 
     /**
      * Constructs a new, empty ExpenseManager with no expenses
      * and a budget of 0.
      */
     public ExpenseManager() {
-        this.expenses = new ArrayList<>();
+        this.expenses = new SlottedExpenseList(newExpenseList(0));
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Rebuilds a manager from saved state. The totals are taken as saved rather than
+     * recomputed, so they match the saved ledger exactly.
+     *
+     * @param expenses              the saved expenses; the list is used directly, not copied
+     * @param budgetCents           the saved budget, in cents
+     * @param totalExpensesCents    the saved total of marked expenses, in cents
+     * @param remainingBalanceCents the saved remaining balance, in cents
+     */
+    ExpenseManager(List<Expense> expenses, long budgetCents, long totalExpensesCents, long remainingBalanceCents) {
+        this.expenses = expenses instanceof SlottedExpenseList slotted ? slotted : new SlottedExpenseList(expenses);
+        this.budgetCents = budgetCents;
+        this.totalExpensesCents = totalExpensesCents;
+        this.remainingBalanceCents = remainingBalanceCents;
+    }
+
+    /**
+     * Creates an empty list of the configured store type to hold expenses.
+     *
+     * @param capacity the number of expenses to reserve room for
+     * @return a new, empty list
+     */
+    static List<Expense> newExpenseList(int capacity) {
+        return IS_COLUMNAR_STORE ? new ColumnarExpenseList(capacity) : new ArrayList<>(capacity);
     }
 
     // ========== Getters ==========
+    /**
+     * Returns the current budget amount in cents.
+     *
+     * @return the user's budget in cents
+     */
+    public long getBudgetCents() {
+        return budgetCents;
+    }
+
+    /**
+     * Returns the total money currently counted as "spent", in cents.
+     * This is the sum of all expenses that are marked.
+     *
+     * @return total of all marked expenses in cents
+     */
+    public long getTotalExpensesCents() {
+        return totalExpensesCents;
+    }
+
+    /**
+     * Returns the remaining balance in the budget, in cents.
+     * This is {@code budget - totalExpenses}.
+     *
+     * @return remaining balance in cents (may be negative if overspent)
+     */
+    public long getRemainingBalanceCents() {
+        return remainingBalanceCents;
+    }
+
     //@@author gumingyoujia
     /**
-     * Returns the current budget amount.
+     * Returns the current budget amount in dollars.
      *
      * @return the user's budget
      */
     public double getBudget() {
-        return budget;
+        return Money.toDollars(budgetCents);
     }
 
     /**
-     * Returns the total money currently counted as "spent".
+     * Returns the total money currently counted as "spent", in dollars.
      * This is the sum of all expenses that are marked.
      *
      * @return total of all marked expenses
      */
     public double getTotalExpenses() {
-        return totalExpenses;
+        return Money.toDollars(totalExpensesCents);
     }
 
     /**
-     * Returns the remaining balance in the budget.
+     * Returns the remaining balance in the budget, in dollars.
      * This is {@code budget - totalExpenses}.
      *
      * @return remaining balance (may be negative if overspent)
      */
     public double getRemainingBalance() {
-        return remainingBalance;
+        return Money.toDollars(remainingBalanceCents);
     }
 
     //@@author
@@ -111,6 +221,106 @@ public class ExpenseManager implements Serializable {
         return expenses;
     }
 
+    //@@author aydrienlaw
+    /**
+     * Returns the store behind the expense list, including any deleted expenses not yet
+     * compacted away.
+     *
+     * @return the underlying store
+     */
+    List<Expense> getStore() {
+        return expenses.store();
+    }
+
+    /**
+     * Returns the expense list with its slots, for readers that walk the store directly.
+     *
+     * @return the slotted expense list
+     */
+    SlottedExpenseList getExpenseSlots() {
+        return expenses;
+    }
+
+    /**
+     * Returns the stable id of the expense at the given position. The id stays the same
+     * while other expenses are added or deleted, for as long as the application runs.
+     *
+     * @param index the 1-based index of the expense (as shown in 'list')
+     * @return its id
+     * @throws OrCashBuddyException if the index is out of range
+     */
+    public int getExpenseId(int index) throws OrCashBuddyException {
+        validateIndex(index);
+        return expenses.getId(index - 1);
+    }
+
+    /**
+     * Returns the current position of the expense with the given id, in {@code O(log n)}.
+     *
+     * @param id an id returned by {@link #getExpenseId(int)}
+     * @return its 1-based index, or 0 if the expense has been deleted
+     */
+    public int indexOfExpenseId(int id) {
+        int slot = expenses.slotOfId(id);
+        return slot == SlottedExpenseList.NO_SLOT ? 0 : expenses.indexOfSlot(slot) + 1;
+    }
+
+    /**
+     * Returns the expense with the given id, in {@code O(1)}.
+     *
+     * @param id an id returned by {@link #getExpenseId(int)}
+     * @return the expense, or {@code null} if it has been deleted
+     */
+    public Expense getExpenseById(int id) {
+        int slot = expenses.slotOfId(id);
+        return slot == SlottedExpenseList.NO_SLOT ? null : expenses.getAtSlot(slot);
+    }
+
+    /**
+     * Returns the journal that records changes to this manager, if any.
+     *
+     * @return the attached journal, or {@code null} if changes are not being journaled
+     */
+    ExpenseJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Attaches a journal that every subsequent mutation is recorded into.
+     * Passing {@code null} stops journaling (used while replaying a journal).
+     *
+     * @param journal the journal to record into, or {@code null}
+     */
+    void attachJournal(ExpenseJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Returns an independent copy of this manager's persisted state, without a journal.
+     * Expenses are copied too, since marking mutates them in place; the copy can
+     * therefore be written to disk from another thread while this manager keeps changing.
+     *
+     * @return a deep copy of this manager
+     */
+    ExpenseManager copy() {
+        List<Expense> expensesCopy;
+        if (expenses.store() instanceof ColumnarExpenseList columns && !expenses.hasTombstones()) {
+            expensesCopy = columns.copy();
+        } else {
+            expensesCopy = new ArrayList<>(expenses.size());
+            for (Expense expense : expenses) {
+                Expense expenseCopy = new Expense(expense.getAmountCents(), expense.getDescription(),
+                        expense.getCategory());
+                if (expense.isMarked()) {
+                    expenseCopy.mark();
+                }
+                expensesCopy.add(expenseCopy);
+            }
+        }
+        return new ExpenseManager(expenses.copyWith(expensesCopy), budgetCents, totalExpensesCents,
+                remainingBalanceCents);
+    }
+
     // ========== Expense Operations ==========
 
     //@@author limzerui
@@ -124,9 +334,63 @@ public class ExpenseManager implements Serializable {
         validateExpense(expense);
 
         expenses.add(expense);
-        LOGGER.log(Level.INFO, "Added expense amount={0}, desc={1}, category={2}",
-                new Object[]{expense.getAmount(), expense.getDescription(), expense.getCategory()});
-        LOGGER.fine(() -> "Expense list size is now " + expenses.size());
+        indexExpense(expenses.slotCount() - 1, expense);
+        if (journal != null) {
+            journal.recordAdd(expense);
+        }
+        LOGGER.log(Level.INFO, "Added expense amount={0} cents, desc={1}, category={2}",
+                expense.getAmountCents(), expense.getDescription(), expense.getCategory());
+        LOGGER.log(Level.FINE, "Expense list size is now {0}", expenses.size());
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Appends a batch of expenses in order, keeping any that are already marked marked.
+     * <p>
+     * The totals are updated once for the whole batch, by the sum of its marked amounts,
+     * rather than once per expense. Nothing is added if any expense is invalid.
+     * <p>
+     * A batch that would take the journal to {@link StorageManager#SNAPSHOT_INTERVAL} records
+     * is not journaled: the journal is detached instead, so the next save writes a snapshot
+     * without first buffering a serialized copy of every expense in the batch.
+     *
+     * @param batch the expenses to add
+     * @throws IllegalArgumentException if an expense is null or invalid
+     */
+    public void addExpenses(List<Expense> batch) {
+        for (Expense expense : batch) {
+            validateExpense(expense);
+        }
+        if (journal != null && journal.getRecordCount() + batch.size() >= StorageManager.SNAPSHOT_INTERVAL) {
+            attachJournal(null);
+        }
+
+        int firstIndex = expenses.size() + 1;
+        BitSet markedIndices = new BitSet();
+        long markedCents = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Expense expense = batch.get(i);
+            expenses.add(expense);
+            indexExpense(expenses.slotCount() - 1, expense);
+            if (journal != null) {
+                journal.recordAdd(expense);
+            }
+            if (expense.isMarked()) {
+                markedIndices.set(firstIndex + i);
+                markedCents += expense.getAmountCents();
+            }
+        }
+
+        if (!markedIndices.isEmpty()) {
+            totalExpensesCents += markedCents;
+            recalculateRemainingBalance();
+            // Journalled adds replay unmarked, so the marks follow as one record
+            if (journal != null) {
+                journal.recordMarkAll(markedIndices);
+            }
+        }
+        LOGGER.log(Level.INFO, "Added {0} expenses, {1} of them marked",
+                batch.size(), markedIndices.cardinality());
     }
 
     //@@author saheer17
@@ -143,20 +407,76 @@ public class ExpenseManager implements Serializable {
     public Expense deleteExpense(int index) throws OrCashBuddyException {
         validateIndex(index);
 
-        Expense removedExpense = expenses.remove(index - 1);
-        assert removedExpense != null : "Removed expense should not be null";
-
-        // Rebalance if a marked expense was deleted
-        if (removedExpense.isMarked()) {
-            updateBudgetAfterUnmark(removedExpense);
-            assert totalExpenses >= 0 : "Total expenses became negative after deletion";
+        Expense removedExpense = removeExpenseAt(index);
+        if (journal != null) {
+            journal.recordDelete(index);
         }
 
         LOGGER.log(Level.INFO, "Deleted expense at index {0}: {1}",
-                    new Object[]{index, removedExpense.getDescription()});
+                    index, removedExpense.getDescription());
         return removedExpense;
     }
 
+    //@@author aydrienlaw
+    /**
+     * Deletes the expenses at all the given positions at once. The positions refer to the
+     * list as it was before any of them was deleted, and are all checked before anything
+     * is deleted.
+     * <p>
+     * The deleted expenses are tombstoned in one pass and the budget totals are adjusted
+     * once, by the sum of the marked ones among them.
+     *
+     * @param indices the 1-based indices of the expenses to delete; must not be empty
+     * @return the deleted expenses, in list order
+     * @throws OrCashBuddyException if any index is out of range
+     */
+    public List<Expense> deleteExpenses(BitSet indices) throws OrCashBuddyException {
+        if (indices.isEmpty()) {
+            throw new IllegalArgumentException("Indices to delete must not be empty");
+        }
+        validateIndex(indices.nextSetBit(0));
+        validateIndex(indices.length() - 1);
+
+        checkIndexedSlotGeneration();
+        int[] slots = new int[indices.cardinality()];
+        List<Expense> removedExpenses = new ArrayList<>(slots.length);
+        int filled = 0;
+        for (int index = indices.nextSetBit(0); index >= 0; index = indices.nextSetBit(index + 1)) {
+            slots[filled] = expenses.slotOf(index - 1);
+            removedExpenses.add(expenses.getAtSlot(slots[filled]));
+            filled++;
+        }
+        if ((long) slots.length * BULK_DELETE_UNINDEX_RATIO > expenses.size()) {
+            categoryIndex = null;
+            descriptionIndex = null;
+            amountIndex = null;
+        } else {
+            for (int i = 0; i < slots.length; i++) {
+                unindexExpense(slots[i], removedExpenses.get(i));
+            }
+        }
+        expenses.removeSlots(slots);
+        compactIfWasteful();
+
+        long removedMarkedCents = 0;
+        for (Expense removedExpense : removedExpenses) {
+            if (removedExpense.isMarked()) {
+                removedMarkedCents += removedExpense.getAmountCents();
+            }
+        }
+        if (removedMarkedCents > 0) {
+            totalExpensesCents -= removedMarkedCents;
+            recalculateRemainingBalance();
+            assert totalExpensesCents >= 0 : "Total expenses became negative after deletion";
+        }
+        if (journal != null) {
+            journal.recordDeleteAll(indices);
+        }
+
+        LOGGER.log(Level.INFO, "Deleted {0} expenses", slots.length);
+        return removedExpenses;
+    }
+
     //@@author gumingyoujia
     /**
      * Returns the expense at the given position.
@@ -190,13 +510,23 @@ public class ExpenseManager implements Serializable {
 
         LOGGER.log(Level.INFO, "Replacing expense at index {0}", index);
 
-        Expense removedExpense = deleteExpense(index);
-        expenses.add(index - 1, newExpense);
-
+        Expense removedExpense = expenses.get(index - 1);
         if (removedExpense.isMarked()) {
             newExpense.mark();
+        }
+        // Replacing in place keeps the expense's slot and id
+        int slot = expenses.slotOf(index - 1);
+        expenses.set(index - 1, newExpense);
+        unindexExpense(slot, removedExpense);
+        indexExpense(slot, newExpense);
+        rebalanceAfterRemoval(removedExpense);
+        if (removedExpense.isMarked()) {
             updateBudgetAfterUnmark(removedExpense);
         }
+
+        if (journal != null) {
+            journal.recordReplace(index, newExpense);
+        }
     }
 
     //@@author muadzyamani
@@ -218,8 +548,13 @@ public class ExpenseManager implements Serializable {
         Expense expense = expenses.get(index - 1);
         if (!expense.isMarked()) {
             expense.mark();
+            // Columnar stores hand out copies, so the change has to be written back
+            expenses.set(index - 1, expense);
             updateBudgetAfterMark(expense);
         }
+        if (journal != null) {
+            journal.recordMark(index);
+        }
 
         return expense;
     }
@@ -242,28 +577,68 @@ public class ExpenseManager implements Serializable {
         Expense expense = expenses.get(index - 1);
         if (expense.isMarked()) {
             expense.unmark();
+            expenses.set(index - 1, expense);
             updateBudgetAfterUnmark(expense);
         }
+        if (journal != null) {
+            journal.recordUnmark(index);
+        }
 
         return expense;
     }
 
+    //@@author aydrienlaw
+    /**
+     * Marks every expense at the given positions as paid, in one pass that adds the
+     * newly marked amounts to {@code totalExpenses} once. All indices are checked first.
+     *
+     * @param indices the 1-based indices of the expenses to mark; must not be empty
+     * @return the number of expenses that were not already marked
+     * @throws OrCashBuddyException if any index is out of range
+     */
+    public int markExpenses(BitSet indices) throws OrCashBuddyException {
+        int changedCount = setMarked(indices, true);
+        if (journal != null) {
+            journal.recordMarkAll(indices);
+        }
+        return changedCount;
+    }
+
+    /**
+     * Unmarks every expense at the given positions, in one pass that subtracts the
+     * newly unmarked amounts from {@code totalExpenses} once. All indices are checked first.
+     *
+     * @param indices the 1-based indices of the expenses to unmark; must not be empty
+     * @return the number of expenses that were marked before
+     * @throws OrCashBuddyException if any index is out of range
+     */
+    public int unmarkExpenses(BitSet indices) throws OrCashBuddyException {
+        int changedCount = setMarked(indices, false);
+        if (journal != null) {
+            journal.recordUnmarkAll(indices);
+        }
+        return changedCount;
+    }
+
     // ========== Budget Operations ==========
 
     //@@author aydrienlaw
     /**
      * Sets the user's budget and recalculates {@code remainingBalance}.
      *
-     * @param budget the new budget amount (must be > 0)
-     * @throws AssertionError if {@code budget <= 0}
+     * @param budgetCents the new budget amount in cents (must be > 0)
+     * @throws AssertionError if {@code budgetCents <= 0}
      */
-    public void setBudget(double budget) {
-        assert budget > 0.0 : "Budget must be positive";
+    public void setBudget(long budgetCents) {
+        assert budgetCents > 0 : "Budget must be positive";
 
-        this.budget = budget;
+        this.budgetCents = budgetCents;
         recalculateRemainingBalance();
+        if (journal != null) {
+            journal.recordSetBudget(budgetCents);
+        }
 
-        LOGGER.log(Level.INFO, "Budget set to {0}", budget);
+        LOGGER.log(Level.INFO, "Budget set to {0} cents", budgetCents);
     }
 
     //@@author gumingyoujia
@@ -274,11 +649,11 @@ public class ExpenseManager implements Serializable {
      * @return a {@link BudgetStatus} value such as OK, NEAR, EQUAL, or EXCEEDED
      */
     public BudgetStatus determineBudgetStatus() {
-        if (remainingBalance < 0) {
+        if (remainingBalanceCents < 0) {
             return BudgetStatus.EXCEEDED;
-        } else if (remainingBalance == 0) {
+        } else if (remainingBalanceCents == 0) {
             return BudgetStatus.EQUAL;
-        } else if (remainingBalance < BUDGET_ALERT_THRESHOLD) {
+        } else if (remainingBalanceCents < BUDGET_ALERT_THRESHOLD_CENTS) {
             return BudgetStatus.NEAR;
         }
         return BudgetStatus.OK;
@@ -300,12 +675,45 @@ public class ExpenseManager implements Serializable {
         }
 
         LOGGER.info("Sorting expenses by amount in descending order");
-        List<Expense> sortedExpenses = new ArrayList<>(expenses);
-        sortedExpenses.sort((e1, e2) -> Double.compare(e2.getAmount(), e1.getAmount()));
+        List<Expense> sortedExpenses = selectExpenses(getAmountIndex().slotsByAmountDescending());
         assert sortedExpenses.size() == expenses.size() : "Sorted expenses size should match original expenses size";
         return sortedExpenses;
     }
 
+    //@@author aydrienlaw
+    /**
+     * Returns one page of the expenses in the order of {@link #sortExpenses()}: up to
+     * {@code limit} expenses starting from the one ranked {@code offset}.
+     * <p>
+     * Once the amount index exists, only the requested ranks are visited. Before that, a
+     * page near the top is picked out with a bounded heap instead of sorting everything;
+     * deeper pages build the index.
+     *
+     * @param offset the 0-based rank of the first expense to return
+     * @param limit  the maximum number of expenses to return
+     * @return the expenses on that page, possibly none
+     * @throws IllegalArgumentException if {@code offset} is negative or {@code limit} is not positive
+     */
+    public List<Expense> sortExpenses(int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative and limit must be positive");
+        }
+        int end = (int) Math.min((long) offset + limit, expenses.size());
+        if (offset >= end) {
+            return new ArrayList<>();
+        }
+
+        LOGGER.log(Level.INFO, "Sorting expenses ranked {0} to {1} by amount", offset + 1, end);
+        int[] slots;
+        if (getBuiltAmountIndex() == null && end <= expenses.size() / TOP_K_SELECTION_RATIO) {
+            int[] top = AmountIndex.selectTopSlots(expenses, end);
+            slots = Arrays.copyOfRange(top, offset, end);
+        } else {
+            slots = getAmountIndex().slotsByAmountDescending(offset, end - offset);
+        }
+        return selectExpenses(slots);
+    }
+
     // ========== Search Operations ==========
 
     //@@author muadzyamani
@@ -319,17 +727,10 @@ public class ExpenseManager implements Serializable {
     public List<Expense> findExpensesByCategory(String category) {
         validateSearchTerm(category, "Category");
 
-        String searchTerm = category.toLowerCase().trim();
-        List<Expense> foundExpenses = new ArrayList<>();
-
-        for (Expense expense : expenses) {
-            if (expense.getCategory().toLowerCase().contains(searchTerm)) {
-                foundExpenses.add(expense);
-            }
-        }
+        List<Expense> foundExpenses = selectExpenses(findSlotsByCategory(category.toLowerCase().trim()));
 
         LOGGER.log(Level.INFO, "Found {0} expenses matching category: {1}",
-                new Object[]{foundExpenses.size(), category});
+                foundExpenses.size(), category);
 
         return foundExpenses;
     }
@@ -344,23 +745,346 @@ public class ExpenseManager implements Serializable {
     public List<Expense> findExpensesByDescription(String keyword) {
         validateSearchTerm(keyword, "Keyword");
 
-        String searchTerm = keyword.toLowerCase().trim();
-        List<Expense> foundExpenses = new ArrayList<>();
-
-        for (Expense expense : expenses) {
-            if (expense.getDescription().toLowerCase().contains(searchTerm)) {
-                foundExpenses.add(expense);
-            }
-        }
+        List<Expense> foundExpenses = selectExpenses(findSlotsByDescription(keyword.toLowerCase().trim()));
 
         LOGGER.log(Level.INFO, "Found {0} expenses matching description: {1}",
-                new Object[]{foundExpenses.size(), keyword});
+                foundExpenses.size(), keyword);
 
         return foundExpenses;
     }
 
+    //@@author aydrienlaw
+    /**
+     * Returns the indices of the expenses {@link #findExpensesByCategory(String)} would find,
+     * for commands that change every match.
+     *
+     * @param category the category substring to match
+     * @return the 1-based indices of all matching expenses
+     * @throws IllegalArgumentException if {@code category} is null or blank
+     */
+    public BitSet findIndicesByCategory(String category) {
+        validateSearchTerm(category, "Category");
+        return indicesOfSlots(findSlotsByCategory(category.toLowerCase().trim()));
+    }
+
+    /**
+     * Returns the indices of the expenses {@link #findExpensesByDescription(String)} would find,
+     * for commands that change every match.
+     *
+     * @param keyword the search substring
+     * @return the 1-based indices of all matching expenses
+     * @throws IllegalArgumentException if {@code keyword} is null or blank
+     */
+    public BitSet findIndicesByDescription(String keyword) {
+        validateSearchTerm(keyword, "Keyword");
+        return indicesOfSlots(findSlotsByDescription(keyword.toLowerCase().trim()));
+    }
+
     // ========== Private Helper Methods ==========
 
+    //@@author aydrienlaw
+    /**
+     * Returns the expenses in the given slots, in the given order.
+     *
+     * @param slots live slots of the expense list
+     * @return the expenses in those slots
+     */
+    private List<Expense> selectExpenses(int[] slots) {
+        List<Expense> selected = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            selected.add(expenses.getAtSlot(slot));
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the slots of the expenses whose category contains {@code searchTerm}.
+     *
+     * @param searchTerm the lower-case, trimmed text to look for
+     * @return the matching slots, in list order
+     */
+    private int[] findSlotsByCategory(String searchTerm) {
+        // Match each distinct category once, then look up its expenses in the index
+        BitSet matchingIds = CategoryDictionary.getInstance().findIdsContaining(searchTerm);
+        return matchingIds.isEmpty() ? new int[0] : getCategoryIndex().find(matchingIds);
+    }
+
+    /**
+     * Returns the slots of the expenses whose description contains {@code searchTerm}.
+     *
+     * @param searchTerm the lower-case, trimmed text to look for
+     * @return the matching slots, in list order
+     */
+    private int[] findSlotsByDescription(String searchTerm) {
+        int[] candidates = getDescriptionIndex().findCandidates(searchTerm);
+        if (candidates == null && expenses.store() instanceof ColumnarExpenseList columns) {
+            // The columnar scan matches in full, but also reports deleted expenses' slots
+            candidates = columns.findByDescription(searchTerm);
+            int liveCount = 0;
+            for (int slot : candidates) {
+                if (expenses.isLiveSlot(slot)) {
+                    candidates[liveCount++] = slot;
+                }
+            }
+            return Arrays.copyOf(candidates, liveCount);
+        }
+
+        int[] matches = new int[candidates == null ? expenses.size() : candidates.length];
+        int matchCount = 0;
+        if (candidates != null) {
+            // The index only narrows the search; each candidate is still checked in full
+            for (int slot : candidates) {
+                if (expenses.getAtSlot(slot).getDescription().toLowerCase().contains(searchTerm)) {
+                    matches[matchCount++] = slot;
+                }
+            }
+        } else {
+            for (int slot = expenses.nextLiveSlot(0); slot != SlottedExpenseList.NO_SLOT;
+                    slot = expenses.nextLiveSlot(slot + 1)) {
+                if (expenses.getAtSlot(slot).getDescription().toLowerCase().contains(searchTerm)) {
+                    matches[matchCount++] = slot;
+                }
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Returns the 1-based indices of the expenses in the given live slots.
+     *
+     * @param slots live slots
+     * @return their indices
+     */
+    private BitSet indicesOfSlots(int[] slots) {
+        BitSet indices = new BitSet();
+        for (int slot : slots) {
+            indices.set(expenses.indexOfSlot(slot) + 1);
+        }
+        return indices;
+    }
+
+    /**
+     * Drops every index if the expense list renumbered its slots behind this manager's back,
+     * as happens when an expense is inserted through {@link #getExpenses()}.
+     */
+    private void checkIndexedSlotGeneration() {
+        if (indexedSlotGeneration != expenses.getSlotGeneration()) {
+            categoryIndex = null;
+            descriptionIndex = null;
+            amountIndex = null;
+            indexedSlotGeneration = expenses.getSlotGeneration();
+        }
+    }
+
+    /**
+     * Returns the category index, building it if there is none yet or if the expense list
+     * was changed directly (through {@link #getExpenses()}) rather than through this manager.
+     *
+     * @return an index of the current expenses
+     */
+    private CategoryIndex getCategoryIndex() {
+        checkIndexedSlotGeneration();
+        if (categoryIndex == null || categoryIndex.size() != expenses.size()) {
+            LOGGER.fine(() -> "Building category index over " + expenses.size() + " expenses");
+            IndexBuildEvent event = FlightEvents.beginIndexBuild();
+            categoryIndex = CategoryIndex.build(expenses);
+            FlightEvents.commitIndexBuild(event, "category", expenses.size());
+        }
+        return categoryIndex;
+    }
+
+    /**
+     * Returns the description index, building it under the same conditions as
+     * {@link #getCategoryIndex()}.
+     *
+     * @return an index of the current expenses
+     */
+    private DescriptionIndex getDescriptionIndex() {
+        checkIndexedSlotGeneration();
+        if (descriptionIndex == null || descriptionIndex.size() != expenses.size()) {
+            LOGGER.fine(() -> "Building description index over " + expenses.size() + " expenses");
+            IndexBuildEvent event = FlightEvents.beginIndexBuild();
+            descriptionIndex = DescriptionIndex.build(expenses);
+            FlightEvents.commitIndexBuild(event, "description", expenses.size());
+        }
+        return descriptionIndex;
+    }
+
+    /**
+     * Returns the amount index, building it under the same conditions as
+     * {@link #getCategoryIndex()}.
+     *
+     * @return an index of the current expenses
+     */
+    private AmountIndex getAmountIndex() {
+        AmountIndex builtIndex = getBuiltAmountIndex();
+        if (builtIndex == null || builtIndex.size() != expenses.size()) {
+            LOGGER.fine(() -> "Building amount index over " + expenses.size() + " expenses");
+            IndexBuildEvent event = FlightEvents.beginIndexBuild();
+            amountIndex = AmountIndex.build(expenses);
+            FlightEvents.commitIndexBuild(event, "amount", expenses.size());
+        }
+        return amountIndex;
+    }
+
+    /**
+     * Returns the amount index if one has been built for the current slots.
+     *
+     * @return the index, or {@code null} if there is none
+     */
+    private AmountIndex getBuiltAmountIndex() {
+        checkIndexedSlotGeneration();
+        return amountIndex;
+    }
+
+    /**
+     * Files {@code expense}, now held in {@code slot}, in any built indexes.
+     *
+     * @param slot    the expense's slot
+     * @param expense the expense
+     */
+    private void indexExpense(int slot, Expense expense) {
+        if (categoryIndex != null) {
+            categoryIndex.insert(slot, expense.getCategoryId());
+        }
+        if (descriptionIndex != null) {
+            descriptionIndex.insert(slot, expense.getDescription());
+        }
+        if (amountIndex != null) {
+            amountIndex.insert(slot, expense.getAmountCents());
+        }
+    }
+
+    /**
+     * Removes {@code expense}, no longer held in {@code slot}, from any built indexes.
+     *
+     * @param slot    the expense's former slot
+     * @param expense the expense
+     */
+    private void unindexExpense(int slot, Expense expense) {
+        if (categoryIndex != null) {
+            categoryIndex.remove(slot, expense.getCategoryId());
+        }
+        if (descriptionIndex != null) {
+            descriptionIndex.remove(slot, expense.getDescription());
+        }
+        if (amountIndex != null) {
+            amountIndex.remove(slot, expense.getAmountCents());
+        }
+    }
+
+    /**
+     * Removes the expense at the given position and rebalances the budget
+     * if it was marked. Does not validate or journal; callers do both.
+     * <p>
+     * The expense only leaves a tombstone in its slot, so no later expense moves; once
+     * tombstones make up most of the store, it is compacted and the indexes follow.
+     *
+     * @param index the 1-based index of the expense to remove
+     * @return the removed expense
+     */
+    private Expense removeExpenseAt(int index) {
+        checkIndexedSlotGeneration();
+        int slot = expenses.slotOf(index - 1);
+        Expense removedExpense = expenses.remove(index - 1);
+        assert removedExpense != null : "Removed expense should not be null";
+        unindexExpense(slot, removedExpense);
+
+        compactIfWasteful();
+
+        rebalanceAfterRemoval(removedExpense);
+        return removedExpense;
+    }
+
+    /**
+     * Sets the marked flag of every expense at the given positions and adjusts the totals
+     * once for those that changed. Does not journal; callers do.
+     *
+     * @param indices  the 1-based indices of the expenses to change
+     * @param isMarked whether they should end up marked
+     * @return the number of expenses whose flag changed
+     * @throws OrCashBuddyException if any index is out of range
+     */
+    private int setMarked(BitSet indices, boolean isMarked) throws OrCashBuddyException {
+        if (indices.isEmpty()) {
+            throw new IllegalArgumentException("Indices to mark or unmark must not be empty");
+        }
+        validateIndex(indices.nextSetBit(0));
+        validateIndex(indices.length() - 1);
+
+        List<Expense> store = expenses.store();
+        int changedCount = 0;
+        long changedCents = 0;
+        for (int index = indices.nextSetBit(0); index >= 0; index = indices.nextSetBit(index + 1)) {
+            int slot = expenses.slotOf(index - 1);
+            if (store instanceof ColumnarExpenseList columns) {
+                // Flip the bit directly rather than building and writing back each expense
+                if (columns.isMarked(slot) != isMarked) {
+                    columns.setMarked(slot, isMarked);
+                    changedCount++;
+                    changedCents += columns.getAmountCents(slot);
+                }
+                continue;
+            }
+            Expense expense = store.get(slot);
+            if (expense.isMarked() != isMarked) {
+                if (isMarked) {
+                    expense.mark();
+                } else {
+                    expense.unmark();
+                }
+                changedCount++;
+                changedCents += expense.getAmountCents();
+            }
+        }
+
+        totalExpensesCents += isMarked ? changedCents : -changedCents;
+        recalculateRemainingBalance();
+        LOGGER.log(Level.INFO, "Set marked={0} on {1} of {2} expenses",
+                Boolean.valueOf(isMarked), changedCount, indices.cardinality());
+        return changedCount;
+    }
+
+    /**
+     * Compacts the expense list if deletions have left it mostly tombstones, moving every
+     * built index onto the new slots.
+     */
+    private void compactIfWasteful() {
+        // Checked first so that the common case, with nothing to compact, creates no event
+        if (!expenses.isWasteful()) {
+            return;
+        }
+        CompactionEvent event = FlightEvents.beginCompaction();
+        int[] newSlots = expenses.compactIfWasteful();
+        assert newSlots != null : "A wasteful list must compact";
+        LOGGER.fine(() -> "Compacted expense list to " + expenses.size() + " expenses");
+        if (categoryIndex != null) {
+            categoryIndex.remap(newSlots);
+        }
+        if (descriptionIndex != null) {
+            descriptionIndex.remap(newSlots);
+        }
+        if (amountIndex != null) {
+            amountIndex.remap(newSlots);
+        }
+        // Every old slot has an entry, so the difference is the tombstones dropped
+        FlightEvents.commitCompaction(event, expenses.size(), newSlots.length - expenses.size());
+    }
+
+    /**
+     * Rebalances the budget if {@code removedExpense}, which has just left the list, was marked.
+     *
+     * @param removedExpense the expense that was removed or replaced
+     */
+    private void rebalanceAfterRemoval(Expense removedExpense) {
+        if (removedExpense.isMarked()) {
+            updateBudgetAfterUnmark(removedExpense);
+            assert totalExpensesCents >= 0 : "Total expenses became negative after deletion";
+        }
+    }
+
+    //@@author muadzyamani
+
     /**
      * Updates budget tracking when an expense is marked as paid.
      * Adds the expense amount to total expenses and recalculates remaining balance.
@@ -370,11 +1094,11 @@ public class ExpenseManager implements Serializable {
     private void updateBudgetAfterMark(Expense expense) {
         assert expense != null : "Expense must not be null";
 
-        totalExpenses += expense.getAmount();
+        totalExpensesCents += expense.getAmountCents();
         recalculateRemainingBalance();
 
-        LOGGER.info(() -> "Updated budget after mark: total=" + totalExpenses +
-                ", remaining=" + remainingBalance);
+        LOGGER.log(Level.INFO, "Updated budget after mark: total={0} cents, remaining={1} cents",
+                totalExpensesCents, remainingBalanceCents);
     }
 
     /**
@@ -386,11 +1110,11 @@ public class ExpenseManager implements Serializable {
     private void updateBudgetAfterUnmark(Expense expense) {
         assert expense != null : "Expense must not be null";
 
-        totalExpenses -= expense.getAmount();
+        totalExpensesCents -= expense.getAmountCents();
         recalculateRemainingBalance();
 
-        LOGGER.info(() -> "Updated budget after unmark: total=" + totalExpenses +
-                ", remaining=" + remainingBalance);
+        LOGGER.log(Level.INFO, "Updated budget after unmark: total={0} cents, remaining={1} cents",
+                totalExpensesCents, remainingBalanceCents);
     }
 
     //@@author gumingyoujia
@@ -398,9 +1122,7 @@ public class ExpenseManager implements Serializable {
      * Recalculates the remaining balance based on budget and total expenses.
      */
     private void recalculateRemainingBalance() {
-        remainingBalance = budget - totalExpenses;
-        assert Math.abs(remainingBalance - (budget - totalExpenses)) < 0.001
-                : "Remaining balance calculation error";
+        remainingBalanceCents = budgetCents - totalExpensesCents;
     }
 
     // ========== Validation Methods ==========
@@ -416,7 +1138,7 @@ public class ExpenseManager implements Serializable {
         if (expense == null) {
             throw new IllegalArgumentException("Expense must not be null");
         }
-        if (expense.getAmount() <= 0.0) {
+        if (expense.getAmountCents() <= 0) {
             throw new IllegalArgumentException("Expense amount must be positive");
         }
         if (expense.getDescription().isBlank()) {
@@ -454,4 +1176,32 @@ public class ExpenseManager implements Serializable {
             throw new IllegalArgumentException(fieldName + " must not be blank");
         }
     }
+
+    //@@author aydrienlaw
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        // The legacy form holds a plain list; the slotted list and its stores are not serializable
+        fields.put("expenses", new ArrayList<>(expenses));
+        fields.put("budget", Money.toDollars(budgetCents));
+        fields.put("totalExpenses", Money.toDollars(totalExpensesCents));
+        fields.put("remainingBalance", Money.toDollars(remainingBalanceCents));
+        out.writeFields();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        List<Expense> savedExpenses = (List<Expense>) fields.get("expenses", null);
+        List<Expense> store = newExpenseList(savedExpenses == null ? 0 : savedExpenses.size());
+        if (savedExpenses != null) {
+            store.addAll(savedExpenses);
+        }
+        expenses = new SlottedExpenseList(store);
+        budgetCents = Money.fromDollars(fields.get("budget", 0.0));
+        totalExpensesCents = Money.fromDollars(fields.get("totalExpenses", 0.0));
+        // Rounded separately, the saved balance could be a cent off; derive it instead
+        recalculateRemainingBalance();
+    }
 }
@@ -0,0 +1,156 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a snapshot written by {@link LedgerWriter} from a {@link ByteBuffer}, which may be
+ * a heap buffer holding the file or a read-only mapping of it.
+ * <p>
+ * {@link #read()} decodes every expense up front. {@link #readLazy()} only reads the header
+ * and category dictionary, and returns a manager backed by a {@link MappedExpenseList} that
+ * decodes each expense from the buffer the first time it is accessed.
+ * <p>
+ * Structural problems (wrong magic number, unknown version, out-of-range counts or
+ * category ids) are reported as {@link InvalidObjectException}; a buffer that ends early
+ * is reported as an {@link EOFException}.
+ */
+public class LedgerReader {
+    /** Upper bound on the list capacity reserved up front, in case the count is corrupted. */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private final ByteBuffer buffer;
+    private long generation = -1;
+    private long budgetCents;
+    private long totalExpensesCents;
+    private long remainingBalanceCents;
+    private String[] categories;
+    private int expenseCount;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Creates a reader over the ledger in {@code buffer}, starting at its current position.
+     *
+     * @param buffer the ledger bytes; its position is advanced as the header is read
+     */
+    public LedgerReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the generation of the snapshot read by {@link #read()} or {@link #readLazy()}.
+     *
+     * @return the snapshot generation, or {@code -1} before a successful read
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Reads the whole ledger, decoding every expense.
+     *
+     * @return a new manager holding the saved expenses and totals, without a journal
+     * @throws IOException if the ledger is malformed or truncated
+     */
+    public ExpenseManager read() throws IOException {
+        long savedGeneration = readHeader();
+        List<Expense> expenses = ExpenseManager.newExpenseList(Math.min(expenseCount, MAX_INITIAL_CAPACITY));
+        MappedExpenseList records = openRecords();
+        try {
+            for (int i = 0; i < expenseCount; i++) {
+                expenses.add(records.decode(i));
+            }
+        } catch (IllegalStateException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+
+        generation = savedGeneration;
+        return new ExpenseManager(expenses, budgetCents, totalExpensesCents, remainingBalanceCents);
+    }
+
+    /**
+     * Reads the header and category dictionary, leaving the expenses in the buffer to be
+     * decoded on first access. The buffer must stay valid for as long as the manager is used.
+     * Every record's description bounds and category id are still checked here, so a ledger
+     * that {@link #read()} would reject is rejected by this method too.
+     *
+     * @return a new manager backed by the buffer, without a journal
+     * @throws IOException if the header or a record is malformed, or the buffer is too short
+     *                     to hold all records
+     */
+    public ExpenseManager readLazy() throws IOException {
+        long savedGeneration = readHeader();
+        MappedExpenseList records = openRecords();
+        try {
+            records.checkRecords();
+        } catch (IllegalStateException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+        generation = savedGeneration;
+        return new ExpenseManager(records, budgetCents, totalExpensesCents, remainingBalanceCents);
+    }
+
+    private long readHeader() throws IOException {
+        try {
+            if (buffer.getInt() != LedgerWriter.MAGIC) {
+                throw new InvalidObjectException("Not an orCASHbuddy ledger");
+            }
+            short version = buffer.getShort();
+            if (version != LedgerWriter.VERSION) {
+                throw new InvalidObjectException("Unsupported ledger version: " + version);
+            }
+            long savedGeneration = buffer.getLong();
+            budgetCents = buffer.getLong();
+            totalExpensesCents = buffer.getLong();
+            remainingBalanceCents = buffer.getLong();
+
+            int categoryCount = readCount();
+            List<String> categoryList = new ArrayList<>(Math.min(categoryCount, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < categoryCount; i++) {
+                categoryList.add(readString(buffer.getInt()));
+            }
+            categories = categoryList.toArray(new String[0]);
+            expenseCount = readCount();
+            return savedGeneration;
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Ledger ends in the middle of its header");
+        }
+    }
+
+    private MappedExpenseList openRecords() throws IOException {
+        long recordsEnd = (long) buffer.position() + (long) expenseCount * LedgerWriter.RECORD_BYTES;
+        if (recordsEnd > buffer.limit()) {
+            throw new EOFException("Ledger ends before its last record");
+        }
+        return new MappedExpenseList(buffer, buffer.position(), (int) recordsEnd, expenseCount, categories);
+    }
+
+    private int readCount() throws IOException {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new InvalidObjectException("Negative count: " + count);
+        }
+        return count;
+    }
+
+    private String readString(int length) throws IOException {
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new InvalidObjectException("Invalid string length: " + length);
+        }
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes an {@link ExpenseManager} snapshot in orCASHbuddy's binary ledger format.
+ * <p>
+ * Layout (all numbers big-endian):
+ * <pre>
+ * [int MAGIC][short VERSION][long generation]
+ * [long budget][long totalExpenses][long remainingBalance]
+ * [int categoryCount] then per category: [int byteLength][UTF-8 bytes]
+ * [int expenseCount]  then per expense:  [long amount][int descriptionOffset]
+ *                                        [int descriptionLength][int categoryId][int flags]
+ * [description heap: UTF-8 bytes of every description, back to back]
+ * </pre>
+ * Categories repeat across many expenses, so each distinct category is stored once in a
+ * dictionary and records refer to it by index. Every record is {@link #RECORD_BYTES} long,
+ * with its description kept in the heap at the end of the file, so a reader can locate
+ * expense {@code i} directly and decode it only when needed (see {@link MappedExpenseList}).
+ * All amounts are in cents.
+ */
+public class LedgerWriter {
+    static final int MAGIC = 0x4F43424C; // "OCBL"
+    static final short VERSION = 1;
+
+    /** Size of one fixed-width expense record. */
+    static final int RECORD_BYTES = Long.BYTES + 4 * Integer.BYTES;
+    static final int FLAG_MARKED = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private LedgerWriter() {
+    }
+
+    /**
+     * Writes {@code expenseManager} to {@code out}. The stream is flushed but not closed.
+     *
+     * @param expenseManager the manager to write
+     * @param generation     the snapshot generation, matched against the journal on load
+     * @param out            the destination
+     * @throws IOException if writing fails
+     */
+    public static void write(ExpenseManager expenseManager, long generation, OutputStream out) throws IOException {
+        List<Expense> expenses = expenseManager.getExpenses();
+        // Numbers the categories in use by first appearance; ledgerIds holds that number plus one
+        CategoryDictionary dictionary = CategoryDictionary.getInstance();
+        int[] ledgerIds = new int[dictionary.size()];
+        List<String> ledgerCategories = new ArrayList<>();
+        for (Expense expense : expenses) {
+            int id = expense.getCategoryId();
+            if (ledgerIds[id] == 0) {
+                ledgerCategories.add(dictionary.getName(id));
+                ledgerIds[id] = ledgerCategories.size();
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(generation);
+        data.writeLong(expenseManager.getBudgetCents());
+        data.writeLong(expenseManager.getTotalExpensesCents());
+        data.writeLong(expenseManager.getRemainingBalanceCents());
+
+        data.writeInt(ledgerCategories.size());
+        for (String category : ledgerCategories) {
+            byte[] bytes = category.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        ByteArrayOutputStream heap = new ByteArrayOutputStream();
+        data.writeInt(expenses.size());
+        for (Expense expense : expenses) {
+            byte[] description = expense.getDescription().getBytes(StandardCharsets.UTF_8);
+            data.writeLong(expense.getAmountCents());
+            data.writeInt(heap.size());
+            data.writeInt(description.length);
+            data.writeInt(ledgerIds[expense.getCategoryId()] - 1);
+            data.writeInt(expense.isMarked() ? FLAG_MARKED : 0);
+            heap.write(description);
+        }
+        heap.writeTo(data);
+        data.flush();
+    }
+}
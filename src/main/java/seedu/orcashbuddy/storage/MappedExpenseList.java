@@ -0,0 +1,196 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List of expenses backed by the fixed-width records of a ledger buffer, usually a
+ * memory mapping of {@code appdata.bin}.
+ * <p>
+ * Nothing is decoded up front: {@link #get(int)} builds the {@link Expense} for a record
+ * the first time it is requested and keeps it, so later changes to that expense (such as
+ * marking it) are seen by every caller. Adding, removing and replacing expenses work as on
+ * an {@code ArrayList}; positions are mapped to their original records once the first
+ * element is inserted or removed.
+ */
+class MappedExpenseList extends AbstractList<Expense> implements RandomAccess {
+    private static final int NO_RECORD = -1;
+
+    private final ByteBuffer buffer;
+    private final int recordsOffset;
+    private final int heapOffset;
+    private final int recordCount;
+    private final String[] categories;
+
+    /** Decoded or added expenses by position; {@code null} until first needed. */
+    private Expense[] items;
+    /** Record index by position, or {@code null} while position {@code i} is still record {@code i}. */
+    private int[] records;
+    private int size;
+
+    /**
+     * Creates a list over {@code recordCount} records.
+     *
+     * @param buffer        the ledger bytes; only absolute reads are used, so its position does not matter
+     * @param recordsOffset offset of the first record in {@code buffer}
+     * @param heapOffset    offset of the description heap in {@code buffer}
+     * @param recordCount   number of records
+     * @param categories    the ledger's category dictionary
+     */
+    MappedExpenseList(ByteBuffer buffer, int recordsOffset, int heapOffset, int recordCount, String[] categories) {
+        this.buffer = buffer;
+        this.recordsOffset = recordsOffset;
+        this.heapOffset = heapOffset;
+        this.recordCount = recordCount;
+        this.categories = categories;
+        this.size = recordCount;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Expense get(int index) {
+        Objects.checkIndex(index, size);
+        if (items == null) {
+            items = new Expense[size];
+        }
+        Expense expense = items[index];
+        if (expense == null) {
+            expense = decode(records == null ? index : records[index]);
+            items[index] = expense;
+        }
+        return expense;
+    }
+
+    @Override
+    public Expense set(int index, Expense expense) {
+        Expense previous = get(index);
+        items[index] = expense;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Expense expense) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        System.arraycopy(records, index, records, index + 1, size - index);
+        items[index] = expense;
+        records[index] = NO_RECORD;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Expense remove(int index) {
+        Expense removed = get(index);
+        ensureCapacity(size);
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        System.arraycopy(records, index + 1, records, index, size - index - 1);
+        size--;
+        items[size] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Returns the expense at {@code index} like {@link #get(int)}, but without keeping a
+     * newly decoded expense, so reading every expense once does not fill the cache.
+     *
+     * @param index the 0-based position
+     * @return the cached expense, or a new decoded copy whose changes are not kept
+     */
+    Expense peek(int index) {
+        Objects.checkIndex(index, size);
+        if (items != null && items[index] != null) {
+            return items[index];
+        }
+        return decode(records == null ? index : records[index]);
+    }
+
+    /**
+     * Decodes record {@code record} into a new {@link Expense}.
+     *
+     * @param record the record index
+     * @return the decoded expense
+     * @throws IllegalStateException if the record points outside the buffer or at an unknown category
+     */
+    Expense decode(int record) {
+        assert record >= 0 && record < recordCount : "Record index out of range";
+        int offset = recordsOffset + record * LedgerWriter.RECORD_BYTES;
+        checkRecord(record, offset);
+        long amountCents = buffer.getLong(offset);
+        int descriptionOffset = buffer.getInt(offset + 8);
+        int descriptionLength = buffer.getInt(offset + 12);
+        int categoryId = buffer.getInt(offset + 16);
+        int flags = buffer.getInt(offset + 20);
+
+        byte[] bytes = new byte[descriptionLength];
+        buffer.get(heapOffset + descriptionOffset, bytes);
+        Expense expense = new Expense(amountCents, new String(bytes, StandardCharsets.UTF_8),
+                categories[categoryId]);
+        if ((flags & LedgerWriter.FLAG_MARKED) != 0) {
+            expense.mark();
+        }
+        return expense;
+    }
+
+    /**
+     * Checks the description bounds and category id of every record without decoding any of
+     * them, so that a corrupted ledger is rejected when it is loaded rather than when one of
+     * its expenses is first used. This reads 12 bytes per record.
+     *
+     * @throws IllegalStateException if a record points outside the buffer or at an unknown category
+     */
+    void checkRecords() {
+        for (int record = 0; record < recordCount; record++) {
+            checkRecord(record, recordsOffset + record * LedgerWriter.RECORD_BYTES);
+        }
+    }
+
+    private void checkRecord(int record, int offset) {
+        int descriptionOffset = buffer.getInt(offset + 8);
+        int descriptionLength = buffer.getInt(offset + 12);
+        int categoryId = buffer.getInt(offset + 16);
+
+        long descriptionStart = (long) heapOffset + descriptionOffset;
+        if (descriptionOffset < 0 || descriptionLength < 0
+                || descriptionStart + descriptionLength > buffer.limit()) {
+            throw new IllegalStateException("Corrupted description in ledger record " + record);
+        }
+        if (categoryId < 0 || categoryId >= categories.length) {
+            throw new IllegalStateException("Unknown category id " + categoryId + " in ledger record " + record);
+        }
+    }
+
+    /**
+     * Makes sure both position arrays exist and can hold {@code capacity} elements,
+     * switching from the implicit position-equals-record mapping to an explicit one.
+     */
+    private void ensureCapacity(int capacity) {
+        if (items == null) {
+            items = new Expense[size];
+        }
+        if (records == null) {
+            records = new int[items.length];
+            for (int i = 0; i < size; i++) {
+                records[i] = i;
+            }
+        }
+        if (capacity > items.length) {
+            int newLength = Math.max(capacity, items.length + (items.length >> 1) + 1);
+            items = Arrays.copyOf(items, newLength);
+            records = Arrays.copyOf(records, newLength);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+/**
+ * A save that has been prepared on the command thread but not yet written to disk.
+ * <p>
+ * It holds either a full snapshot (a private copy of the {@link ExpenseManager} plus
+ * the generation to write it under), journal records to append, or both. Because it
+ * never refers to live application state, it can be written from any thread.
+ */
+class PendingSave {
+    private final ExpenseManager snapshot;
+    private final long generation;
+    private final byte[] journalRecords;
+
+    private PendingSave(ExpenseManager snapshot, long generation, byte[] journalRecords) {
+        this.snapshot = snapshot;
+        this.generation = generation;
+        this.journalRecords = journalRecords;
+    }
+
+    /**
+     * Creates a save that writes {@code snapshot} as generation {@code generation}
+     * and resets the journal.
+     */
+    static PendingSave snapshot(ExpenseManager snapshot, long generation) {
+        assert snapshot != null : "Snapshot must not be null";
+        return new PendingSave(snapshot, generation, new byte[0]);
+    }
+
+    /**
+     * Creates a save that only appends already-encoded journal records.
+     */
+    static PendingSave journal(byte[] journalRecords) {
+        return new PendingSave(null, -1, journalRecords);
+    }
+
+    /**
+     * Coalesces a sequence of saves, in the order they were prepared, into one.
+     * Everything before the last snapshot is dropped since that snapshot already
+     * contains it; journal records after it are concatenated into a single append.
+     *
+     * @param saves the saves to combine; must not be empty
+     * @return a save equivalent to writing all of {@code saves} in order
+     */
+    static PendingSave merge(List<PendingSave> saves) {
+        assert !saves.isEmpty() : "Nothing to merge";
+
+        int start = 0;
+        for (int i = saves.size() - 1; i >= 0; i--) {
+            if (saves.get(i).hasSnapshot()) {
+                start = i;
+                break;
+            }
+        }
+
+        PendingSave first = saves.get(start);
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (int i = start; i < saves.size(); i++) {
+            records.writeBytes(saves.get(i).journalRecords);
+        }
+        return new PendingSave(first.snapshot, first.generation, records.toByteArray());
+    }
+
+    boolean hasSnapshot() {
+        return snapshot != null;
+    }
+
+    boolean isEmpty() {
+        return snapshot == null && journalRecords.length == 0;
+    }
+
+    ExpenseManager getSnapshot() {
+        return snapshot;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    byte[] getJournalRecords() {
+        return journalRecords;
+    }
+}
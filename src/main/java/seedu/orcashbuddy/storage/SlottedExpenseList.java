@@ -0,0 +1,466 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The expense list {@link ExpenseManager} works on: a view of the live expenses in an
+ * underlying store ({@code ArrayList}, {@link ColumnarExpenseList} or {@link MappedExpenseList}),
+ * where deleting an expense leaves a tombstone in its slot instead of shifting every later one.
+ * <p>
+ * Slots are the store's positions. They keep list order and never move until the list is
+ * {@linkplain #compactIfWasteful() compacted}, so the secondary indexes file expenses by slot.
+ * A Fenwick tree over the live flags turns a list position into a slot and back in
+ * {@code O(log n)}; with no tombstones the two are the same and the tree is not consulted.
+ * <p>
+ * Every expense also gets a stable id when it enters the list. Ids do not change when
+ * other expenses are deleted or the list is compacted, are never reused, and map to their
+ * slot in {@code O(1)}. They last for the session only; the ledger stores expenses by position.
+ */
+class SlottedExpenseList extends AbstractList<Expense> implements RandomAccess {
+    /** Marks an id whose expense has been deleted. */
+    static final int NO_SLOT = -1;
+
+    /** Smallest number of tombstones worth compacting. */
+    private static final int MIN_COMPACT_TOMBSTONES = 1 << 10;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private List<Expense> store;
+    private final BitSet tombstones = new BitSet();
+    private int tombstoneCount;
+    private int size;
+
+    /** Fenwick tree of live slot counts, 1-based; only kept up to date while there are tombstones. */
+    private int[] liveTree = new int[0];
+    private boolean isLiveTreeValid;
+
+    private int[] idsBySlot;
+    private int[] slotsById;
+    private int nextId;
+    /** Increased whenever slots are renumbered, so indexes filed by slot know to rebuild. */
+    private int slotGeneration;
+
+    /**
+     * Creates a list over {@code store}, whose expenses all start live and get ids in list order.
+     *
+     * @param store the underlying store; used directly, not copied
+     */
+    SlottedExpenseList(List<Expense> store) {
+        this.store = store;
+        this.size = store.size();
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        idsBySlot = new int[capacity];
+        slotsById = new int[capacity];
+        for (int slot = 0; slot < size; slot++) {
+            idsBySlot[slot] = slot;
+            slotsById[slot] = slot;
+        }
+        nextId = size;
+    }
+
+    /**
+     * Returns the underlying store, including tombstoned slots.
+     *
+     * @return the store
+     */
+    List<Expense> store() {
+        return store;
+    }
+
+    // ========== List view ==========
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Expense get(int index) {
+        return store.get(slotOf(index));
+    }
+
+    @Override
+    public Expense set(int index, Expense expense) {
+        return store.set(slotOf(index), expense);
+    }
+
+    @Override
+    public boolean add(Expense expense) {
+        int slot = store.size();
+        store.add(expense);
+        if (slot == idsBySlot.length) {
+            idsBySlot = Arrays.copyOf(idsBySlot, slot * 2);
+        }
+        idsBySlot[slot] = assignId(slot);
+        if (isLiveTreeValid) {
+            appendToLiveTree(slot);
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts {@code expense} at {@code index}. Inserting anywhere but the end compacts the
+     * list and shifts the store, so {@link ExpenseManager} replaces expenses in place instead.
+     */
+    @Override
+    public void add(int index, Expense expense) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(expense);
+            return;
+        }
+        compact();
+        store.add(index, expense);
+        if (size == idsBySlot.length) {
+            idsBySlot = Arrays.copyOf(idsBySlot, size * 2);
+        }
+        System.arraycopy(idsBySlot, index, idsBySlot, index + 1, size - index);
+        idsBySlot[index] = NO_SLOT;
+        for (int slot = index + 1; slot <= size; slot++) {
+            slotsById[idsBySlot[slot]] = slot;
+        }
+        idsBySlot[index] = assignId(index);
+        size++;
+        slotGeneration++;
+        modCount++;
+    }
+
+    @Override
+    public Expense remove(int index) {
+        int slot = slotOf(index);
+        Expense removed = store.get(slot);
+        if (!isLiveTreeValid) {
+            buildLiveTree();
+        }
+        tombstones.set(slot);
+        tombstoneCount++;
+        for (int i = slot + 1; i <= store.size(); i += i & -i) {
+            liveTree[i]--;
+        }
+        slotsById[idsBySlot[slot]] = NO_SLOT;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the expenses in the given live slots in one pass. The Fenwick tree is
+     * updated slot by slot for a few removals and rebuilt once for many.
+     *
+     * @param sortedSlots distinct live slots, in ascending order
+     */
+    void removeSlots(int[] sortedSlots) {
+        int slotCount = store.size();
+        int treeDepth = Integer.SIZE - Integer.numberOfLeadingZeros(slotCount);
+        boolean isIncremental = isLiveTreeValid && (long) sortedSlots.length * treeDepth < slotCount;
+        for (int slot : sortedSlots) {
+            assert isLiveSlot(slot) : "Slot has no live expense";
+            tombstones.set(slot);
+            slotsById[idsBySlot[slot]] = NO_SLOT;
+            if (isIncremental) {
+                for (int i = slot + 1; i <= slotCount; i += i & -i) {
+                    liveTree[i]--;
+                }
+            }
+        }
+        tombstoneCount += sortedSlots.length;
+        size -= sortedSlots.length;
+        if (!isIncremental) {
+            buildLiveTree();
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+        tombstones.clear();
+        tombstoneCount = 0;
+        isLiveTreeValid = false;
+        Arrays.fill(slotsById, 0, nextId, NO_SLOT);
+        size = 0;
+        slotGeneration++;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Expense> iterator() {
+        return new Iterator<>() {
+            private int nextSlot = nextLiveSlot(0);
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot != NO_SLOT;
+            }
+
+            @Override
+            public Expense next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextSlot == NO_SLOT) {
+                    throw new NoSuchElementException();
+                }
+                Expense expense = store.get(nextSlot);
+                nextSlot = nextLiveSlot(nextSlot + 1);
+                return expense;
+            }
+        };
+    }
+
+    // ========== Slots and ids ==========
+
+    /**
+     * Returns the slot holding the expense at {@code index}.
+     *
+     * @param index a 0-based position in the list
+     * @return its slot in the store
+     */
+    int slotOf(int index) {
+        Objects.checkIndex(index, size);
+        if (tombstoneCount == 0) {
+            return index;
+        }
+        // Fenwick descent: the lowest slot with index + 1 live slots up to and including it
+        int slotCount = store.size();
+        int position = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= slotCount && liveTree[next] < remaining) {
+                position = next;
+                remaining -= liveTree[next];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the list position of the expense in {@code slot}.
+     *
+     * @param slot a live slot
+     * @return its 0-based position
+     */
+    int indexOfSlot(int slot) {
+        assert isLiveSlot(slot) : "Slot has no live expense";
+        if (tombstoneCount == 0) {
+            return slot;
+        }
+        int liveBefore = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            liveBefore += liveTree[i];
+        }
+        return liveBefore;
+    }
+
+    /**
+     * Returns the number of slots, live or not.
+     *
+     * @return the store's size
+     */
+    int slotCount() {
+        return store.size();
+    }
+
+    /**
+     * Returns whether {@code slot} holds a live expense.
+     *
+     * @param slot a slot
+     * @return {@code false} if it is out of range or tombstoned
+     */
+    boolean isLiveSlot(int slot) {
+        return slot >= 0 && slot < store.size() && !tombstones.get(slot);
+    }
+
+    /**
+     * Returns the first live slot at or after {@code fromSlot}.
+     *
+     * @param fromSlot the slot to start from
+     * @return the slot, or {@link #NO_SLOT} if there is none
+     */
+    int nextLiveSlot(int fromSlot) {
+        int slot = tombstones.nextClearBit(fromSlot);
+        return slot < store.size() ? slot : NO_SLOT;
+    }
+
+    /**
+     * Returns the expense in {@code slot}.
+     *
+     * @param slot a live slot
+     * @return the expense
+     */
+    Expense getAtSlot(int slot) {
+        assert isLiveSlot(slot) : "Slot has no live expense";
+        return store.get(slot);
+    }
+
+    /**
+     * Returns the stable id of the expense at {@code index}.
+     *
+     * @param index a 0-based position
+     * @return its id
+     */
+    int getId(int index) {
+        return idsBySlot[slotOf(index)];
+    }
+
+    /**
+     * Returns the slot of the expense with id {@code id}.
+     *
+     * @param id an expense id
+     * @return its slot, or {@link #NO_SLOT} if there is no such expense
+     */
+    int slotOfId(int id) {
+        return (id < 0 || id >= nextId) ? NO_SLOT : slotsById[id];
+    }
+
+    /**
+     * Returns a number that changes whenever slots are renumbered, other than by
+     * {@link #compactIfWasteful()}, which reports the renumbering to its caller.
+     *
+     * @return the current slot generation
+     */
+    int getSlotGeneration() {
+        return slotGeneration;
+    }
+
+    // ========== Compaction and copying ==========
+
+    /**
+     * Drops the tombstoned slots once they make up more than half the store.
+     *
+     * @return the new slot of each old slot ({@link #NO_SLOT} for tombstones), or {@code null}
+     *         if nothing was compacted
+     */
+    int[] compactIfWasteful() {
+        return isWasteful() ? compact() : null;
+    }
+
+    /**
+     * Returns whether {@link #compactIfWasteful()} would compact the list now.
+     *
+     * @return {@code true} if tombstones make up more than half the store
+     */
+    boolean isWasteful() {
+        return tombstoneCount >= MIN_COMPACT_TOMBSTONES && tombstoneCount * 2 >= store.size();
+    }
+
+    /**
+     * Returns an independent copy of this list with the same ids, holding {@code liveStoreCopy},
+     * a copy of the live expenses in list order.
+     *
+     * @param liveStoreCopy the copied expenses
+     * @return the copy
+     */
+    SlottedExpenseList copyWith(List<Expense> liveStoreCopy) {
+        assert liveStoreCopy.size() == size : "Copy must hold exactly the live expenses";
+        SlottedExpenseList copy = new SlottedExpenseList(liveStoreCopy);
+        copy.slotsById = new int[Math.max(nextId, INITIAL_CAPACITY)];
+        Arrays.fill(copy.slotsById, NO_SLOT);
+        int index = 0;
+        for (int slot = nextLiveSlot(0); slot != NO_SLOT; slot = nextLiveSlot(slot + 1)) {
+            copy.idsBySlot[index] = idsBySlot[slot];
+            copy.slotsById[idsBySlot[slot]] = index;
+            index++;
+        }
+        copy.nextId = nextId;
+        return copy;
+    }
+
+    /**
+     * Returns whether any deleted expense is still held in the store.
+     *
+     * @return {@code true} if there are tombstones
+     */
+    boolean hasTombstones() {
+        return tombstoneCount > 0;
+    }
+
+    // ========== Helpers ==========
+
+    private int assignId(int slot) {
+        if (nextId == slotsById.length) {
+            slotsById = Arrays.copyOf(slotsById, nextId * 2);
+        }
+        slotsById[nextId] = slot;
+        return nextId++;
+    }
+
+    private int[] compact() {
+        int oldSlotCount = store.size();
+        int[] newSlots = new int[oldSlotCount];
+        if (tombstoneCount == 0) {
+            for (int slot = 0; slot < oldSlotCount; slot++) {
+                newSlots[slot] = slot;
+            }
+            return newSlots;
+        }
+
+        List<Expense> compacted = store instanceof ColumnarExpenseList
+                ? new ColumnarExpenseList(size)
+                : new ArrayList<>(size);
+        int newSlot = 0;
+        for (int slot = 0; slot < oldSlotCount; slot++) {
+            if (tombstones.get(slot)) {
+                newSlots[slot] = NO_SLOT;
+                continue;
+            }
+            compacted.add(store.get(slot));
+            idsBySlot[newSlot] = idsBySlot[slot];
+            slotsById[idsBySlot[newSlot]] = newSlot;
+            newSlots[slot] = newSlot++;
+        }
+        store = compacted;
+        tombstones.clear();
+        tombstoneCount = 0;
+        isLiveTreeValid = false;
+        return newSlots;
+    }
+
+    /**
+     * Builds the Fenwick tree in linear time, when the first tombstone is about to be set.
+     */
+    private void buildLiveTree() {
+        int slotCount = store.size();
+        liveTree = new int[Math.max(slotCount, INITIAL_CAPACITY) + 1];
+        for (int i = 1; i <= slotCount; i++) {
+            liveTree[i] += tombstones.get(i - 1) ? 0 : 1;
+            int parent = i + (i & -i);
+            if (parent <= slotCount) {
+                liveTree[parent] += liveTree[i];
+            }
+        }
+        isLiveTreeValid = true;
+    }
+
+    /**
+     * Adds the tree node for a newly appended live {@code slot}.
+     */
+    private void appendToLiveTree(int slot) {
+        int node = slot + 1;
+        if (node >= liveTree.length) {
+            liveTree = Arrays.copyOf(liveTree, liveTree.length * 2);
+        }
+        // The node covers slots (node - lowbit(node), node]; all but the new one are already counted
+        int lowest = node & -node;
+        int count = 1;
+        for (int i = node - 1; i > node - lowest; i -= i & -i) {
+            count += liveTree[i];
+        }
+        liveTree[node] = count;
+    }
+}
@@ -0,0 +1,133 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import java.util.Arrays;
+
+/**
+ * Growable, sorted list of distinct {@code int}s, used by the secondary indexes to hold
+ * the slots (see {@link SlottedExpenseList}) filed under one key.
+ */
+class SortedIntList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the number of values
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Returns the value at {@code index}.
+     *
+     * @param index a 0-based index
+     * @return the value
+     */
+    int get(int index) {
+        assert index >= 0 && index < count : "Index out of range";
+        return values[index];
+    }
+
+    /**
+     * Returns the values as a new array.
+     *
+     * @return the values in ascending order
+     */
+    int[] toArray() {
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Copies the values into {@code target} starting at {@code offset}.
+     *
+     * @param target the array to copy into
+     * @param offset the first index to write
+     * @return the index after the last value written
+     */
+    int copyInto(int[] target, int offset) {
+        System.arraycopy(values, 0, target, offset, count);
+        return offset + count;
+    }
+
+    /**
+     * Adds {@code value} if it is not already in the list.
+     *
+     * @param value the value to add
+     */
+    void add(int value) {
+        // Appends are the common case
+        if (count > 0 && values[count - 1] >= value) {
+            int slot = Arrays.binarySearch(values, 0, count, value);
+            if (slot >= 0) {
+                return;
+            }
+            insertAt(-slot - 1, value);
+            return;
+        }
+        insertAt(count, value);
+    }
+
+    /**
+     * Removes {@code value} if it is in the list.
+     *
+     * @param value the value to remove
+     * @return {@code true} if it was removed
+     */
+    boolean remove(int value) {
+        int slot = Arrays.binarySearch(values, 0, count, value);
+        if (slot < 0) {
+            return false;
+        }
+        System.arraycopy(values, slot + 1, values, slot, count - slot - 1);
+        count--;
+        return true;
+    }
+
+    /**
+     * Keeps only the first {@code candidateCount} entries of the sorted {@code candidates}
+     * that are also in this list, compacting them to the front.
+     *
+     * @param candidates     sorted values to filter in place
+     * @param candidateCount the number of entries of {@code candidates} in use
+     * @return the number of candidates kept
+     */
+    int retainAll(int[] candidates, int candidateCount) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < candidateCount && from < count; i++) {
+            int slot = Arrays.binarySearch(values, from, count, candidates[i]);
+            if (slot >= 0) {
+                candidates[kept++] = candidates[i];
+                from = slot + 1;
+            } else {
+                from = -slot - 1;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Replaces every value {@code v} with {@code mapping[v]}. The mapping must preserve order.
+     *
+     * @param mapping the new value for each old value
+     */
+    void remap(int[] mapping) {
+        for (int i = 0; i < count; i++) {
+            values[i] = mapping[values[i]];
+        }
+    }
+
+    private void insertAt(int slot, int value) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        System.arraycopy(values, slot, values, slot + 1, count - slot);
+        values[slot] = value;
+        count++;
+    }
+}
@@ -1,32 +1,69 @@
 //@@author saheer17
 package seedu.orcashbuddy.storage;
+import seedu.orcashbuddy.metrics.FlightEvents;
+import seedu.orcashbuddy.metrics.StorageLoadEvent;
+import seedu.orcashbuddy.metrics.StorageSaveEvent;
 import seedu.orcashbuddy.ui.Ui;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.nio.ByteBuffer;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Handles saving and loading of {@link ExpenseManager} objects to persistent storage.
  * <p>
- * Expenses are serialized to a file named {@code appdata.ser} inside a {@code data} folder.
+ * Expenses are written in the binary ledger format (see {@link LedgerWriter}) to a file named
+ * {@code appdata.bin} inside a {@code data} folder, replaced atomically on each snapshot with the
+ * previous one kept as {@code appdata.bin.bak}. A ledger saved as {@code appdata.ser} by an older
+ * version is loaded once with Java serialization and migrated.
+ * Changes made after that snapshot are appended to {@code appdata.journal} (see {@link ExpenseJournal}),
+ * so a save costs time proportional to what changed rather than to the size of the ledger.
  * This class ensures that the storage folder and file exist, and provides user-friendly
  * error messages via {@link Ui} in case of exceptions.
  */
 public class StorageManager {
 
     private static final Logger LOGGER = Logger.getLogger(StorageManager.class.getName());
-    private static final String DIRECTORY = "data";
-    private static final String FILE_NAME = "appdata.ser";
+    static final String DIRECTORY = "data";
+    private static final String FILE_NAME = "appdata.bin";
+    private static final String BACKUP_FILE_NAME = "appdata.bin.bak";
+    private static final String TEMP_FILE_NAME = "appdata.bin.tmp";
+    private static final String LEGACY_FILE_NAME = "appdata.ser";
+    private static final String LEGACY_BACKUP_FILE_NAME = "appdata.ser.bak";
+    private static final String JOURNAL_FILE_NAME = "appdata.journal";
+
+    /**
+     * Whether large ledgers are memory-mapped and decoded lazily on load, set with
+     * {@code -Dorcashbuddy.mappedLoad=true}. Off by default because some platforms refuse
+     * to rename a file while it is mapped, which the next snapshot needs to do.
+     */
+    private static final boolean IS_MAPPED_LOAD = Boolean.getBoolean("orcashbuddy.mappedLoad");
+    /** Smallest ledger worth mapping; smaller ones are read into memory in one go. */
+    private static final long MAPPED_LOAD_MIN_BYTES = 1 << 20;
+
+    /** Number of journal records after which the next save folds them into a full snapshot. */
+    static final int SNAPSHOT_INTERVAL = 1000;
 
     /**
      * Saves the given {@link ExpenseManager} to disk.
      * <p>
+     * If the manager already has a journal bound to the snapshot on disk, only the
+     * changes recorded since the last save are appended to {@code appdata.journal}.
+     * Otherwise, or once the journal grows past {@link #SNAPSHOT_INTERVAL} records,
+     * a full snapshot is written and the journal starts over.
+     * <p>
      * If the storage folder does not exist, it will be created. If saving fails,
      * a user-friendly message is displayed via the {@link Ui} object.
      *
@@ -48,13 +85,19 @@ public class StorageManager {
                 }
             }
 
-            File file = new File(dir, FILE_NAME);
-            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-                oos.writeObject(expenseManager);
-                LOGGER.info("ExpenseManager successfully saved to " + file.getAbsolutePath());
+            PendingSave save = prepareSave(expenseManager);
+            try {
+                writeSave(save, dir);
             } catch (IOException e) {
-                ui.showError("Failed to save your expenses.");
-                LOGGER.log(Level.WARNING, "Failed to save ExpenseManager", e);
+                if (save.hasSnapshot()) {
+                    ui.showError("Failed to save your expenses.");
+                    LOGGER.log(Level.WARNING, "Failed to save ExpenseManager", e);
+                    expenseManager.attachJournal(null);
+                    return;
+                }
+                LOGGER.log(Level.WARNING, "Failed to append to journal, writing a full snapshot instead", e);
+                expenseManager.attachJournal(null);
+                saveExpenseManager(expenseManager, ui);
             }
 
         } catch (SecurityException e) {
@@ -63,11 +106,149 @@ public class StorageManager {
         }
     }
 
+    //@@author aydrienlaw
+    /**
+     * Captures everything that needs to be written for {@code expenseManager} without touching
+     * the snapshot file, so the write itself can happen later or on another thread.
+     * <p>
+     * If the manager has a journal with room left, its buffered records are drained.
+     * Otherwise the manager is copied as a new snapshot generation and a fresh journal
+     * for that generation is attached, so later changes are recorded relative to the copy.
+     * Must be called on the thread that mutates {@code expenseManager}.
+     *
+     * @param expenseManager the manager to save
+     * @return the prepared save
+     */
+    static PendingSave prepareSave(ExpenseManager expenseManager) {
+        ExpenseJournal journal = expenseManager.getJournal();
+        if (journal != null && journal.getRecordCount() < SNAPSHOT_INTERVAL) {
+            return PendingSave.journal(journal.drainPending());
+        }
+
+        long generation = nextGeneration(expenseManager, new File(DIRECTORY, JOURNAL_FILE_NAME));
+        PendingSave save = PendingSave.snapshot(expenseManager.copy(), generation);
+        expenseManager.attachJournal(new ExpenseJournal(generation, 0));
+        return save;
+    }
+
+    /**
+     * Writes a prepared save to disk: the snapshot first if there is one, followed by a
+     * fresh journal header, then any journal records. Each file is forced to the device
+     * before returning. The write is recorded as a {@link StorageSaveEvent}.
+     *
+     * @param save the save to write
+     * @param dir  the storage folder
+     * @throws IOException if any part of the save could not be written; the caller should
+     *                     fall back to a full snapshot, since journal records may be missing
+     */
+    static void writeSave(PendingSave save, File dir) throws IOException {
+        if (!dir.exists() && !dir.mkdir()) {
+            throw new IOException("Failed to create storage folder: " + DIRECTORY);
+        }
+
+        StorageSaveEvent event = FlightEvents.beginStorageSave();
+        long snapshotBytes = 0;
+        File journalFile = new File(dir, JOURNAL_FILE_NAME);
+        if (save.hasSnapshot()) {
+            snapshotBytes = writeSnapshot(save.getSnapshot(), save.getGeneration(), dir);
+            try {
+                ExpenseJournal.reset(journalFile, save.getGeneration());
+            } catch (IOException e) {
+                // An old journal left behind could still match a later snapshot generation.
+                journalFile.delete();
+                throw e;
+            }
+        } else if (!journalFile.exists()) {
+            throw new IOException("Journal file is missing: " + journalFile.getAbsolutePath());
+        }
+
+        if (save.getJournalRecords().length > 0) {
+            ExpenseJournal.append(journalFile, save.getJournalRecords());
+            LOGGER.fine(() -> "Appended " + save.getJournalRecords().length + " journal byte(s)");
+        }
+        FlightEvents.commitStorageSave(event, save.hasSnapshot(), snapshotBytes, save.getJournalRecords().length);
+    }
+
+    /**
+     * Writes a full snapshot of {@code expenseManager} tagged with {@code generation}.
+     * <p>
+     * The snapshot is written to a temporary file and forced to the device, then the current
+     * snapshot is renamed to {@code appdata.bin.bak} and the temporary file renamed over it.
+     * At every point either {@code appdata.bin} or its backup is a complete snapshot, so a
+     * crash mid-save never leaves the ledger unreadable.
+     *
+     * @param expenseManager the manager to write
+     * @param generation     the snapshot generation
+     * @param dir            the storage folder
+     * @return the size of the snapshot in bytes
+     * @throws IOException if the snapshot could not be written
+     */
+    private static long writeSnapshot(ExpenseManager expenseManager, long generation, File dir)
+            throws IOException {
+        Path file = new File(dir, FILE_NAME).toPath();
+        Path tempFile = new File(dir, TEMP_FILE_NAME).toPath();
+
+        long size;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            LedgerWriter.write(expenseManager, generation, Channels.newOutputStream(channel));
+            channel.force(true);
+            size = channel.size();
+        }
+
+        if (Files.exists(file)) {
+            moveAtomically(file, new File(dir, BACKUP_FILE_NAME).toPath());
+        }
+        moveAtomically(tempFile, file);
+        forceDirectory(dir);
+        LOGGER.info("ExpenseManager successfully saved to " + file.toAbsolutePath());
+        return size;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry changes made by the renames to the device.
+     * Not every platform allows opening a directory, in which case this is skipped.
+     */
+    private static void forceDirectory(File dir) {
+        try (FileChannel channel = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOGGER.fine("Unable to force storage folder to disk: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Picks a snapshot generation that differs from any journal currently on disk,
+     * so a stale journal is never replayed on top of a newer snapshot.
+     *
+     * @param expenseManager the manager about to be written
+     * @param journalFile    the journal file
+     * @return the generation for the new snapshot
+     */
+    private static long nextGeneration(ExpenseManager expenseManager, File journalFile) {
+        long current = ExpenseJournal.readGeneration(journalFile);
+        ExpenseJournal journal = expenseManager.getJournal();
+        if (journal != null) {
+            current = Math.max(current, journal.getGeneration());
+        }
+        return Math.max(current, 0) + 1;
+    }
+
+    //@@author saheer17
     /**
      * Loads the {@link ExpenseManager} from disk.
      * <p>
      * If the storage folder or file does not exist, they will be created.
-     * If reading fails or data is corrupted, an empty ExpenseManager is returned
+     * If the latest snapshot cannot be read, the previous one ({@code appdata.bin.bak}) is tried.
+     * If that fails too or data is corrupted, an empty ExpenseManager is returned
      * and a user-friendly message is displayed via the {@link Ui} object.
      *
      * @param ui the UI object to display error messages; must not be null
@@ -89,6 +270,17 @@ public class StorageManager {
             }
 
             File file = new File(dir, FILE_NAME);
+            File backupFile = new File(dir, BACKUP_FILE_NAME);
+            if (!file.exists() && backupFile.exists()) {
+                // A save was interrupted between its two renames; the backup is the latest snapshot.
+                LOGGER.warning("Storage file missing, loading previous snapshot: " + backupFile.getAbsolutePath());
+                file = backupFile;
+            }
+
+            if (!file.exists() && hasLegacySnapshot(dir)) {
+                return migrateLegacySnapshot(dir, ui);
+            }
+
             if (!file.exists()) {
                 try {
                     boolean fileCreated = file.createNewFile();
@@ -108,22 +300,15 @@ public class StorageManager {
                 return new ExpenseManager();
             }
 
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                Object obj = ois.readObject();
-                if (obj instanceof ExpenseManager) {
-                    LOGGER.info("ExpenseManager successfully loaded from " + file.getAbsolutePath());
-                    return (ExpenseManager) obj;
-                } else {
-                    ui.showError("Saved data is corrupted. Starting with empty expenses.");
-                    LOGGER.warning("Data in storage file is not an ExpenseManager: " + file.getAbsolutePath());
-                    return new ExpenseManager();
-                }
+            try {
+                return readSnapshot(file, dir, ui);
             } catch (IOException e) {
-                ui.showError("Failed to read saved expenses. Starting fresh.");
-                LOGGER.log(Level.WARNING, "IOException while reading storage file", e);
-            } catch (ClassNotFoundException e) {
-                ui.showError("Saved data is incompatible. Starting with empty expenses.");
-                LOGGER.log(Level.WARNING, "ClassNotFoundException while reading storage file", e);
+                LOGGER.log(Level.WARNING, "Failed to read storage file " + file.getAbsolutePath(), e);
+                ExpenseManager restored = readBackup(file, backupFile, dir, ui);
+                if (restored != null) {
+                    return restored;
+                }
+                showReadError(e, ui);
             }
 
         } catch (SecurityException e) {
@@ -133,4 +318,210 @@ public class StorageManager {
 
         return new ExpenseManager();
     }
+
+    //@@author aydrienlaw
+    /**
+     * Reads a snapshot file and replays the journal that belongs to it, recorded as a
+     * {@link StorageLoadEvent}.
+     * With mapped loading enabled, a large ledger is mapped and its expenses decoded on first use.
+     *
+     * @param file the snapshot file
+     * @param dir  the storage folder
+     * @param ui   the UI object to display journal errors
+     * @return the loaded manager
+     * @throws InvalidObjectException if the file is not a valid ledger
+     * @throws IOException            if the file cannot be read
+     */
+    private static ExpenseManager readSnapshot(File file, File dir, Ui ui) throws IOException {
+        StorageLoadEvent event = FlightEvents.beginStorageLoad();
+        long size;
+        boolean isMapped;
+        LedgerReader reader;
+        ExpenseManager expenseManager;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new InvalidObjectException("Ledger is too large to load: " + size + " bytes");
+            }
+
+            isMapped = IS_MAPPED_LOAD && size >= MAPPED_LOAD_MIN_BYTES;
+            if (isMapped) {
+                // The mapping stays valid after the channel is closed, and after the file is replaced.
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                reader = new LedgerReader(buffer);
+                expenseManager = reader.readLazy();
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Keep reading until the buffer is full or the file ends
+                }
+                buffer.flip();
+                reader = new LedgerReader(buffer);
+                expenseManager = reader.read();
+            }
+        }
+
+        LOGGER.info("ExpenseManager successfully loaded from " + file.getAbsolutePath());
+        replayJournal(expenseManager, new File(dir, JOURNAL_FILE_NAME), reader.getGeneration(), ui);
+        FlightEvents.commitStorageLoad(event, size, isMapped, expenseManager.getSize());
+        return expenseManager;
+    }
+
+    /**
+     * Falls back to the previous snapshot after the latest one could not be read.
+     *
+     * @param failedFile the snapshot file that could not be read
+     * @param backupFile the previous snapshot
+     * @param dir        the storage folder
+     * @param ui         the UI object to tell the user about the fallback
+     * @return the manager loaded from the backup, or {@code null} if there is no usable backup
+     */
+    private static ExpenseManager readBackup(File failedFile, File backupFile, File dir, Ui ui) {
+        if (failedFile.equals(backupFile) || !backupFile.exists()) {
+            return null;
+        }
+        try {
+            ExpenseManager expenseManager = readSnapshot(backupFile, dir, ui);
+            ui.showError("Your latest save could not be read. Restored the previous save; "
+                    + "recent changes may be missing.");
+            return expenseManager;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read backup storage file", e);
+            return null;
+        }
+    }
+
+    private static void showReadError(Exception e, Ui ui) {
+        if (e instanceof InvalidObjectException) {
+            ui.showError("Saved data is corrupted. Starting with empty expenses.");
+        } else if (e instanceof ClassNotFoundException) {
+            ui.showError("Saved data is incompatible. Starting with empty expenses.");
+        } else {
+            ui.showError("Failed to read saved expenses. Starting fresh.");
+        }
+    }
+
+    // ========== Migration from Java serialization ==========
+
+    private static boolean hasLegacySnapshot(File dir) {
+        return new File(dir, LEGACY_FILE_NAME).exists() || new File(dir, LEGACY_BACKUP_FILE_NAME).exists();
+    }
+
+    /**
+     * Loads a ledger saved with Java serialization by an older version, writes it straight
+     * back in the binary format, and deletes the old files once that has succeeded.
+     * If the old snapshot cannot be read, its backup is tried, as for binary snapshots.
+     *
+     * @param dir the storage folder
+     * @param ui  the UI object to display error messages
+     * @return the migrated manager, or a new empty one if neither old file could be read
+     */
+    private static ExpenseManager migrateLegacySnapshot(File dir, Ui ui) {
+        File legacyFile = new File(dir, LEGACY_FILE_NAME);
+        File legacyBackupFile = new File(dir, LEGACY_BACKUP_FILE_NAME);
+
+        ExpenseManager expenseManager;
+        try {
+            expenseManager = readLegacySnapshot(legacyFile.exists() ? legacyFile : legacyBackupFile, dir, ui);
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.log(Level.WARNING, "Failed to read legacy storage file", e);
+            try {
+                if (!legacyFile.exists() || !legacyBackupFile.exists()) {
+                    throw e;
+                }
+                expenseManager = readLegacySnapshot(legacyBackupFile, dir, ui);
+                ui.showError("Your latest save could not be read. Restored the previous save; "
+                        + "recent changes may be missing.");
+            } catch (IOException | ClassNotFoundException backupError) {
+                showReadError(backupError, ui);
+                return new ExpenseManager();
+            }
+        }
+
+        // Fold the replayed journal into a fresh binary snapshot of a new generation
+        expenseManager.attachJournal(null);
+        try {
+            writeSave(prepareSave(expenseManager), dir);
+        } catch (IOException e) {
+            // Keep the old files; the next save retries the snapshot since no journal is attached.
+            expenseManager.attachJournal(null);
+            LOGGER.log(Level.WARNING, "Failed to write migrated ledger", e);
+            return expenseManager;
+        }
+
+        legacyFile.delete();
+        legacyBackupFile.delete();
+        LOGGER.info("Migrated serialized ledger to " + new File(dir, FILE_NAME).getAbsolutePath());
+        return expenseManager;
+    }
+
+    /**
+     * Reads a snapshot written with Java serialization and replays the journal that belongs to it.
+     *
+     * @param file the serialized snapshot
+     * @param dir  the storage folder
+     * @param ui   the UI object to display journal errors
+     * @return the loaded manager
+     * @throws InvalidObjectException if the file does not hold an {@link ExpenseManager}
+     * @throws IOException            if the file cannot be read
+     * @throws ClassNotFoundException if the file was written by an incompatible version
+     */
+    private static ExpenseManager readLegacySnapshot(File file, File dir, Ui ui)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+            Object obj = ois.readObject();
+            if (!(obj instanceof ExpenseManager)) {
+                throw new InvalidObjectException("Data in storage file is not an ExpenseManager: "
+                        + file.getAbsolutePath());
+            }
+            ExpenseManager expenseManager = (ExpenseManager) obj;
+            LOGGER.info("ExpenseManager successfully loaded from " + file.getAbsolutePath());
+            replayJournal(expenseManager, new File(dir, JOURNAL_FILE_NAME), readGeneration(ois), ui);
+            return expenseManager;
+        }
+    }
+
+    /**
+     * Reads the snapshot generation written after a serialized {@link ExpenseManager}.
+     * Snapshots written before journaling existed have none and get {@code -1}.
+     *
+     * @param ois the stream positioned just after the manager object
+     * @return the snapshot generation, or {@code -1} if absent
+     */
+    private static long readGeneration(ObjectInputStream ois) {
+        try {
+            return ois.readLong();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Replays the journal for the loaded snapshot and attaches it to the manager
+     * so later saves append to it. A journal from another generation is ignored.
+     *
+     * @param expenseManager the manager loaded from the snapshot
+     * @param journalFile    the journal file
+     * @param generation     the generation of the loaded snapshot
+     * @param ui             the UI object to display error messages
+     */
+    private static void replayJournal(ExpenseManager expenseManager, File journalFile, long generation, Ui ui) {
+        if (generation < 0 || !journalFile.exists()) {
+            return;
+        }
+
+        try {
+            int applied = ExpenseJournal.replay(journalFile, expenseManager, generation);
+            if (applied < 0) {
+                LOGGER.info("Journal does not belong to the loaded snapshot or uses an older format; "
+                        + "not appending to it");
+                return;
+            }
+            expenseManager.attachJournal(new ExpenseJournal(generation, applied));
+            LOGGER.info("Replayed " + applied + " journal record(s) from " + journalFile.getAbsolutePath());
+        } catch (IOException e) {
+            ui.showError("Failed to read your most recent changes. Some edits may be missing.");
+            LOGGER.log(Level.WARNING, "IOException while replaying journal", e);
+        }
+    }
 }
@@ -1,22 +1,40 @@
 package seedu.orcashbuddy.ui;
 
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.expense.Money;
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.metrics.CommandStats;
+import seedu.orcashbuddy.metrics.LatencyHistogram;
 import seedu.orcashbuddy.storage.BudgetStatus;
 
+import java.io.PrintStream;
 import java.util.List;
 
 /**
  * Handles user interactions such as displaying messages.
+ * <p>
+ * Output is collected in a buffer and written to the output stream by {@link #flush()},
+ * which {@code Main} calls once per command, rather than one console write per line.
+ * The buffer is also written whenever it passes 64K characters, so long listings do not
+ * hold all their text at once.
  */
 public class Ui {
     private static final String SEPARATOR = "---------------------------------------------------------------\n";
     private static final String ERROR_PREFIX = "[ERROR]: ";
-    private static final String CURRENCY_FORMAT = "%.2f";
 
     // ========== Progress bar constants ==========
     private static final int PROGRESS_BAR_WIDTH = 30;
     private static final String NO_BUDGET_LABEL = "[no budget set]";
 
+    //@@author aydrienlaw
+    /** Buffered characters after which output is written even before {@link #flush()}. */
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    /** Most expenses listed after a bulk delete; the rest are only counted. */
+    private static final int MAX_LISTED_DELETIONS = 10;
+    private static final String STATS_ROW_FORMAT = "%-10s %6s %7s  %-26s %-26s %s";
+    //@@author
+
     // ANSI color codes for visual budget bar
     private static final String ANSI_GREEN = "\u001B[32m";
     private static final String ANSI_YELLOW = "\u001B[33m";
@@ -25,21 +43,90 @@ public class Ui {
 
     // ========== Command usage constants ==========
     private static final String ADD_USAGE = "Invalid format. Use: add a/AMOUNT desc/DESCRIPTION [cat/CATEGORY]";
-    private static final String DELETE_USAGE = "Invalid format. Use: delete EXPENSE_INDEX";
+    private static final String DELETE_USAGE = "Invalid format. Use: delete EXPENSE_INDEX [MORE_INDICES_OR_RANGES]";
     private static final String SETBUDGET_USAGE = "Invalid format. Use: setbudget a/AMOUNT";
-    private static final String MARK_USAGE = "Invalid format. Use: mark EXPENSE_INDEX";
-    private static final String UNMARK_USAGE = "Invalid format. Use: unmark EXPENSE_INDEX";
+    private static final String MARK_USAGE = "Invalid format. "
+            + "Use: mark EXPENSE_INDEX [MORE_INDICES_OR_RANGES], mark cat/CATEGORY or mark desc/DESCRIPTION";
+    private static final String UNMARK_USAGE = "Invalid format. "
+            + "Use: unmark EXPENSE_INDEX [MORE_INDICES_OR_RANGES], unmark cat/CATEGORY or unmark desc/DESCRIPTION";
     private static final String FIND_USAGE = "Invalid format. Use: find cat/CATEGORY or find desc/DESCRIPTION";
     private static final String EDIT_USAGE = "Invalid format. " +
             "Use: edit id/INDEX [a/AMOUNT] [desc/DESCRIPTION] [cat/CATEGORY]";
+    //@@author aydrienlaw
+    private static final String IMPORT_USAGE = "Invalid format. Use: import FILE "
+            + "(CSV rows of AMOUNT,DESCRIPTION[,CATEGORY[,MARKED]])";
+    private static final String EXPORT_USAGE = "Invalid format. "
+            + "Use: export FILE [cat/CATEGORY or desc/DESCRIPTION] (FILE ending in .json for JSON lines)";
+
+    private final PrintStream out;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 256);
+
+    /**
+     * Creates a {@code Ui} that writes to standard output.
+     */
+    public Ui() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a {@code Ui} that writes to {@code out}, for example to capture output in tests.
+     *
+     * @param out the stream to write output to
+     */
+    public Ui(PrintStream out) {
+        assert out != null : "Output stream must not be null";
+        this.out = out;
+    }
+
+    /**
+     * Writes everything shown since the last flush to the output stream.
+     */
+    public void flush() {
+        if (buffer.length() > 0) {
+            out.append(buffer);
+            buffer.setLength(0);
+        }
+        out.flush();
+    }
+
+    /**
+     * Prints a message as it is, on its own line.
+     *
+     * @param message the message to print
+     */
+    public void showMessage(String message) {
+        println(message);
+    }
+
+    private void print(String text) {
+        buffer.append(text);
+        flushIfFull();
+    }
+
+    private void println(String line) {
+        buffer.append(line).append(LINE_SEPARATOR);
+        flushIfFull();
+    }
+
+    private void println() {
+        buffer.append(LINE_SEPARATOR);
+    }
+
+    private void flushIfFull() {
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            out.append(buffer);
+            buffer.setLength(0);
+        }
+    }
 
+    //@@author
     // ========== Display separators and decorators ==========
 
     /**
      * Prints a horizontal separator for readability.
      */
     public void showSeparator() {
-        System.out.print(SEPARATOR);
+        print(SEPARATOR);
     }
 
     /**
@@ -49,7 +136,7 @@ public class Ui {
      */
     public void showError(String message) {
         showSeparator();
-        System.out.println(ERROR_PREFIX + message);
+        println(ERROR_PREFIX + message);
         showSeparator();
     }
 
@@ -59,7 +146,7 @@ public class Ui {
      * Prints a welcome banner and the help menu.
      */
     public void showWelcome() {
-        System.out.println("Welcome to orCASHbuddy");
+        println("Welcome to orCASHbuddy");
         showSeparator();
         showMenu();
         showSeparator();
@@ -69,7 +156,7 @@ public class Ui {
      * Prints a farewell message.
      */
     public void showGoodbye() {
-        System.out.println("Bye. Hope to see you again soon!");
+        println("Bye. Hope to see you again soon!");
     }
 
     // ========== Menu and help display ==========
@@ -85,15 +172,20 @@ public class Ui {
             "Set a budget:                          setbudget a/AMOUNT",
             "List all expenses & statistics:        list",
             "Find expenses:                         find cat/CATEGORY or find desc/DESCRIPTION",
-            "Mark an expense as paid:               mark EXPENSE_INDEX",
-            "Mark an expense as unpaid:             unmark EXPENSE_INDEX",
-            "Delete an expense:                     delete EXPENSE_INDEX",
+            "Mark expenses as paid:                 mark EXPENSE_INDEX [MORE_INDICES_OR_RANGES]",
+            "                                       mark cat/CATEGORY or mark desc/DESCRIPTION",
+            "Mark expenses as unpaid:               unmark EXPENSE_INDEX [MORE_INDICES_OR_RANGES]",
+            "                                       unmark cat/CATEGORY or unmark desc/DESCRIPTION",
+            "Delete expenses:                       delete EXPENSE_INDEX [MORE_INDICES_OR_RANGES]",
             "Edit an expense:                       edit id/INDEX [a/AMOUNT] [desc/DESCRIPTION] [cat/CATEGORY]",
-            "Sort all expenses in descending order: sort",
+            "Sort all expenses in descending order: sort [top/COUNT] [page/PAGE]",
+            "Import expenses from a CSV file:       import FILE",
+            "Export expenses to CSV or JSON lines:  export FILE [cat/CATEGORY or desc/DESCRIPTION]",
+            "Show command timings:                  stats",
             "Exit the application:                  bye"
         };
         for (String item : menuItems) {
-            System.out.println(item);
+            println(item);
         }
     }
 
@@ -106,8 +198,8 @@ public class Ui {
      * @param expense the expense to print
      */
     private void showExpenseWithLabel(String label, Expense expense) {
-        System.out.println(label);
-        System.out.println(expense.formatForDisplay());
+        println(label);
+        printExpense(expense);
     }
 
     /**
@@ -139,6 +231,58 @@ public class Ui {
         showExpenseWithLabel("Deleted Expense:", expense);
     }
 
+    //@@author aydrienlaw
+    /**
+     * Displays how many expenses a bulk delete removed, listing the first
+     * {@link #MAX_LISTED_DELETIONS} of them.
+     *
+     * @param expenses the deleted expenses, in their former list order
+     */
+    public void showDeletedExpenses(List<Expense> expenses) {
+        println("Deleted " + expenses.size() + " expenses:");
+        int listed = Math.min(expenses.size(), MAX_LISTED_DELETIONS);
+        // Not numbered: the numbers they had no longer exist
+        for (int i = 0; i < listed; i++) {
+            printExpense(expenses.get(i));
+        }
+        if (listed < expenses.size()) {
+            println("... and " + (expenses.size() - listed) + " more.");
+        }
+    }
+
+    /**
+     * Displays how many rows of a CSV file were imported, and why some were rejected.
+     *
+     * @param fileName      the imported file
+     * @param importedCount the number of expenses added
+     * @param rejectedCount the number of rows rejected
+     * @param listedRejects the reasons for the first rejected rows
+     */
+    public void showImportResult(String fileName, int importedCount, int rejectedCount, List<String> listedRejects) {
+        println("Imported " + importedCount + " expense(s) from " + fileName + ".");
+        if (rejectedCount == 0) {
+            return;
+        }
+        println("Rejected " + rejectedCount + " row(s):");
+        for (String reject : listedRejects) {
+            println(reject);
+        }
+        if (listedRejects.size() < rejectedCount) {
+            println("... and " + (rejectedCount - listedRejects.size()) + " more.");
+        }
+    }
+
+    /**
+     * Displays how many expenses an export wrote.
+     *
+     * @param fileName      the file written
+     * @param exportedCount the number of expenses written
+     */
+    public void showExportResult(String fileName, int exportedCount) {
+        println("Exported " + exportedCount + " expense(s) to " + fileName + ".");
+    }
+
+    //@@author
     /**
      * Displays a confirmation message that an expense was marked.
      *
@@ -157,54 +301,157 @@ public class Ui {
         showExpenseWithLabel("Unmarked Expense:", expense);
     }
 
+    //@@author aydrienlaw
+    /**
+     * Displays how many commands a script ran and how many of them failed.
+     *
+     * @param scriptName   the script file
+     * @param commandCount the number of commands run
+     * @param failedCount  the number of them that failed
+     */
+    public void showScriptSummary(String scriptName, int commandCount, int failedCount) {
+        showSeparator();
+        println("Ran " + commandCount + " command(s) from " + scriptName
+                + (failedCount == 0 ? "." : "; " + failedCount + " failed."));
+        showSeparator();
+    }
+
+    /**
+     * Displays a table of how long each command word took to parse, execute and save, as
+     * the median, 99th percentile and maximum, and how many times it ran and failed.
+     * The save column is time spent on the command thread; writes made by the background
+     * saver follow on a line of their own.
+     *
+     * @param commandStats     the statistics of each command word run
+     * @param backgroundWrites the time taken by each background write
+     */
+    public void showCommandStats(List<CommandStats> commandStats, LatencyHistogram backgroundWrites) {
+        if (commandStats.isEmpty()) {
+            println("No commands have run yet.");
+            return;
+        }
+        println("Command timings since start-up (p50 / p99 / max):");
+        println(String.format(STATS_ROW_FORMAT, "COMMAND", "RUNS", "ERRORS", "PARSE", "EXECUTE", "SAVE"));
+        for (CommandStats stats : commandStats) {
+            println(String.format(STATS_ROW_FORMAT, stats.getCommandWord(), stats.getRunCount(),
+                    stats.getErrorCount(), formatLatencies(stats.getHistogram(CommandMetrics.Phase.PARSE)),
+                    formatLatencies(stats.getHistogram(CommandMetrics.Phase.EXECUTE)),
+                    formatLatencies(stats.getHistogram(CommandMetrics.Phase.SAVE))));
+        }
+        if (backgroundWrites.getCount() > 0) {
+            println("Background writes to disk: " + backgroundWrites.getCount() + ", "
+                    + formatLatencies(backgroundWrites));
+        }
+    }
+
+    private static String formatLatencies(LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return "-";
+        }
+        return formatDuration(histogram.getPercentileNanos(50)) + " / "
+                + formatDuration(histogram.getPercentileNanos(99)) + " / "
+                + formatDuration(histogram.getMaxNanos());
+    }
+
+    /**
+     * Formats a duration with a unit that keeps it to at most four digits, e.g. {@code 850ns},
+     * {@code 1234us} or {@code 12ms}.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the formatted duration
+     */
+    private static String formatDuration(long nanos) {
+        if (nanos < 10_000) {
+            return nanos + "ns";
+        } else if (nanos < 10_000_000) {
+            return nanos / 1_000 + "us";
+        } else if (nanos < 10_000_000_000L) {
+            return nanos / 1_000_000 + "ms";
+        }
+        return nanos / 1_000_000_000 + "s";
+    }
+
+    /**
+     * Displays how many expenses a bulk {@code mark} selected and marked.
+     *
+     * @param selectedCount the number of expenses selected
+     * @param changedCount  the number of them that were not already marked
+     */
+    public void showMarkedExpenses(int selectedCount, int changedCount) {
+        showBulkMarkResult("Marked", selectedCount, changedCount, "marked");
+    }
+
+    /**
+     * Displays how many expenses a bulk {@code unmark} selected and unmarked.
+     *
+     * @param selectedCount the number of expenses selected
+     * @param changedCount  the number of them that were marked before
+     */
+    public void showUnmarkedExpenses(int selectedCount, int changedCount) {
+        showBulkMarkResult("Unmarked", selectedCount, changedCount, "unmarked");
+    }
+
+    private void showBulkMarkResult(String action, int selectedCount, int changedCount, String state) {
+        int unchangedCount = selectedCount - changedCount;
+        println(action + " " + changedCount + " of " + selectedCount + " selected expenses"
+                + (unchangedCount == 0 ? "." : " (" + unchangedCount + " already " + state + ")."));
+    }
+
+    //@@author muadzyamani
+
     // ========== Budget-related display methods ==========
 
     /**
      * Displays a confirmation message showing the newly set total budget.
      *
-     * @param budget the new budget amount to display
+     * @param budget the new budget amount to display, in cents
      */
-    public void showNewBudget(double budget) {
-        System.out.println("Your total budget is now " + formatCurrency(budget) + ".");
+    public void showNewBudget(long budget) {
+        println("Your total budget is now " + formatCurrency(budget) + ".");
     }
 
     /**
      * Displays the user's budget.
      *
-     * @param budget the budget amount
+     * @param budget the budget amount, in cents
      */
-    public void showBudget(double budget) {
-        System.out.println("Budget set: " + formatCurrency(budget));
+    public void showBudget(long budget) {
+        println("Budget set: " + formatCurrency(budget));
     }
 
     //@@author gumingyoujia
     /**
      * Displays the total expenses so far.
      *
-     * @param totalExpense the total amount of expenses
+     * @param totalExpense the total amount of expenses, in cents
      */
-    private void showTotalExpenses(double totalExpense) {
-        System.out.println("Total expenses: " + formatCurrency(totalExpense));
+    private void showTotalExpenses(long totalExpense) {
+        println("Total expenses: " + formatCurrency(totalExpense));
     }
 
     /**
      * Displays the remaining balance after expenses.
      *
-     * @param remainingBalance the remaining balance amount
+     * @param remainingBalance the remaining balance amount, in cents
      */
-    private void showRemainingBalance(double remainingBalance) {
-        System.out.println("Remaining balance: " + formatCurrency(remainingBalance));
+    private void showRemainingBalance(long remainingBalance) {
+        println("Remaining balance: " + formatCurrency(remainingBalance));
     }
 
     //@@author
     /**
-     * Formats a double-precision amount as a currency string, e.g. {@code $12.34}.
+     * Formats an amount in cents as a currency string, e.g. {@code 1234} as {@code $12.34}.
      *
-     * @param amount the amount to format
+     * @param cents the amount to format, in cents
      * @return formatted currency string
      */
-    private String formatCurrency(double amount) {
-        return "$" + String.format(CURRENCY_FORMAT, amount);
+    private String formatCurrency(long cents) {
+        return appendCurrency(new StringBuilder(24), cents).toString();
+    }
+
+    //@@author aydrienlaw
+    private static StringBuilder appendCurrency(StringBuilder sb, long cents) {
+        return Money.appendTo(sb.append('$'), cents);
     }
 
     // ========== List display methods ==========
@@ -213,23 +460,23 @@ public class Ui {
      * Displays budget, total spent, remaining balance,
      * a progress bar, and the full list of expenses.
      *
-     * @param budget            the configured budget
-     * @param totalExpense      total spent so far
-     * @param remainingBalance  budget - totalExpense
+     * @param budget            the configured budget, in cents
+     * @param totalExpense      total spent so far, in cents
+     * @param remainingBalance  budget - totalExpense, in cents
      * @param expenses          all tracked expenses
      */
-    public void showFinancialSummary(double budget, double totalExpense,
-                                     double remainingBalance, List<Expense> expenses) {
-        System.out.println("FINANCIAL SUMMARY");
+    public void showFinancialSummary(long budget, long totalExpense,
+                                     long remainingBalance, List<Expense> expenses) {
+        println("FINANCIAL SUMMARY");
         showBudget(budget);
         showTotalExpenses(totalExpense);
         showRemainingBalance(remainingBalance);
 
-        System.out.println();
-        System.out.println("BUDGET STATUS");
+        println();
+        println("BUDGET STATUS");
         showProgressBar(budget, totalExpense);
 
-        System.out.println();
+        println();
         showExpenseList(expenses);
     }
 
@@ -242,15 +489,15 @@ public class Ui {
      * </pre>
      * The bar color changes as usage approaches/exceeds the budget.
      *
-     * @param budget       the configured budget
-     * @param totalExpense how much has been spent
+     * @param budget       the configured budget, in cents
+     * @param totalExpense how much has been spent, in cents
      */
-    private void showProgressBar(double budget, double totalExpense) {
+    private void showProgressBar(long budget, long totalExpense) {
         if (budget <= 0) {
-            System.out.println(NO_BUDGET_LABEL);
+            println(NO_BUDGET_LABEL);
         }
 
-        double ratio = totalExpense / budget;
+        double ratio = totalExpense / (double) budget;
 
         // Determine string colour based on budget usage
         String colour;
@@ -288,19 +535,20 @@ public class Ui {
         sb.append(ANSI_BLACK); // End color
 
         // Percentage annotation (clamped 0–100)
-        double pct = Math.max(0.0, Math.min(100.0, ratio * 100.0));
         sb.append(' ');
-        sb.append(String.format("%.2f%%", pct));
+        Money.appendPercentTo(sb, totalExpense, budget);
 
         // Over-budget note
         if (ratio > 1.0) {
-            sb.append("  (Over by ").append(formatCurrency(totalExpense - budget)).append(')');
+            appendCurrency(sb.append("  (Over by "), totalExpense - budget).append(')');
         } else {
-            sb.append("  (Remaining: ").append(formatCurrency(budget - totalExpense)).append(')');
+            appendCurrency(sb.append("  (Remaining: "), budget - totalExpense).append(')');
         }
 
-        System.out.println("Spent: " + formatCurrency(totalExpense) + " / " + formatCurrency(budget));
-        System.out.println(sb.toString());
+        appendCurrency(appendCurrency(buffer.append("Spent: "), totalExpense).append(" / "), budget)
+                .append(LINE_SEPARATOR);
+        buffer.append(sb).append(LINE_SEPARATOR);
+        flushIfFull();
     }
 
     //@@author gumingyoujia
@@ -315,7 +563,7 @@ public class Ui {
             showEmptyExpenseList();
             return;
         }
-        System.out.println("Here is your list of expenses:");
+        println("Here is your list of expenses:");
         showNumberedExpenses(expenses);
     }
 
@@ -323,7 +571,7 @@ public class Ui {
      * Displays a message indicating that there are no expenses yet.
      */
     public void showEmptyExpenseList() {
-        System.out.println("No expenses added so far.");
+        println("No expenses added so far.");
     }
 
     //@@author saheer17
@@ -334,10 +582,30 @@ public class Ui {
      * @param sortedExpenses the list of expenses sorted from highest to lowest amount
      */
     public void showSortedExpenseList(List<Expense> sortedExpenses) {
-        System.out.println("Here is your list of sorted expenses, starting with the highest amount:");
+        println("Here is your list of sorted expenses, starting with the highest amount:");
         showNumberedExpenses(sortedExpenses);
     }
 
+    //@@author aydrienlaw
+    /**
+     * Displays one page of the expenses sorted by amount in descending order,
+     * numbered by their rank in the full sorted list.
+     *
+     * @param pageExpenses the expenses on the page, possibly none
+     * @param firstRank    the 1-based rank of the first expense on the page
+     * @param totalCount   the total number of expenses
+     */
+    public void showSortedExpensePage(List<Expense> pageExpenses, int firstRank, int totalCount) {
+        if (pageExpenses.isEmpty()) {
+            println("No expenses on this page; there are only " + totalCount + " expenses.");
+            return;
+        }
+        int lastRank = firstRank + pageExpenses.size() - 1;
+        println("Here are expenses " + firstRank + " to " + lastRank + " of " + totalCount
+                + ", starting with the highest amount:");
+        showNumberedExpenses(pageExpenses, firstRank);
+    }
+
     //@@author muadzyamani
     /**
      * Displays the list of expenses found by the {@code find} command.
@@ -349,11 +617,11 @@ public class Ui {
      */
     public void showFoundExpenses(List<Expense> foundExpenses, String searchTerm, String searchType) {
         if (foundExpenses.isEmpty()) {
-            System.out.println("No expenses found matching " + searchType + ": " + searchTerm);
+            println("No expenses found matching " + searchType + ": " + searchTerm);
             return;
         }
 
-        System.out.println("Found " + foundExpenses.size() + " expense(s) matching " +
+        println("Found " + foundExpenses.size() + " expense(s) matching " +
                 searchType + ": " + searchTerm);
         showNumberedExpenses(foundExpenses);
     }
@@ -364,54 +632,77 @@ public class Ui {
      * @param expenses the list to print
      */
     private void showNumberedExpenses(List<Expense> expenses) {
+        showNumberedExpenses(expenses, 1);
+    }
+
+    /**
+     * Helper to print each expense in a list, numbered from {@code firstNumber}.
+     *
+     * @param expenses    the list to print
+     * @param firstNumber the number shown for the first expense
+     */
+    private void showNumberedExpenses(List<Expense> expenses, int firstNumber) {
         for (int i = 0; i < expenses.size(); i++) {
             Expense expense = expenses.get(i);
             assert expense != null : "Expense in list must not be null";
-            System.out.println((i + 1) + ". " + expense.formatForDisplay());
+            expense.appendForDisplay(buffer.append(firstNumber + i).append(". ")).append(LINE_SEPARATOR);
+            flushIfFull();
         }
     }
 
+    //@@author aydrienlaw
+    /**
+     * Prints one expense in its display form, without building a string for it.
+     *
+     * @param expense the expense to print
+     */
+    private void printExpense(Expense expense) {
+        expense.appendForDisplay(buffer).append(LINE_SEPARATOR);
+        flushIfFull();
+    }
+
+    //@@author muadzyamani
     // ========== Command usage methods ==========
     /**
      * Prints usage information for {@code add}.
      */
     public void showAddUsage() {
-        System.out.println(ADD_USAGE);
+        println(ADD_USAGE);
     }
 
     /**
      * Prints usage information for {@code delete}.
      */
     public void showDeleteUsage() {
-        System.out.println(DELETE_USAGE);
+        println(DELETE_USAGE);
     }
 
     /**
      * Prints usage information for {@code setbudget}.
      */
     public void showSetBudgetUsage() {
-        System.out.println(SETBUDGET_USAGE);
+        println(SETBUDGET_USAGE);
     }
 
     /**
      * Prints usage information for {@code mark}.
      */
     public void showMarkUsage() {
-        System.out.println(MARK_USAGE);
+        println(MARK_USAGE);
     }
 
     /**
      * Prints usage information for {@code unmark}.
      */
     public void showUnmarkUsage() {
-        System.out.println(UNMARK_USAGE);
+        println(UNMARK_USAGE);
     }
 
     /**
      * Prints usage information for {@code find}.
      */
     public void showFindUsage() {
-        System.out.println(FIND_USAGE);
+        println(FIND_USAGE);
     }
 
     //@@author gumingyoujia
@@ -419,7 +710,22 @@ public class Ui {
      * Prints usage information for {@code edit}.
      */
     public void showEditUsage() {
-        System.out.println(EDIT_USAGE);
+        println(EDIT_USAGE);
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Prints usage information for {@code import}.
+     */
+    public void showImportUsage() {
+        println(IMPORT_USAGE);
+    }
+
+    /**
+     * Prints usage information for {@code export}.
+     */
+    public void showExportUsage() {
+        println(EXPORT_USAGE);
     }
 
     //@@author gumingyoujia
@@ -437,7 +743,7 @@ public class Ui {
      * Displays a message for unknown commands and nudges the user toward {@code help}.
      */
     public void showUnknownCommand() {
-        System.out.println("Unknown command. Type 'help' to see available commands.");
+        println("Unknown command. Type 'help' to see available commands.");
     }
 
     // ========== Budget alert methods ==========
@@ -447,18 +753,18 @@ public class Ui {
      * For example, if spending exceeds the budget, prints an "exceeded budget" alert.
      *
      * @param status    the computed budget status
-     * @param remaining the remaining balance (may be negative if exceeded)
+     * @param remaining the remaining balance in cents (may be negative if exceeded)
      */
-    public void showBudgetStatus(BudgetStatus status, double remaining) {
+    public void showBudgetStatus(BudgetStatus status, long remaining) {
         switch (status) {
         case EXCEEDED -> {
-            System.out.println("Alert: You have exceeded your budget!");
-            System.out.println("Remaining balance: " + formatCurrency(remaining));
+            println("Alert: You have exceeded your budget!");
+            println("Remaining balance: " + formatCurrency(remaining));
         }
-        case EQUAL -> System.out.println("Alert: You have used up your budget!");
+        case EQUAL -> println("Alert: You have used up your budget!");
         case NEAR -> {
-            System.out.println("Alert: Your remaining balance is low.");
-            System.out.println("Remaining balance: " + formatCurrency(remaining));
+            println("Alert: Your remaining balance is low.");
+            println("Remaining balance: " + formatCurrency(remaining));
         }
         default -> { /* no-op */ }
         }
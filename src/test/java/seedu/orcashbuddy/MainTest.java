@@ -0,0 +1,193 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.metrics.CommandStats;
+import seedu.orcashbuddy.storage.BackgroundSaver;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.storage.StorageManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests running commands with {@link Main#run()} and scripts with {@link Main#runScript(Path, int)}.
+ * <p>
+ * Saves are made on the test thread into the {@code data} folder, which is emptied before
+ * and after each test.
+ */
+class MainTest {
+    private static final String DIRECTORY = "data";
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private Ui ui;
+    private Path script;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cleanupDataFiles();
+        ui = new Ui(new PrintStream(out, true, StandardCharsets.UTF_8));
+        script = Files.createTempFile("orcashbuddy", ".txt");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(script);
+        cleanupDataFiles();
+    }
+
+    @Test
+    void runScript_saveEvery_savesAfterEveryNChangesAndAtTheEnd() throws IOException {
+        writeScript("add a/1 desc/One", "add a/2 desc/Two", "list",
+                "add a/3 desc/Three", "add a/4 desc/Four", "add a/5 desc/Five");
+        CommandMetrics metrics = new CommandMetrics();
+
+        assertEquals(0, new Main(ui, metrics, null).runScript(script, 2));
+
+        // list changes nothing, so saves follow the second and fourth add
+        assertEquals(2, saveCount(metrics, "add"));
+        assertEquals(5, loadSaved().getSize());
+    }
+
+    @Test
+    void runScript_blankLinesAndComments_areSkipped() throws IOException {
+        writeScript("# Lunch this week", "", "   ", "add a/7 desc/Lunch", "  # done");
+
+        assertEquals(0, new Main(ui, new CommandMetrics(), null).runScript(script, 0));
+
+        assertTrue(output().contains("Ran 1 command(s) from " + script + "."));
+        assertEquals(1, loadSaved().getSize());
+    }
+
+    @Test
+    void runScript_failingCommands_areCountedAndTheRestSaved() throws Exception {
+        writeScript("add a/7 desc/Lunch", "frobnicate", "delete 9", "add a/3 desc/Bus");
+
+        assertEquals(2, new Main(ui, new CommandMetrics(), null).runScript(script, 0));
+
+        assertTrue(output().contains("Ran 4 command(s) from " + script + "; 2 failed."));
+        ExpenseManager saved = loadSaved();
+        assertEquals(2, saved.getSize());
+        assertEquals("Bus", saved.getExpense(2).getDescription());
+    }
+
+    @Test
+    void runScript_bye_stopsTheScript() throws IOException {
+        writeScript("add a/7 desc/Lunch", "bye", "add a/3 desc/Bus", "frobnicate");
+
+        assertEquals(0, new Main(ui, new CommandMetrics(), null).runScript(script, 0));
+
+        assertTrue(output().contains("Ran 2 command(s) from " + script + "."));
+        assertEquals(1, loadSaved().getSize());
+    }
+
+    @Test
+    void runScript_unreadableScript_returnsMinusOneAndSavesNothing() throws IOException {
+        Files.delete(script);
+
+        assertEquals(-1, new Main(ui, new CommandMetrics(), null).runScript(script, 0));
+
+        assertTrue(output().contains("Unable to read script: " + script));
+        assertEquals(0, loadSaved().getSize());
+    }
+
+    @Test
+    void run_readOnlyCommands_doNotSubmitSaves() throws IOException {
+        writeScript("add a/7 desc/Lunch cat/Food");
+        assertEquals(0, new Main(ui, new CommandMetrics(), null).runScript(script, 0));
+        RecordingSaver saver = new RecordingSaver();
+
+        runWithInput(new Main(ui, new CommandMetrics(), saver), "list\nfind cat/Food\nsort\nbye\n");
+        assertEquals(0, saver.submitCount);
+
+        runWithInput(new Main(ui, new CommandMetrics(), saver), "add a/3 desc/Bus\nlist\nbye\n");
+        assertEquals(1, saver.submitCount);
+        saver.close();
+    }
+
+    @Test
+    void parseSaveInterval_scriptOptions_returnsIntervalOrMinusOne() {
+        assertEquals(0, Main.parseSaveInterval(new String[]{"--script", "a.txt"}));
+        assertEquals(50, Main.parseSaveInterval(new String[]{"--script", "a.txt", "--save-every", "50"}));
+        assertEquals(-1, Main.parseSaveInterval(new String[]{"--script", "a.txt", "--save-every", "-3"}));
+        assertEquals(-1, Main.parseSaveInterval(new String[]{"--script", "a.txt", "--save-every", "ten"}));
+        assertEquals(-1, Main.parseSaveInterval(new String[]{"--script", "a.txt", "--every", "5"}));
+        assertEquals(-1, Main.parseSaveInterval(new String[]{"--script"}));
+        assertEquals(-1, Main.parseSaveInterval(new String[]{"a.txt"}));
+    }
+
+    private static void runWithInput(Main main, String input) {
+        InputStream originalIn = System.in;
+        System.setIn(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        try {
+            main.run();
+        } finally {
+            System.setIn(originalIn);
+        }
+    }
+
+    private void writeScript(String... lines) throws IOException {
+        Files.write(script, List.of(lines), StandardCharsets.UTF_8);
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ExpenseManager loadSaved() {
+        return StorageManager.loadExpenseManager(new Ui(new PrintStream(new ByteArrayOutputStream())));
+    }
+
+    private static long saveCount(CommandMetrics metrics, String commandWord) {
+        for (CommandStats stats : metrics.getCommandStats()) {
+            if (stats.getCommandWord().equals(commandWord)) {
+                return stats.getHistogram(CommandMetrics.Phase.SAVE).getCount();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Saver that counts the saves submitted to it without writing anything.
+     */
+    private static class RecordingSaver extends BackgroundSaver {
+        private int submitCount;
+
+        RecordingSaver() {
+            super(0);
+        }
+
+        @Override
+        public void submit(ExpenseManager expenseManager, Ui ui) {
+            submitCount++;
+        }
+    }
+
+    private static void cleanupDataFiles() {
+        File dir = new File(DIRECTORY);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        if (dir.exists()) {
+            dir.delete();
+        }
+    }
+}
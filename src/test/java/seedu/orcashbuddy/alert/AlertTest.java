@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.storage.BudgetStatus;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,7 +23,7 @@ class AlertTest {
         boolean exceedAlertShown = false;
 
         @Override
-        public void showBudgetStatus(BudgetStatus status, double remainingBalance) {
+        public void showBudgetStatus(BudgetStatus status, long remainingBalance) {
             nearAlertShown = (status == BudgetStatus.NEAR);
             equalAlertShown = (status == BudgetStatus.EQUAL);
             exceedAlertShown = (status == BudgetStatus.EXCEEDED);
@@ -35,17 +36,17 @@ class AlertTest {
         ui = new StubUi();
 
         // Set budget to control remaining balance
-        new seedu.orcashbuddy.command.SetBudgetCommand(100.0).execute(manager, ui);
+        new seedu.orcashbuddy.command.SetBudgetCommand(10000).execute(manager, ui);
     }
 
     @Test
     void checkRemainingBalance_whenBalanceBelowThreshold_triggersNearAlert() throws Exception {
-        new seedu.orcashbuddy.command.AddCommand(95.0, "Dinner").execute(manager, ui);
+        new seedu.orcashbuddy.command.AddCommand(9500, "Dinner").execute(manager, ui);
         new seedu.orcashbuddy.command.MarkCommand(1).execute(manager, ui);
 
         BudgetStatus status = manager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = manager.getRemainingBalance();
+            long remainingBalance = manager.getRemainingBalanceCents();
             ui.showBudgetStatus(status, remainingBalance);
         }
 
@@ -56,12 +57,12 @@ class AlertTest {
 
     @Test
     void checkRemainingBalance_whenBalanceZero_triggersEqualAlert() throws Exception {
-        new seedu.orcashbuddy.command.AddCommand(100.0, "Laptop").execute(manager, ui);
+        new seedu.orcashbuddy.command.AddCommand(10000, "Laptop").execute(manager, ui);
         new seedu.orcashbuddy.command.MarkCommand(1).execute(manager, ui);
 
         BudgetStatus status = manager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = manager.getRemainingBalance();
+            long remainingBalance = manager.getRemainingBalanceCents();
             ui.showBudgetStatus(status, remainingBalance);
         }
 
@@ -72,12 +73,12 @@ class AlertTest {
 
     @Test
     void checkRemainingBalance_whenBalanceNegative_triggersExceedAlert() throws Exception {
-        new seedu.orcashbuddy.command.AddCommand(120.0, "Shoes").execute(manager, ui);
+        new seedu.orcashbuddy.command.AddCommand(12000, "Shoes").execute(manager, ui);
         new seedu.orcashbuddy.command.MarkCommand(1).execute(manager, ui);
 
         BudgetStatus status = manager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = manager.getRemainingBalance();
+            long remainingBalance = manager.getRemainingBalanceCents();
             ui.showBudgetStatus(status, remainingBalance);
         }
 
@@ -88,12 +89,12 @@ class AlertTest {
 
     @Test
     void checkRemainingBalance_whenBalanceAboveThreshold_noAlert() throws Exception {
-        new seedu.orcashbuddy.command.AddCommand(20.0, "Snacks").execute(manager, ui);
+        new seedu.orcashbuddy.command.AddCommand(2000, "Snacks").execute(manager, ui);
         new seedu.orcashbuddy.command.MarkCommand(1).execute(manager, ui);
 
         BudgetStatus status = manager.determineBudgetStatus();
         if (status != BudgetStatus.OK) {
-            double remainingBalance = manager.getRemainingBalance();
+            long remainingBalance = manager.getRemainingBalanceCents();
             ui.showBudgetStatus(status, remainingBalance);
         }
 
@@ -101,4 +102,25 @@ class AlertTest {
         assertFalse(ui.equalAlertShown);
         assertFalse(ui.exceedAlertShown);
     }
+
+    //@@author aydrienlaw
+    @Test
+    void determineBudgetStatus_afterRepeatedMarkUnmark_staysExactlyEqual() throws Exception {
+        // 0.10 and 0.20 have no exact double representation, so floating-point totals drift here
+        manager.addExpense(new seedu.orcashbuddy.expense.Expense(10, "Gum", "Snacks"));
+        manager.addExpense(new seedu.orcashbuddy.expense.Expense(20, "Candy", "Snacks"));
+        manager.addExpense(new seedu.orcashbuddy.expense.Expense(9970, "Rent", "Home"));
+        manager.markExpense(3);
+        for (int i = 0; i < 100_000; i++) {
+            manager.markExpense(1);
+            manager.markExpense(2);
+            manager.unmarkExpense(1);
+            manager.unmarkExpense(2);
+        }
+        manager.markExpense(1);
+        manager.markExpense(2);
+
+        assertEquals(0, manager.getRemainingBalanceCents());
+        assertEquals(BudgetStatus.EQUAL, manager.determineBudgetStatus());
+    }
 }
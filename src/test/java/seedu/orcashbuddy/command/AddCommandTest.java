@@ -24,9 +24,9 @@ class AddCommandTest {
 
     static class StubUi extends Ui {
         Expense lastNewExpense;
-        Double seenTotal;
-        Double seenBudget;
-        Double seenRemaining;
+        Long seenTotal;
+        Long seenBudget;
+        Long seenRemaining;
         List<Expense> lastListedExpenses;
 
         @Override
@@ -35,8 +35,8 @@ class AddCommandTest {
         }
 
         @Override
-        public void showFinancialSummary(double budget, double totalExpense,
-                                         double remainingBalance, List<Expense> expenses) {
+        public void showFinancialSummary(long budget, long totalExpense,
+                                         long remainingBalance, List<Expense> expenses) {
             this.seenTotal = totalExpense;
             this.seenBudget = budget;
             this.seenRemaining = remainingBalance;
@@ -52,7 +52,7 @@ class AddCommandTest {
 
     @Test
     void execute_addsExpense_showsInUi() throws Exception {
-        AddCommand cmd = new AddCommand(12.50, "Lunch");
+        AddCommand cmd = new AddCommand(1250, "Lunch");
         cmd.execute(manager, ui);
 
         // UI should be notified with the same expense
@@ -71,14 +71,14 @@ class AddCommandTest {
 
     @Test
     void execute_zeroAmount_asserts() {
-        AddCommand cmd = new AddCommand(0.0, "Invalid expense");
+        AddCommand cmd = new AddCommand(0, "Invalid expense");
         // This relies on JVM assertions being enabled (-ea)
         assertThrows(AssertionError.class, () -> cmd.execute(manager, ui));
     }
 
     @Test
     void execute_blankDescription_asserts() {
-        AddCommand cmd = new AddCommand(5.0, "   ");
+        AddCommand cmd = new AddCommand(500, "   ");
         // This relies on JVM assertions being enabled (-ea)
         assertThrows(AssertionError.class, () -> cmd.execute(manager, ui));
     }
@@ -3,16 +3,21 @@ package seedu.orcashbuddy.command;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.parser.Parser;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 import seedu.orcashbuddy.storage.BudgetStatus;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Command-level tests for deleting an expense.
@@ -28,9 +33,10 @@ class DeleteCommandTest {
 
     static class StubUi extends Ui {
         Expense lastDeletedExpense;
-        Double seenTotal = null;
-        Double seenBudget= null;
-        Double seenRemaining = null;
+        List<Expense> lastDeletedExpenses;
+        Long seenTotal = null;
+        Long seenBudget= null;
+        Long seenRemaining = null;
         List<Expense> lastListedExpenses;
         boolean budgetStatusShown = false;
 
@@ -40,8 +46,13 @@ class DeleteCommandTest {
         }
 
         @Override
-        public void showFinancialSummary(double budget, double totalExpense,
-                                         double remainingBalance, List<Expense> expenses) {
+        public void showDeletedExpenses(List<Expense> expenses) {
+            this.lastDeletedExpenses = expenses;
+        }
+
+        @Override
+        public void showFinancialSummary(long budget, long totalExpense,
+                                         long remainingBalance, List<Expense> expenses) {
             this.seenTotal = totalExpense;
             this.seenBudget = budget;
             this.seenRemaining = remainingBalance;
@@ -49,7 +60,7 @@ class DeleteCommandTest {
         }
 
         @Override
-        public void showBudgetStatus(BudgetStatus status, double remaining) {
+        public void showBudgetStatus(BudgetStatus status, long remaining) {
             this.budgetStatusShown = true;
         }
     }
@@ -58,8 +69,8 @@ class DeleteCommandTest {
     void setUp() {
         manager = new ExpenseManager();
         ui = new StubUi();
-        new AddCommand(5.00, "Snack").execute(manager, ui);
-        new AddCommand(10.00, "Taxi").execute(manager, ui);
+        new AddCommand(500, "Snack").execute(manager, ui);
+        new AddCommand(1000, "Taxi").execute(manager, ui);
     }
 
     /**
@@ -89,17 +100,17 @@ class DeleteCommandTest {
      */
     @Test
     void execute_deletePreviouslyMarked_rebalancesTotals() throws Exception {
-        new AddCommand(40.00, "Books").execute(manager, ui);
-        new SetBudgetCommand(200.00).execute(manager, ui);
+        new AddCommand(4000, "Books").execute(manager, ui);
+        new SetBudgetCommand(20000).execute(manager, ui);
         new MarkCommand(3).execute(manager, ui);
         new ListCommand().execute(manager, ui);
-        assertEquals(40.00, ui.seenTotal, 1e-6);
-        assertEquals(160.00, ui.seenRemaining, 1e-6);
+        assertEquals(4000L, ui.seenTotal);
+        assertEquals(16000L, ui.seenRemaining);
         // Delete the marked expense -> totals drop to zero
         new DeleteCommand(3).execute(manager, ui);
         new ListCommand().execute(manager, ui);
-        assertEquals(0.00, ui.seenTotal, 1e-6);
-        assertEquals(200.00, ui.seenRemaining, 1e-6);
+        assertEquals(0L, ui.seenTotal);
+        assertEquals(20000L, ui.seenRemaining);
     }
 
     /**
@@ -111,8 +122,8 @@ class DeleteCommandTest {
      */
     @Test
     void execute_deleteUnmarkedWithNonOkBudgetStatus_showsBudgetStatus() throws Exception {
-        new AddCommand(3.00, "Coffee").execute(manager, ui);
-        new SetBudgetCommand(18.00).execute(manager, ui);
+        new AddCommand(300, "Coffee").execute(manager, ui);
+        new SetBudgetCommand(1800).execute(manager, ui);
         new MarkCommand(1).execute(manager, ui);
         new MarkCommand(2).execute(manager, ui);
         ui.budgetStatusShown = false;
@@ -125,4 +136,61 @@ class DeleteCommandTest {
         assertEquals(BudgetStatus.NEAR, manager.determineBudgetStatus());
     }
 
+    //@@author aydrienlaw
+    /**
+     * Tests that a bulk delete removes every listed index and range, numbered as before
+     * the delete, and adjusts the totals once for the marked expenses among them.
+     */
+    @Test
+    void execute_indicesAndRange_deletesAllAndRebalancesTotals() throws Exception {
+        new AddCommand(300, "Coffee").execute(manager, ui);
+        new AddCommand(700, "Lunch").execute(manager, ui);
+        new AddCommand(200, "Bus").execute(manager, ui);
+        new SetBudgetCommand(5000).execute(manager, ui);
+        new MarkCommand(2).execute(manager, ui);
+        new MarkCommand(4).execute(manager, ui);
+        IndexSelection indices = new IndexSelection(new int[]{1, 1, 3, 4});
+
+        new DeleteCommand(indices).execute(manager, ui);
+
+        assertEquals(List.of("Snack", "Coffee", "Lunch"), descriptionsOf(ui.lastDeletedExpenses));
+        assertEquals(2, manager.getSize());
+        assertEquals("Taxi", manager.getExpense(1).getDescription());
+        assertEquals("Bus", manager.getExpense(2).getDescription());
+        assertEquals(1000L, manager.getTotalExpensesCents());
+        assertEquals(4000L, manager.getRemainingBalanceCents());
+    }
+
+    /**
+     * Tests that a bulk delete with any index out of range deletes nothing.
+     */
+    @Test
+    void execute_indexOutOfRange_deletesNothing() {
+        IndexSelection indices = new IndexSelection(new int[]{1, 1, 3, 3});
+
+        assertThrows(OrCashBuddyException.class, () -> new DeleteCommand(indices).execute(manager, ui));
+        assertEquals(2, manager.getSize());
+    }
+
+    /**
+     * Tests that a parsed range reaching far past the end of the list is rejected without
+     * expanding it, and deletes nothing.
+     */
+    @Test
+    void execute_hugeRange_deletesNothing() {
+        Command command = new Parser().parse("delete 1-2147483647");
+
+        assertInstanceOf(DeleteCommand.class, command);
+        assertThrows(OrCashBuddyException.class, () -> command.execute(manager, ui));
+        assertEquals(2, manager.getSize());
+    }
+
+    private static List<String> descriptionsOf(List<Expense> expenses) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : expenses) {
+            descriptions.add(expense.getDescription());
+        }
+        return descriptions;
+    }
+
 }
@@ -46,7 +46,7 @@ class EditCommandTest {
         }
 
         @Override
-        public void showBudgetStatus(BudgetStatus status, double remainingBalance) {
+        public void showBudgetStatus(BudgetStatus status, long remainingBalance) {
             budgetStatusShown = true;
         }
     }
@@ -56,14 +56,14 @@ class EditCommandTest {
         manager = new ExpenseManager();
         ui = new StubUi();
 
-        new AddCommand(12.50, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(30.00, "Book", "Education").execute(manager, ui);
-        new SetBudgetCommand(100.0).execute(manager, ui);
+        new AddCommand(1250, "Lunch", "Food").execute(manager, ui);
+        new AddCommand(3000, "Book", "Education").execute(manager, ui);
+        new SetBudgetCommand(10000).execute(manager, ui);
     }
 
     @Test
     void execute_editAllFields_updatesExpenseSuccessfully() throws Exception {
-        EditCommand cmd = new EditCommand(1, 20.00, "Dinner", "Meals");
+        EditCommand cmd = new EditCommand(1, 2000L, "Dinner", "Meals");
         cmd.execute(manager, ui);
 
         Expense edited = manager.getExpense(1);
@@ -88,7 +88,7 @@ class EditCommandTest {
 
     @Test
     void execute_editDoesNotAffectOtherExpenses() throws Exception {
-        EditCommand cmd = new EditCommand(1, 25.0, "Dinner", null);
+        EditCommand cmd = new EditCommand(1, 2500L, "Dinner", null);
         cmd.execute(manager, ui);
 
         Expense edited = manager.getExpense(1);
@@ -103,7 +103,7 @@ class EditCommandTest {
         // mark the first expense before editing
         new MarkCommand(1).execute(manager, ui);
 
-        EditCommand cmd = new EditCommand(1, 15.0, "Lunch with friends", null);
+        EditCommand cmd = new EditCommand(1, 1500L, "Lunch with friends", null);
         cmd.execute(manager, ui);
 
         Expense edited = manager.getExpense(1);
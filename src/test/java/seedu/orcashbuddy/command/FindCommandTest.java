@@ -50,9 +50,9 @@ class FindCommandTest {
     @Test
     void execute_findByCategory_findsMatchingExpenses() throws Exception {
         // Add expenses with different categories
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
-        new AddCommand(25.00, "Dinner", "Food").execute(manager, ui);
+        new AddCommand(5000, "Lunch", "Food").execute(manager, ui);
+        new AddCommand(10000, "Court booking", "Venue").execute(manager, ui);
+        new AddCommand(2500, "Dinner", "Food").execute(manager, ui);
 
         // Execute find command for "Food" category
         new FindCommand("category", "Food").execute(manager, ui);
@@ -76,8 +76,8 @@ class FindCommandTest {
     @Test
     void execute_findByCategoryLowercase_findsMatchingExpenses() throws Exception {
         // Add expenses with mixed case categories
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        new AddCommand(5000, "Lunch", "Food").execute(manager, ui);
+        new AddCommand(10000, "Court booking", "Venue").execute(manager, ui);
 
         // Execute find command with lowercase search term
         new FindCommand("category", "food").execute(manager, ui);
@@ -95,9 +95,9 @@ class FindCommandTest {
     @Test
     void execute_findByDescription_findsMatchingExpenses() throws Exception {
         // Add expenses with different descriptions
-        new AddCommand(50.00, "Lunch at cafe", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
-        new AddCommand(25.00, "Dinner at restaurant", "Food").execute(manager, ui);
+        new AddCommand(5000, "Lunch at cafe", "Food").execute(manager, ui);
+        new AddCommand(10000, "Court booking", "Venue").execute(manager, ui);
+        new AddCommand(2500, "Dinner at restaurant", "Food").execute(manager, ui);
 
         // Execute find command for "at" in description
         new FindCommand("description", "at").execute(manager, ui);
@@ -115,8 +115,8 @@ class FindCommandTest {
     @Test
     void execute_findByDescriptionUppercase_findsMatchingExpenses() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "lunch", "Food").execute(manager, ui);
-        new AddCommand(25.00, "dinner", "Food").execute(manager, ui);
+        new AddCommand(5000, "lunch", "Food").execute(manager, ui);
+        new AddCommand(2500, "dinner", "Food").execute(manager, ui);
 
         // Execute find command with uppercase search term
         new FindCommand("description", "LUNCH").execute(manager, ui);
@@ -134,8 +134,8 @@ class FindCommandTest {
     @Test
     void execute_findByCategoryNoMatch_returnsEmptyList() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        new AddCommand(5000, "Lunch", "Food").execute(manager, ui);
+        new AddCommand(10000, "Court booking", "Venue").execute(manager, ui);
 
         // Execute find command for non-existent category
         new FindCommand("category", "Transport").execute(manager, ui);
@@ -153,8 +153,8 @@ class FindCommandTest {
     @Test
     void execute_findByDescriptionNoMatch_returnsEmptyList() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        new AddCommand(5000, "Lunch", "Food").execute(manager, ui);
+        new AddCommand(10000, "Court booking", "Venue").execute(manager, ui);
 
         // Execute find command for non-existent description keyword
         new FindCommand("description", "breakfast").execute(manager, ui);
@@ -172,8 +172,8 @@ class FindCommandTest {
     @Test
     void execute_findByCategoryPartialMatch_findsMatchingExpenses() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "Lunch", "Food-Groceries").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        new AddCommand(5000, "Lunch", "Food-Groceries").execute(manager, ui);
+        new AddCommand(10000, "Court booking", "Venue").execute(manager, ui);
 
         // Execute find command with partial category name
         new FindCommand("category", "Food").execute(manager, ui);
@@ -190,8 +190,8 @@ class FindCommandTest {
     @Test
     void execute_findWithMarkedExpenses_findsCorrectly() throws Exception {
         // Add and mark expenses
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Dinner", "Food").execute(manager, ui);
+        new AddCommand(5000, "Lunch", "Food").execute(manager, ui);
+        new AddCommand(10000, "Dinner", "Food").execute(manager, ui);
         manager.markExpense(1); // Mark first expense
 
         // Execute find command
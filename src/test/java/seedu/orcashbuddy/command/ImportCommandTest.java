@@ -0,0 +1,117 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Command-level tests for importing expenses from CSV.
+ */
+class ImportCommandTest {
+    private Path file;
+    private ExpenseManager manager;
+    private StubUi ui;
+
+    static class StubUi extends Ui {
+        int importedCount;
+        int rejectedCount;
+        List<String> listedRejects;
+        String lastError;
+
+        @Override
+        public void showError(String message) {
+            lastError = message;
+        }
+
+        @Override
+        public void showImportResult(String fileName, int importedCount, int rejectedCount,
+                List<String> listedRejects) {
+            this.importedCount = importedCount;
+            this.rejectedCount = rejectedCount;
+            this.listedRejects = listedRejects;
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("orcashbuddy", ".csv");
+        manager = new ExpenseManager();
+        ui = new StubUi();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void execute_mixedRows_addsValidRowsAndCountsMarkedOnce() throws Exception {
+        Files.writeString(file, "amount,description,category,marked\n"
+                + "12.50,Lunch,Food,true\n"
+                + "abc,Broken\n"
+                + "3,Bus,Transport\n"
+                + "7.25,\"Books, used\",School,1\n", StandardCharsets.UTF_8);
+        manager.setBudget(5000);
+
+        new ImportCommand(file.toString()).execute(manager, ui);
+
+        assertEquals(3, ui.importedCount);
+        assertEquals(1, ui.rejectedCount);
+        assertTrue(ui.listedRejects.get(0).startsWith("Line 3: "));
+        assertEquals(3, manager.getSize());
+        assertEquals("Books, used", manager.getExpense(3).getDescription());
+        assertFalse(manager.getExpense(2).isMarked());
+        assertEquals(1975, manager.getTotalExpensesCents());
+        assertEquals(3025, manager.getRemainingBalanceCents());
+        assertEquals(1, manager.findExpensesByCategory("school").size());
+    }
+
+    @Test
+    void execute_invalidByteAfterFirstChunk_keepsRowsAndReportsError() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            csv.append("1,Row").append(i).append('\n');
+        }
+        byte[] validRows = csv.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] invalidRow = {'2', ',', 'C', 'a', 'f', (byte) 0xE9, '\n'};
+        byte[] content = new byte[validRows.length + invalidRow.length];
+        System.arraycopy(validRows, 0, content, 0, validRows.length);
+        System.arraycopy(invalidRow, 0, content, validRows.length, invalidRow.length);
+        Files.write(file, content);
+
+        new ImportCommand(file.toString()).execute(manager, ui);
+
+        assertTrue(ui.importedCount > 0);
+        assertEquals(ui.importedCount, manager.getSize());
+        assertEquals("Unable to read file: " + file, ui.lastError);
+    }
+
+    @Test
+    void execute_invalidByteInFirstRow_throwsOrCashBuddyException() throws Exception {
+        Files.write(file, new byte[]{'2', ',', 'C', 'a', 'f', (byte) 0xE9, '\n'});
+
+        assertThrows(OrCashBuddyException.class, () -> new ImportCommand(file.toString()).execute(manager, ui));
+        assertEquals(0, manager.getSize());
+    }
+
+    @Test
+    void execute_missingFile_throwsOrCashBuddyException() {
+        assertThrows(OrCashBuddyException.class,
+                () -> new ImportCommand(file + ".missing").execute(manager, ui));
+    }
+}
@@ -20,14 +20,14 @@ class ListCommandTest {
     private StubUi ui;
 
     static class StubUi extends Ui {
-        Double seenTotal = null;
-        Double seenBudget = null;
-        Double seenRemaining = null;
+        Long seenTotal = null;
+        Long seenBudget = null;
+        Long seenRemaining = null;
         List<Expense> lastListedExpenses = null;
 
         @Override
-        public void showFinancialSummary(double budget, double totalExpense,
-                                         double remainingBalance, List<Expense> expenses) {
+        public void showFinancialSummary(long budget, long totalExpense,
+                                         long remainingBalance, List<Expense> expenses) {
             this.seenTotal = totalExpense;
             this.seenBudget = budget;
             this.seenRemaining = remainingBalance;
@@ -43,15 +43,15 @@ class ListCommandTest {
 
     @Test
     void execute_withExpensesAndBudget_displaysTotalsAndItems() throws Exception {
-        new AddCommand(12.50, "Lunch").execute(manager, ui);
-        new AddCommand(7.25, "Coffee").execute(manager, ui);
-        new SetBudgetCommand(100.0).execute(manager, ui);
+        new AddCommand(1250, "Lunch").execute(manager, ui);
+        new AddCommand(725, "Coffee").execute(manager, ui);
+        new SetBudgetCommand(10000).execute(manager, ui);
 
         new ListCommand().execute(manager, ui);
 
-        assertEquals(0.00, ui.seenTotal, 1e-6);
-        assertEquals(100.0, ui.seenBudget, 1e-6);
-        assertEquals(100.00, ui.seenRemaining, 1e-6);
+        assertEquals(0L, ui.seenTotal);
+        assertEquals(10000L, ui.seenBudget);
+        assertEquals(10000L, ui.seenRemaining);
         assertEquals(2, ui.lastListedExpenses.size());
         assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Lunch - $12.50",
                 ui.lastListedExpenses.get(0).formatForDisplay());
@@ -61,13 +61,13 @@ class ListCommandTest {
 
     @Test
     void execute_noBudget_defaultsToZero() throws Exception {
-        new AddCommand(2.00, "Pen").execute(manager, ui);
+        new AddCommand(200, "Pen").execute(manager, ui);
 
         new ListCommand().execute(manager, ui);
 
-        assertEquals(0.00, ui.seenTotal, 1e-6);
-        assertEquals(0.0, ui.seenBudget, 1e-6);
-        assertEquals(0.00, ui.seenRemaining, 1e-6);
+        assertEquals(0L, ui.seenTotal);
+        assertEquals(0L, ui.seenBudget);
+        assertEquals(0L, ui.seenRemaining);
         assertEquals(1, ui.lastListedExpenses.size());
     }
 }
@@ -9,8 +9,10 @@ import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Command-level tests for marking an expense.
@@ -22,18 +24,26 @@ class MarkCommandTest {
 
     static class StubUi extends Ui {
         Expense lastMarkedExpense;
+        int selectedCount;
+        int changedCount;
 
         @Override
         public void showMarkedExpense(Expense expense) {
             this.lastMarkedExpense = expense;
         }
+
+        @Override
+        public void showMarkedExpenses(int selectedCount, int changedCount) {
+            this.selectedCount = selectedCount;
+            this.changedCount = changedCount;
+        }
     }
 
     @BeforeEach
     void setUp() {
         manager = new ExpenseManager();
         ui = new StubUi();
-        new AddCommand(30.00, "Groceries").execute(manager, ui);
+        new AddCommand(3000, "Groceries").execute(manager, ui);
     }
 
     @Test
@@ -45,6 +55,55 @@ class MarkCommandTest {
                 ui.lastMarkedExpense.formatForDisplay());
     }
 
+    //@@author aydrienlaw
+    @Test
+    void execute_rangeWithMarkedExpense_countsEachAmountOnce() throws Exception {
+        new AddCommand(1000, "Bus", "Transport").execute(manager, ui);
+        new AddCommand(500, "Coffee", "Food").execute(manager, ui);
+        new MarkCommand(2).execute(manager, ui);
+        IndexSelection indices = new IndexSelection(new int[]{1, 3});
+
+        new MarkCommand(indices).execute(manager, ui);
+
+        assertEquals(3, ui.selectedCount);
+        assertEquals(2, ui.changedCount);
+        assertEquals(4500, manager.getTotalExpensesCents());
+    }
+
+    @Test
+    void execute_hugeRange_marksNothing() throws Exception {
+        new AddCommand(1000, "Bus", "Transport").execute(manager, ui);
+        IndexSelection indices = new IndexSelection(new int[]{1, Integer.MAX_VALUE});
+
+        assertThrows(OrCashBuddyException.class, () -> new MarkCommand(indices).execute(manager, ui));
+        assertThrows(OrCashBuddyException.class, () -> new UnmarkCommand(indices).execute(manager, ui));
+        assertEquals(0, manager.getTotalExpensesCents());
+    }
+
+    @Test
+    void execute_categoryQuery_marksEveryMatch() throws Exception {
+        new AddCommand(500, "Coffee", "Food").execute(manager, ui);
+        new AddCommand(1000, "Bus", "Transport").execute(manager, ui);
+        new AddCommand(700, "Lunch", "food").execute(manager, ui);
+
+        new MarkCommand(new FindCommand("category", "Food")).execute(manager, ui);
+
+        assertEquals(2, ui.changedCount);
+        assertTrue(manager.getExpense(2).isMarked());
+        assertFalse(manager.getExpense(3).isMarked());
+        assertTrue(manager.getExpense(4).isMarked());
+        assertEquals(1200, manager.getTotalExpensesCents());
+    }
+
+    @Test
+    void execute_queryWithoutMatches_changesNothing() throws Exception {
+        new MarkCommand(new FindCommand("description", "taxi")).execute(manager, ui);
+
+        assertEquals(0, ui.changedCount);
+        assertEquals(0, manager.getTotalExpensesCents());
+    }
+
+    //@@author muadzyamani
     @Test
     void execute_invalidZeroIndex_asserts() {
         assertThrows(AssertionError.class, () -> new MarkCommand(0).execute(manager, ui));
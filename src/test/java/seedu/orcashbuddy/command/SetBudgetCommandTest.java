@@ -22,20 +22,20 @@ class SetBudgetCommandTest {
     private StubUi ui;
 
     static class StubUi extends Ui {
-        Double lastBudgetShown = null;
-        Double seenTotal = null;
-        Double seenBudget = null;
-        Double seenRemaining = null;
+        Long lastBudgetShown = null;
+        Long seenTotal = null;
+        Long seenBudget = null;
+        Long seenRemaining = null;
         List<Expense> lastListedExpenses = null;
 
         @Override
-        public void showNewBudget(double budget) {
+        public void showNewBudget(long budget) {
             this.lastBudgetShown = budget;
         }
 
         @Override
-        public void showFinancialSummary(double budget, double totalExpense,
-                                         double remainingBalance, List<Expense> expenses) {
+        public void showFinancialSummary(long budget, long totalExpense,
+                                         long remainingBalance, List<Expense> expenses) {
             this.seenTotal = totalExpense;
             this.seenBudget = budget;
             this.seenRemaining = remainingBalance;
@@ -51,18 +51,18 @@ class SetBudgetCommandTest {
 
     @Test
     void execute_setsBudget_andListReflectsIt() throws Exception {
-        new SetBudgetCommand(150.00).execute(manager, ui);
+        new SetBudgetCommand(15000).execute(manager, ui);
 
         assertNotNull(ui.lastBudgetShown);
-        assertEquals(150.00, ui.lastBudgetShown, 1e-6);
+        assertEquals(15000L, ui.lastBudgetShown);
 
         // Add an expense and verify remaining
-        new AddCommand(30.00, "Groceries").execute(manager, ui);
+        new AddCommand(3000, "Groceries").execute(manager, ui);
 
         new ListCommand().execute(manager, ui);
-        assertEquals(0.00, ui.seenTotal, 1e-6);
-        assertEquals(150.00, ui.seenBudget, 1e-6);
-        assertEquals(150.00, ui.seenRemaining, 1e-6);
+        assertEquals(0L, ui.seenTotal);
+        assertEquals(15000L, ui.seenBudget);
+        assertEquals(15000L, ui.seenRemaining);
         assertEquals(1, ui.lastListedExpenses.size());
         assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Groceries - $30.00",
                 ui.lastListedExpenses.get(0).formatForDisplay());
@@ -70,7 +70,7 @@ class SetBudgetCommandTest {
 
     @Test
     void execute_nonPositiveBudget_asserts() {
-        assertThrows(AssertionError.class, () -> new SetBudgetCommand(0.0).execute(manager, ui));
-        assertThrows(AssertionError.class, () -> new SetBudgetCommand(-10.0).execute(manager, ui));
+        assertThrows(AssertionError.class, () -> new SetBudgetCommand(0).execute(manager, ui));
+        assertThrows(AssertionError.class, () -> new SetBudgetCommand(-1000).execute(manager, ui));
     }
 }
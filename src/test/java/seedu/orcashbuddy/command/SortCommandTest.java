@@ -25,12 +25,21 @@ class SortCommandTest {
     static class StubUi extends Ui {
         List<Expense> lastSortedExpenses = null;
         Boolean isListEmpty = false;
+        int lastFirstRank;
+        int lastTotalCount;
 
         @Override
         public void showSortedExpenseList(List<Expense> expenses) {
             this.lastSortedExpenses = expenses;
         }
 
+        @Override
+        public void showSortedExpensePage(List<Expense> expenses, int firstRank, int totalCount) {
+            this.lastSortedExpenses = expenses;
+            this.lastFirstRank = firstRank;
+            this.lastTotalCount = totalCount;
+        }
+
         @Override
         public void showEmptyExpenseList() {
             this.isListEmpty = true;
@@ -49,9 +58,9 @@ class SortCommandTest {
     @Test
     void execute_withMultipleExpenses_sortsDescendingByAmount() throws Exception {
         // Add expenses in unsorted order
-        new AddCommand(12.50, "Lunch").execute(manager, ui);
-        new AddCommand(7.25, "Coffee").execute(manager, ui);
-        new AddCommand(25.00, "Groceries").execute(manager, ui);
+        new AddCommand(1250, "Lunch").execute(manager, ui);
+        new AddCommand(725, "Coffee").execute(manager, ui);
+        new AddCommand(2500, "Groceries").execute(manager, ui);
 
         // Execute the sort command
         new SortCommand().execute(manager, ui);
@@ -90,8 +99,8 @@ class SortCommandTest {
      */
     @Test
     void execute_withEqualAmounts_preservesInsertionOrder() throws Exception {
-        new AddCommand(10.00, "Zebra").execute(manager, ui);
-        new AddCommand(10.00, "Apple").execute(manager, ui);
+        new AddCommand(1000, "Zebra").execute(manager, ui);
+        new AddCommand(1000, "Apple").execute(manager, ui);
 
         new SortCommand().execute(manager, ui);
 
@@ -102,4 +111,33 @@ class SortCommandTest {
         assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Apple - $10.00",
                 ui.lastSortedExpenses.get(1).formatForDisplay());
     }
+
+    //@@author aydrienlaw
+    /**
+     * Tests that {@code top/} and {@code page/} select a page of the sorted expenses,
+     * numbered by rank, and that a page past the end is empty.
+     */
+    @Test
+    void execute_withTopAndPage_showsRequestedPage() throws Exception {
+        for (int i = 1; i <= 25; i++) {
+            new AddCommand(i * 100L, "Item " + i).execute(manager, ui);
+        }
+
+        new SortCommand(3, null).execute(manager, ui);
+        assertEquals(List.of("Item 25", "Item 24", "Item 23"), descriptionsOf(ui.lastSortedExpenses));
+        assertEquals(1, ui.lastFirstRank);
+
+        new SortCommand(null, 3).execute(manager, ui);
+        assertEquals(5, ui.lastSortedExpenses.size());
+        assertEquals("Item 5", ui.lastSortedExpenses.get(0).getDescription());
+        assertEquals(21, ui.lastFirstRank);
+        assertEquals(25, ui.lastTotalCount);
+
+        new SortCommand(10, 4).execute(manager, ui);
+        assertTrue(ui.lastSortedExpenses.isEmpty());
+    }
+
+    private static List<String> descriptionsOf(List<Expense> expenses) {
+        return expenses.stream().map(Expense::getDescription).toList();
+    }
 }
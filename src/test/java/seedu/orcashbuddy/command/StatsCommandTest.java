@@ -0,0 +1,64 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Command-level tests for showing command timings.
+ */
+class StatsCommandTest {
+    @Test
+    void execute_showsEachCommandWordWithItsTimings() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("add", CommandMetrics.Phase.PARSE, 4_000);
+        metrics.record("add", CommandMetrics.Phase.EXECUTE, 25_000);
+        metrics.record("add", CommandMetrics.Phase.SAVE, 12_000_000);
+        metrics.record("list", CommandMetrics.Phase.PARSE, 900);
+        metrics.recordError("list");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ui ui = new Ui(new PrintStream(out));
+
+        new StatsCommand(metrics).execute(new ExpenseManager(), ui);
+        ui.flush();
+
+        String output = out.toString();
+        assertTrue(output.contains("4000ns / 4000ns / 4000ns"), output);
+        assertTrue(output.contains("12ms / 12ms / 12ms"), output);
+        assertTrue(output.matches("(?s).*list\\s+1\\s+1\\s+900ns / 900ns / 900ns\\s+-\\s+-.*"), output);
+    }
+
+    @Test
+    void execute_backgroundWrites_areShownApartFromCommands() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("add", CommandMetrics.Phase.SAVE, 40_000);
+        metrics.recordBackgroundWrite(12_000_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ui ui = new Ui(new PrintStream(out));
+
+        new StatsCommand(metrics).execute(new ExpenseManager(), ui);
+        ui.flush();
+
+        String output = out.toString();
+        assertTrue(output.contains("40us / 40us / 40us"), output);
+        assertTrue(output.contains("Background writes to disk: 1, 12ms / 12ms / 12ms"), output);
+    }
+
+    @Test
+    void execute_nothingRecorded_saysSo() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ui ui = new Ui(new PrintStream(out));
+
+        new StatsCommand(new CommandMetrics()).execute(new ExpenseManager(), ui);
+        ui.flush();
+
+        assertTrue(out.toString().contains("No commands have run yet."));
+    }
+}
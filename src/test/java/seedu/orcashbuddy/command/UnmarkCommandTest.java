@@ -32,7 +32,7 @@ class UnmarkCommandTest {
 
     @Test
     void execute_unmarksExpense() throws Exception {
-        new AddCommand(40.0, "Books", "School").execute(manager, ui);
+        new AddCommand(4000, "Books", "School").execute(manager, ui);
         new MarkCommand(1).execute(manager, ui);
 
         new UnmarkCommand(1).execute(manager, ui);
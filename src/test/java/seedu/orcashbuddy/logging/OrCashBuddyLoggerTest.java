@@ -0,0 +1,87 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link OrCashBuddyLogger}.
+ */
+class OrCashBuddyLoggerTest {
+    private final Logger julLogger = Logger.getLogger(OrCashBuddyLoggerTest.class.getName());
+    private final List<LogRecord> records = new ArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+    private final OrCashBuddyLogger logger = OrCashBuddyLogger.getLogger(OrCashBuddyLoggerTest.class);
+
+    @BeforeEach
+    void setUp() {
+        julLogger.setUseParentHandlers(false);
+        julLogger.addHandler(handler);
+        julLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        julLogger.removeHandler(handler);
+        julLogger.setUseParentHandlers(true);
+        julLogger.setLevel(null);
+    }
+
+    @Test
+    void log_levelDisabled_logsNothingAndDoesNotBuildMessage() {
+        logger.log(Level.FINE, "Added {0}: {1}", 1250L, "Coffee");
+        logger.fine(() -> {
+            throw new AssertionError("Supplier called for a disabled level");
+        });
+
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    void log_mixedArguments_passesThemAsParametersWithCallerAsSource() {
+        logger.log(Level.INFO, "Imported {0} expenses from {1}, rejected {2} rows", 5, "a.csv", 2);
+
+        assertEquals(1, records.size());
+        LogRecord record = records.get(0);
+        assertEquals("Imported {0} expenses from {1}, rejected {2} rows", record.getMessage());
+        assertArrayEquals(new Object[]{5L, "a.csv", 2L}, record.getParameters());
+        assertEquals(OrCashBuddyLoggerTest.class.getName(), record.getSourceClassName());
+        assertEquals("log_mixedArguments_passesThemAsParametersWithCallerAsSource", record.getSourceMethodName());
+    }
+
+    @Test
+    void log_withThrowable_keepsThrowable() {
+        IllegalStateException thrown = new IllegalStateException("disk full");
+        logger.log(Level.WARNING, "Save failed", thrown);
+
+        assertEquals(1, records.size());
+        assertEquals("Save failed", records.get(0).getMessage());
+        assertSame(thrown, records.get(0).getThrown());
+    }
+}
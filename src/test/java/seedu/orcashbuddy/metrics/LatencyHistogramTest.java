@@ -0,0 +1,79 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LatencyHistogram} and {@link CommandMetrics}.
+ */
+class LatencyHistogramTest {
+    @Test
+    void buckets_coverEveryValueOnceAndInOrder() {
+        long previousHighest = -1;
+        for (int bucket = 0; bucket < LatencyHistogram.bucketOf(Long.MAX_VALUE); bucket++) {
+            long highest = LatencyHistogram.highestValueIn(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previousHighest + 1));
+            assertEquals(bucket, LatencyHistogram.bucketOf(highest));
+            previousHighest = highest;
+        }
+    }
+
+    @Test
+    void getPercentileNanos_randomDurations_withinThreePercentOfExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(7);
+        long[] durations = new long[10_000];
+        for (int i = 0; i < durations.length; i++) {
+            // Spread over several powers of ten, as command latencies are
+            durations[i] = (long) Math.pow(10, 2 + random.nextDouble() * 6);
+            histogram.record(durations[i]);
+        }
+        Arrays.sort(durations);
+
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9}) {
+            long exact = durations[(int) Math.ceil(percentile / 100 * durations.length) - 1];
+            long reported = histogram.getPercentileNanos(percentile);
+            assertTrue(reported >= exact && reported <= exact * 1.032,
+                    "p" + percentile + ": " + reported + " vs " + exact);
+        }
+        assertEquals(durations[durations.length - 1], histogram.getMaxNanos());
+        assertEquals(durations[durations.length - 1], histogram.getPercentileNanos(100));
+        assertEquals(durations.length, histogram.getCount());
+    }
+
+    @Test
+    void getPercentileNanos_emptyOrHugeDurations_staysInRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getMeanNanos());
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE / 2);
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE / 2, histogram.getPercentileNanos(99));
+    }
+
+    @Test
+    void commandMetrics_recordsPerCommandWordInOrder() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", CommandMetrics.Phase.PARSE, 1_000);
+        metrics.record("add", CommandMetrics.Phase.PARSE, 2_000);
+        metrics.record("add", CommandMetrics.Phase.SAVE, 50_000);
+        metrics.record("add", CommandMetrics.Phase.PARSE, 3_000);
+        metrics.recordError("add");
+
+        CommandStats add = metrics.getCommandStats().get(0);
+        assertEquals("add", add.getCommandWord());
+        assertEquals(2, add.getRunCount());
+        assertEquals(1, add.getErrorCount());
+        assertEquals(50_000, add.getHistogram(CommandMetrics.Phase.SAVE).getMaxNanos());
+        assertEquals(0, add.getHistogram(CommandMetrics.Phase.EXECUTE).getCount());
+        assertEquals("list", metrics.getCommandStats().get(1).getCommandWord());
+    }
+}
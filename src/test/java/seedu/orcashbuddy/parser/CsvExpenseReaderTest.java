@@ -0,0 +1,71 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CsvExpenseReader}.
+ */
+class CsvExpenseReaderTest {
+    @Test
+    void parseRow_quotedFieldsAndMarkedFlag_parsesExpense() throws Exception {
+        Expense expense = CsvExpenseReader.parseRow("12.50, \"Dinner, with \"\"Sam\"\"\",Food,yes");
+
+        assertEquals(1250, expense.getAmountCents());
+        assertEquals("Dinner, with \"Sam\"", expense.getDescription());
+        assertEquals("Food", expense.getCategory());
+        assertTrue(expense.isMarked());
+        assertEquals(Expense.DEFAULT_CATEGORY, CsvExpenseReader.parseRow("3,Bus").getCategory());
+        assertFalse(CsvExpenseReader.parseRow("3,Bus,,").isMarked());
+    }
+
+    @Test
+    void parseRow_invalidRows_throwOrCashBuddyException() {
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow("12.50"));
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow("-1,Refund"));
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow("1.234,Gum"));
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow(",Gum"));
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow("1,Gum,9Lives"));
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow("1,Gum,Food,maybe"));
+        assertThrows(OrCashBuddyException.class, () -> CsvExpenseReader.parseRow("1,\"Gum"));
+    }
+
+    @Test
+    void readChunk_headerBlankAndBadRows_reportsRejectsWithLineNumbers() throws Exception {
+        StringBuilder csv = new StringBuilder("amount,description,category,marked\n");
+        int rowCount = CsvExpenseReader.CHUNK_SIZE + 10;
+        for (int i = 1; i <= rowCount; i++) {
+            csv.append(i == 5 ? "oops,Broken" : i + ",Item " + i).append('\n');
+            if (i == 2) {
+                csv.append('\n');
+            }
+        }
+        List<String> rejects = new ArrayList<>();
+
+        try (CsvExpenseReader reader = new CsvExpenseReader(new BufferedReader(new StringReader(csv.toString())))) {
+            List<Expense> first = reader.readChunk(rejects);
+            List<Expense> second = reader.readChunk(rejects);
+
+            assertEquals(CsvExpenseReader.CHUNK_SIZE - 1, first.size());
+            assertEquals("Item 1", first.get(0).getDescription());
+            assertEquals("Item 6", first.get(4).getDescription());
+            assertEquals(10, second.size());
+            assertNull(reader.readChunk(rejects));
+        }
+        assertEquals(1, rejects.size());
+        assertTrue(rejects.get(0).startsWith("Line 7: "), rejects.get(0));
+    }
+}
@@ -1,21 +1,50 @@
 package seedu.orcashbuddy.parser;
 
 import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.command.IndexSelection;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
 
+import java.util.BitSet;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InputValidatorTest {
 
     private static final String COMMAND = "test";
 
     @Test
-    void validateAmount_validNumber_returnsDouble() throws Exception {
-        assertEquals(12.5, InputValidator.validateAmount("12.5", COMMAND), 1e-6);
+    void validateAmount_validNumber_returnsCents() throws Exception {
+        assertEquals(1250L, InputValidator.validateAmount("12.5", COMMAND));
+        assertEquals(7L, InputValidator.validateAmount("0.07", COMMAND));
+        assertEquals(300L, InputValidator.validateAmount("3", COMMAND));
+    }
+
+    //@@author aydrienlaw
+    @Test
+    void validateAmount_moreThanTwoDecimalPlaces_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("1.005", COMMAND));
+    }
+
+    @Test
+    void validateAmount_exponentOrNaN_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("1e3", COMMAND));
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("NaN", COMMAND));
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount(".", COMMAND));
     }
 
+    @Test
+    void validateAmount_aboveMaximum_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("1000000000.01", COMMAND));
+        assertThrows(OrCashBuddyException.class,
+                () -> InputValidator.validateAmount("99999999999999999999", COMMAND));
+    }
+
+    //@@author
+
     @Test
     void validateAmount_null_throws() {
         assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount(null, COMMAND));
@@ -80,4 +109,36 @@ class InputValidatorTest {
     void validateIndex_notInteger_throws() {
         assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("one", COMMAND));
     }
+
+    //@@author aydrienlaw
+    @Test
+    void validateIndices_indicesAndRanges_returnsEachOnce() throws Exception {
+        BitSet expected = new BitSet();
+        expected.set(3);
+        expected.set(5, 9);
+
+        assertEquals(expected, InputValidator.validateIndices(" 3 5-8 7 ", COMMAND).toBitSet(8));
+    }
+
+    @Test
+    void validateIndices_hugeRange_rejectedAgainstListSize() throws Exception {
+        IndexSelection indices = InputValidator.validateIndices("1-2147483647", COMMAND);
+
+        assertEquals(1, indices.getLowestIndex());
+        assertThrows(OrCashBuddyException.class, () -> indices.toBitSet(3));
+    }
+
+    @Test
+    void validateIndices_repeatedIndex_isSingleIndex() throws Exception {
+        assertTrue(InputValidator.validateIndices("4 4-4", COMMAND).isSingleIndex());
+        assertFalse(InputValidator.validateIndices("4 5", COMMAND).isSingleIndex());
+    }
+
+    @Test
+    void validateIndices_invalidRange_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndices("9-3", COMMAND));
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndices("0-3", COMMAND));
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndices("2 -4", COMMAND));
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndices("", COMMAND));
+    }
 }
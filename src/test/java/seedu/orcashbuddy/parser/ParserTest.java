@@ -4,13 +4,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.command.AddCommand;
 import seedu.orcashbuddy.command.ByeCommand;
+import seedu.orcashbuddy.command.DeleteCommand;
 import seedu.orcashbuddy.command.EditCommand;
+import seedu.orcashbuddy.command.ExportCommand;
 import seedu.orcashbuddy.command.FindCommand;
+import seedu.orcashbuddy.command.ImportCommand;
 import seedu.orcashbuddy.command.InvalidCommand;
 import seedu.orcashbuddy.command.ListCommand;
 import seedu.orcashbuddy.command.MarkCommand;
 import seedu.orcashbuddy.command.SetBudgetCommand;
+import seedu.orcashbuddy.command.SortCommand;
+import seedu.orcashbuddy.command.StatsCommand;
+import seedu.orcashbuddy.command.UnmarkCommand;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 class ParserTest {
@@ -71,4 +78,65 @@ class ParserTest {
     void parse_addMissingDescription_returnsInvalidCommand() {
         assertInstanceOf(InvalidCommand.class, parser.parse("add a/10"));
     }
+
+    //@@author aydrienlaw
+    @Test
+    void parse_deleteWithIndicesAndRanges_returnsDeleteCommand() {
+        assertInstanceOf(DeleteCommand.class, parser.parse("delete 3"));
+        assertInstanceOf(DeleteCommand.class, parser.parse("delete 3 7 10-200"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("delete 7-3"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("delete 1 two"));
+    }
+
+    @Test
+    void parse_markAndUnmarkWithRangesOrSearch_returnsCommands() {
+        assertInstanceOf(MarkCommand.class, parser.parse("mark 1-5 9"));
+        assertInstanceOf(MarkCommand.class, parser.parse("mark cat/Food"));
+        assertInstanceOf(UnmarkCommand.class, parser.parse("unmark 2 4-6"));
+        assertInstanceOf(UnmarkCommand.class, parser.parse("unmark desc/coffee"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("mark cat/"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("unmark 6-4"));
+    }
+
+    @Test
+    void parse_import_returnsImportCommand() {
+        assertInstanceOf(ImportCommand.class, parser.parse("import data/card.csv"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("import"));
+    }
+
+    @Test
+    void parse_exportWithOptionalSearch_returnsExportCommand() {
+        assertInstanceOf(ExportCommand.class, parser.parse("export data/cat/all.csv"));
+        assertInstanceOf(ExportCommand.class, parser.parse("export food.jsonl cat/Food"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("export cat/Food"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("export out.csv desc/"));
+    }
+
+    @Test
+    void parse_sortWithTopAndPage_returnsSortCommand() {
+        assertInstanceOf(SortCommand.class, parser.parse("sort"));
+        assertInstanceOf(SortCommand.class, parser.parse("sort top/20"));
+        assertInstanceOf(SortCommand.class, parser.parse("sort page/2 top/5"));
+    }
+
+    @Test
+    void parse_sortWithInvalidOption_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort top/0"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort page/two"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort everything"));
+    }
+
+    //@@author aydrienlaw
+    @Test
+    void parse_stats_returnsStatsCommand() {
+        assertInstanceOf(StatsCommand.class, parser.parse("stats"));
+    }
+
+    @Test
+    void getCommandWord_groupsUnknownWords() {
+        assertEquals("add", Parser.getCommandWord("  ADD a/5 desc/Coffee"));
+        assertEquals("stats", Parser.getCommandWord("stats"));
+        assertEquals(Parser.UNKNOWN_COMMAND_WORD, Parser.getCommandWord("lst"));
+        assertEquals(Parser.UNKNOWN_COMMAND_WORD, Parser.getCommandWord(""));
+    }
 }
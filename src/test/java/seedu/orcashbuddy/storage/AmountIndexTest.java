@@ -0,0 +1,87 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for {@link AmountIndex} as maintained by {@link ExpenseManager}.
+ */
+class AmountIndexTest {
+    @Test
+    void sortExpenses_interleavedWithAddDeleteAndReplace_matchesStableSort() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        Random random = new Random(11);
+        for (int i = 0; i < 600; i++) {
+            // Few distinct amounts, so equal amounts must keep their list order
+            long amountCents = 100L * (1 + random.nextInt(8));
+            int operation = random.nextInt(3);
+            if (operation == 0 || manager.getSize() < 2) {
+                manager.addExpense(new Expense(amountCents, "Item " + i, "Misc"));
+            } else if (operation == 1) {
+                manager.deleteExpense(1 + random.nextInt(manager.getSize()));
+            } else {
+                manager.replaceExpense(1 + random.nextInt(manager.getSize()),
+                        new Expense(amountCents, "Edit " + i, "Misc"));
+            }
+            if (i % 50 == 0) {
+                assertEquals(stableSort(manager), descriptionsOf(manager.sortExpenses()));
+            }
+        }
+        assertEquals(stableSort(manager), descriptionsOf(manager.sortExpenses()));
+    }
+
+    @Test
+    void sortExpensesPage_withAndWithoutIndex_matchesFullSort() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            manager.addExpense(new Expense(100L * (1 + random.nextInt(20)), "Item " + i, "Misc"));
+        }
+        manager.deleteExpense(3);
+
+        // Before the first full sort, a small page comes from the bounded heap
+        List<String> top = descriptionsOf(manager.sortExpenses(0, 15));
+        List<String> fullSort = descriptionsOf(manager.sortExpenses());
+
+        assertEquals(fullSort.subList(0, 15), top);
+        assertEquals(fullSort.subList(40, 55), descriptionsOf(manager.sortExpenses(40, 15)));
+        assertEquals(fullSort.subList(190, 199), descriptionsOf(manager.sortExpenses(190, 15)));
+        assertEquals(List.of(), manager.sortExpenses(199, 15));
+    }
+
+    @Test
+    void sortExpenses_listStore_returnsSameExpenseObjects() {
+        ExpenseManager manager = new ExpenseManager(new ArrayList<>(), 0, 0, 0);
+        Expense cheap = new Expense(100, "Gum", "Food");
+        Expense dear = new Expense(5000, "Shoes", "Shopping");
+        manager.addExpense(cheap);
+        manager.addExpense(dear);
+
+        List<Expense> sorted = manager.sortExpenses();
+
+        assertSame(dear, sorted.get(0));
+        assertSame(cheap, sorted.get(1));
+    }
+
+    private static List<String> stableSort(ExpenseManager manager) {
+        List<Expense> sorted = new ArrayList<>(manager.getExpenses());
+        sorted.sort((e1, e2) -> Long.compare(e2.getAmountCents(), e1.getAmountCents()));
+        return descriptionsOf(sorted);
+    }
+
+    private static List<String> descriptionsOf(List<Expense> expenses) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : expenses) {
+            descriptions.add(expense.getDescription());
+        }
+        return descriptions;
+    }
+}
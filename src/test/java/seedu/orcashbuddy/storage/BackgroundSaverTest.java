@@ -0,0 +1,153 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.metrics.CommandMetrics;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link BackgroundSaver} and the {@link PendingSave} merging it relies on.
+ */
+class BackgroundSaverTest {
+    private static final String DIRECTORY = "data";
+
+    private Ui ui;
+    private ExpenseManager manager;
+    private BackgroundSaver saver;
+
+    @BeforeEach
+    void setUp() {
+        cleanupTestFiles();
+        ui = new Ui();
+        manager = new ExpenseManager();
+        saver = new BackgroundSaver(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        saver.close();
+        cleanupTestFiles();
+    }
+
+    @Test
+    void flush_afterBurstOfSaves_writesEveryChange() throws Exception {
+        manager.setBudget(10000);
+        saver.submit(manager, ui);
+        for (int i = 1; i <= 20; i++) {
+            manager.addExpense(new Expense(i * 100L, "Item " + i, "Misc"));
+            saver.submit(manager, ui);
+        }
+        manager.markExpense(3);
+        manager.deleteExpense(1);
+        saver.submit(manager, ui);
+
+        saver.flush(manager, ui);
+
+        ExpenseManager loaded = StorageManager.loadExpenseManager(ui);
+        assertEquals(19, loaded.getSize());
+        assertEquals(manager.getTotalExpenses(), loaded.getTotalExpenses());
+        assertEquals(manager.getRemainingBalance(), loaded.getRemainingBalance());
+        assertTrue(loaded.findExpensesByDescription("Item 3").get(0).isMarked());
+    }
+
+    @Test
+    void flush_afterSave_recordsTheWriteInTheMetrics() {
+        CommandMetrics metrics = new CommandMetrics();
+        BackgroundSaver timedSaver = new BackgroundSaver(0, metrics);
+        manager.addExpense(new Expense(700, "Lunch", "Food"));
+
+        timedSaver.submit(manager, ui);
+        timedSaver.flush(manager, ui);
+        timedSaver.close();
+
+        assertEquals(1, metrics.getBackgroundWrites().getCount());
+        assertTrue(metrics.getCommandStats().isEmpty());
+    }
+
+    @Test
+    void submit_snapshotCopy_isNotAffectedByLaterChanges() throws Exception {
+        manager.addExpense(new Expense(500, "Pen", "Stationery"));
+        saver.submit(manager, ui);
+        // Mutates the live expense in place before the writer has run
+        manager.markExpense(1);
+        saver.submit(manager, ui);
+        manager.unmarkExpense(1);
+
+        saver.flush(manager, ui);
+
+        ExpenseManager loaded = StorageManager.loadExpenseManager(ui);
+        assertTrue(loaded.findExpensesByDescription("Pen").get(0).isMarked());
+    }
+
+    @Test
+    void flush_afterWriterThrowsRuntimeException_reportsFailureAndKeepsSaving() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ui = new Ui(new PrintStream(out));
+        manager.addExpense(new Expense(500, "Pen", "Stationery"));
+        // Null records make merging throw a NullPointerException on the writer thread
+        saver.enqueue(PendingSave.journal(null));
+
+        saver.flush(manager, ui);
+        ui.flush();
+        assertTrue(out.toString().contains("Failed to save your expenses."));
+
+        manager.addExpense(new Expense(300, "Bus", "Transport"));
+        saver.submit(manager, ui);
+        saver.flush(manager, ui);
+
+        ExpenseManager loaded = StorageManager.loadExpenseManager(ui);
+        assertEquals(2, loaded.getSize());
+        assertEquals("Bus", loaded.getExpense(2).getDescription());
+    }
+
+    @Test
+    void merge_dropsEverythingBeforeLastSnapshot() {
+        ExpenseManager snapshot = new ExpenseManager();
+        PendingSave merged = PendingSave.merge(List.of(
+                PendingSave.journal(new byte[]{1, 2}),
+                PendingSave.snapshot(snapshot, 4),
+                PendingSave.journal(new byte[]{3}),
+                PendingSave.journal(new byte[]{4, 5})));
+
+        assertTrue(merged.hasSnapshot());
+        assertEquals(snapshot, merged.getSnapshot());
+        assertEquals(4, merged.getGeneration());
+        assertEquals(3, merged.getJournalRecords().length);
+        assertEquals(3, merged.getJournalRecords()[0]);
+    }
+
+    @Test
+    void merge_journalOnly_concatenatesRecords() {
+        PendingSave merged = PendingSave.merge(List.of(
+                PendingSave.journal(new byte[]{1}),
+                PendingSave.journal(new byte[]{2, 3})));
+
+        assertFalse(merged.hasSnapshot());
+        assertEquals(3, merged.getJournalRecords().length);
+    }
+
+    private void cleanupTestFiles() {
+        File dir = new File(DIRECTORY);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        if (dir.exists()) {
+            dir.delete();
+        }
+    }
+}
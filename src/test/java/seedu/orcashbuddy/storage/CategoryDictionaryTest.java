@@ -0,0 +1,42 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CategoryDictionary}.
+ */
+class CategoryDictionaryTest {
+    private final CategoryDictionary dictionary = CategoryDictionary.getInstance();
+
+    @Test
+    void intern_sameCategoryTwice_returnsSameIdAndSharedName() {
+        int first = dictionary.intern(new String("Groceries"));
+        int second = dictionary.intern(new String("Groceries"));
+
+        assertEquals(first, second);
+        assertNotEquals(first, dictionary.intern("groceries"));
+        assertSame(dictionary.getName(first), new Expense(100, "Milk", "Groceries").getCategory());
+        assertEquals("groceries", dictionary.getLowerCaseName(first));
+    }
+
+    @Test
+    void findIdsContaining_matchesLowerCaseForms() {
+        int transport = dictionary.intern("Public Transport");
+        int food = dictionary.intern("Fast Food");
+
+        BitSet matches = dictionary.findIdsContaining("transport");
+
+        assertTrue(matches.get(transport));
+        assertFalse(matches.get(food));
+    }
+}
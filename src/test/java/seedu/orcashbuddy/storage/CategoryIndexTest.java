@@ -0,0 +1,74 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link CategoryIndex} as maintained by {@link ExpenseManager}.
+ */
+class CategoryIndexTest {
+    private static final String[] CATEGORIES = {"Food", "Fast Food", "Transport", "School", "Misc"};
+
+    @Test
+    void findExpensesByCategory_afterAddDeleteAndReplace_matchesLinearScan() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        manager.addExpense(new Expense(100, "Seed", "Food"));
+        // Builds the index, so every later change below has to update it
+        manager.findExpensesByCategory("food");
+
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            int operation = random.nextInt(3);
+            if (operation == 0 || manager.getSize() < 2) {
+                manager.addExpense(new Expense(100 + i, "Item " + i, category));
+            } else if (operation == 1) {
+                manager.deleteExpense(1 + random.nextInt(manager.getSize()));
+            } else {
+                manager.replaceExpense(1 + random.nextInt(manager.getSize()),
+                        new Expense(100 + i, "Edit " + i, category));
+            }
+        }
+
+        for (String term : new String[]{"food", "FOOD", "fast", "o", "school", "misc", "none"}) {
+            assertEquals(scan(manager, term), descriptionsOf(manager.findExpensesByCategory(term)));
+        }
+    }
+
+    @Test
+    void findExpensesByCategory_listChangedDirectly_rebuildsIndex() {
+        ExpenseManager manager = new ExpenseManager();
+        manager.addExpense(new Expense(500, "Bus fare", "Transport"));
+        manager.findExpensesByCategory("transport");
+
+        manager.getExpenses().add(0, new Expense(250, "Train", "Transport"));
+
+        assertEquals(List.of("Train", "Bus fare"),
+                descriptionsOf(manager.findExpensesByCategory("transport")));
+    }
+
+    private static List<String> scan(ExpenseManager manager, String term) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : manager.getExpenses()) {
+            if (expense.getCategory().toLowerCase().contains(term.toLowerCase())) {
+                descriptions.add(expense.getDescription());
+            }
+        }
+        return descriptions;
+    }
+
+    private static List<String> descriptionsOf(List<Expense> expenses) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : expenses) {
+            descriptions.add(expense.getDescription());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,97 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ColumnarExpenseList} and the {@link ExpenseManager} operations that use its columns.
+ */
+class ColumnarExpenseListTest {
+    private ExpenseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ExpenseManager(new ColumnarExpenseList(), 0, 0, 0);
+        manager.addExpense(new Expense(500, "Bus fare", "Transport"));
+        manager.addExpense(new Expense(1250, "Chicken rice", "Food"));
+        manager.addExpense(new Expense(500, "Kopi", "Food"));
+        manager.addExpense(new Expense(4000, "Textbook", "School"));
+        manager.setBudget(10000);
+    }
+
+    @Test
+    void markAndUnmark_throughManager_areWrittenBackToColumns() throws Exception {
+        manager.markExpense(2);
+        manager.markExpense(4);
+        manager.unmarkExpense(4);
+
+        assertTrue(manager.getExpense(2).isMarked());
+        assertFalse(manager.getExpense(4).isMarked());
+        assertEquals(1250, manager.getTotalExpensesCents());
+        assertEquals(8750, manager.getRemainingBalanceCents());
+    }
+
+    @Test
+    void insertAndRemove_keepColumnsAndMarksAligned() throws Exception {
+        manager.markExpense(3);
+        manager.getExpenses().add(1, new Expense(99, "Gum", "Food"));
+        manager.deleteExpense(1);
+
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : manager.getExpenses()) {
+            descriptions.add(expense.getDescription());
+        }
+        assertEquals(List.of("Gum", "Chicken rice", "Kopi", "Textbook"), descriptions);
+        assertTrue(manager.getExpense(3).isMarked());
+        assertFalse(manager.getExpense(1).isMarked());
+    }
+
+    @Test
+    void sortExpenses_columnar_isDescendingAndStableForEqualAmounts() {
+        List<Expense> sorted = manager.sortExpenses();
+
+        assertEquals("Textbook", sorted.get(0).getDescription());
+        assertEquals("Chicken rice", sorted.get(1).getDescription());
+        assertEquals("Bus fare", sorted.get(2).getDescription());
+        assertEquals("Kopi", sorted.get(3).getDescription());
+    }
+
+    @Test
+    void find_columnar_matchesCategoryAndDescriptionIgnoringCase() {
+        assertEquals(2, manager.findExpensesByCategory("FOO").size());
+        assertEquals("Chicken rice", manager.findExpensesByDescription("RICE").get(0).getDescription());
+        assertTrue(manager.findExpensesByDescription("pizza").isEmpty());
+    }
+
+    @Test
+    void replaceMany_descriptionPoolIsCompacted_descriptionsSurvive() throws Exception {
+        String longDescription = "x".repeat(500);
+        for (int i = 0; i < 100; i++) {
+            manager.replaceExpense(1, new Expense(100 + i, longDescription + i, "Misc"));
+        }
+
+        assertEquals(longDescription + 99, manager.getExpense(1).getDescription());
+        assertEquals("Textbook", manager.getExpense(4).getDescription());
+    }
+
+    @Test
+    void copy_isIndependentOfOriginal() throws Exception {
+        ExpenseManager copy = manager.copy();
+        manager.markExpense(1);
+        manager.deleteExpense(2);
+
+        assertTrue(copy.getStore() instanceof ColumnarExpenseList);
+        assertEquals(4, copy.getSize());
+        assertFalse(copy.getExpense(1).isMarked());
+        assertEquals("Chicken rice", copy.getExpense(2).getDescription());
+    }
+}
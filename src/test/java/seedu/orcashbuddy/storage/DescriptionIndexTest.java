@@ -0,0 +1,76 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for {@link DescriptionIndex} as maintained by {@link ExpenseManager}.
+ */
+class DescriptionIndexTest {
+    private static final String[] WORDS = {"Chicken rice", "Kopi", "Bus fare", "Rice cooker", "Textbook", "Nasi"};
+
+    @Test
+    void findExpensesByDescription_afterAddDeleteAndReplace_matchesLinearScan() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        manager.addExpense(new Expense(100, "Seed", "Misc"));
+        // Builds the index, so every later change below has to update it
+        manager.findExpensesByDescription("seed");
+
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(20);
+            int operation = random.nextInt(3);
+            if (operation == 0 || manager.getSize() < 2) {
+                manager.addExpense(new Expense(100 + i, description, "Misc"));
+            } else if (operation == 1) {
+                manager.deleteExpense(1 + random.nextInt(manager.getSize()));
+            } else {
+                manager.replaceExpense(1 + random.nextInt(manager.getSize()),
+                        new Expense(100 + i, description, "Misc"));
+            }
+        }
+
+        for (String term : new String[]{"rice", "RICE", "ice c", "kopi 1", "fare 19", "ri", "x", "pizza"}) {
+            assertEquals(scan(manager, term), descriptionsOf(manager.findExpensesByDescription(term)));
+        }
+    }
+
+    @Test
+    void findCandidates_requiresEveryTrigramOfTerm() {
+        DescriptionIndex index = DescriptionIndex.build(new SlottedExpenseList(new ArrayList<>(List.of(
+                new Expense(100, "Rice cooker", "Home"),
+                new Expense(200, "Price list", "Misc"),
+                new Expense(300, "Cooking class", "School")))));
+
+        assertEquals(2, index.findCandidates("rice").length);
+        assertEquals(0, index.findCandidates("cook")[0]);
+        assertEquals(0, index.findCandidates("pizza").length);
+        assertNull(index.findCandidates("ri"));
+    }
+
+    private static List<String> scan(ExpenseManager manager, String term) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : manager.getExpenses()) {
+            if (expense.getDescription().toLowerCase().contains(term.toLowerCase())) {
+                descriptions.add(expense.getDescription());
+            }
+        }
+        return descriptions;
+    }
+
+    private static List<String> descriptionsOf(List<Expense> expenses) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : expenses) {
+            descriptions.add(expense.getDescription());
+        }
+        return descriptions;
+    }
+}
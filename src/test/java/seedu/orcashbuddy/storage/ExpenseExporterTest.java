@@ -0,0 +1,95 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.command.ImportCommand;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ExpenseExporter}.
+ */
+class ExpenseExporterTest {
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("orcashbuddy", ".csv");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void export_csvFromEveryStore_writesSameQuotedRows() throws Exception {
+        List<String> expected = List.of(
+                "amount,description,category,marked",
+                "12.50,\"Dinner, with \"\"Sam\"\"\",Food,true",
+                "3.00,Bus,Transport,false");
+        for (List<Expense> store : List.<List<Expense>>of(new ArrayList<>(), new ColumnarExpenseList())) {
+            ExpenseManager manager = sampleManager(store);
+
+            assertEquals(2, ExpenseExporter.export(manager, null, file, ExpenseExporter.Format.CSV));
+            assertEquals(expected, Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void export_jsonLinesOfSelectedIndices_escapesStrings() throws Exception {
+        ExpenseManager manager = sampleManager(new ArrayList<>());
+        manager.addExpense(new Expense(99, "Tab\there \\ ok", "Misc"));
+        BitSet indices = new BitSet();
+        indices.set(1);
+        indices.set(3);
+
+        ExpenseExporter.export(manager, indices, file, ExpenseExporter.Format.JSON_LINES);
+
+        assertEquals(List.of(
+                "{\"amount\":12.50,\"description\":\"Dinner, with \\\"Sam\\\"\",\"category\":\"Food\",\"marked\":true}",
+                "{\"amount\":0.99,\"description\":\"Tab\\u0009here \\\\ ok\",\"category\":\"Misc\",\"marked\":false}"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_csvThenImport_restoresExpenses() throws Exception {
+        ExpenseManager original = sampleManager(new ArrayList<>());
+        for (int i = 0; i < 5000; i++) {
+            original.addExpense(new Expense(100 + i, "Item " + i, "Misc"));
+        }
+        ExpenseExporter.export(original, null, file, ExpenseExporter.Format.CSV);
+
+        ExpenseManager imported = new ExpenseManager();
+        new ImportCommand(file.toString()).execute(imported, new Ui());
+
+        assertEquals(original.getSize(), imported.getSize());
+        assertEquals(original.getTotalExpensesCents(), imported.getTotalExpensesCents());
+        assertEquals("Dinner, with \"Sam\"", imported.getExpense(1).getDescription());
+        assertEquals("Item 4999", imported.getExpense(5002).getDescription());
+        assertTrue(imported.getExpense(1).isMarked());
+    }
+
+    private static ExpenseManager sampleManager(List<Expense> store) throws Exception {
+        ExpenseManager manager = new ExpenseManager(store, 0, 0, 0);
+        manager.addExpense(new Expense(1250, "Dinner, with \"Sam\"", "Food"));
+        manager.addExpense(new Expense(800, "Deleted", "Food"));
+        manager.addExpense(new Expense(300, "Bus", "Transport"));
+        manager.markExpense(1);
+        manager.deleteExpense(2);
+        return manager;
+    }
+}
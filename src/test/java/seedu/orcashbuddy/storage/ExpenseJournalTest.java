@@ -0,0 +1,199 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ExpenseJournal} recording and replay.
+ */
+class ExpenseJournalTest {
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = File.createTempFile("orcashbuddy", ".journal");
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    void replay_recordedOperations_rebuildsSameState() throws Exception {
+        ExpenseJournal.reset(file, 7);
+        ExpenseJournal journal = new ExpenseJournal(7, 0);
+        ExpenseManager original = new ExpenseManager();
+        original.attachJournal(journal);
+
+        original.addExpense(new Expense(1250, "Lunch", "Food"));
+        original.addExpense(new Expense(300, "Coffee", "Drinks"));
+        original.setBudget(5000);
+        original.markExpense(1);
+        original.unmarkExpense(1);
+        original.markExpense(2);
+        assertTrue(journal.hasPendingRecords());
+        ExpenseJournal.append(file, journal.drainPending());
+        assertFalse(journal.hasPendingRecords());
+        assertEquals(6, journal.getRecordCount());
+
+        ExpenseManager replayed = new ExpenseManager();
+        assertEquals(6, ExpenseJournal.replay(file, replayed, 7));
+        assertEquals(2, replayed.getSize());
+        assertFalse(replayed.getExpense(1).isMarked());
+        assertTrue(replayed.getExpense(2).isMarked());
+        assertEquals(original.getTotalExpenses(), replayed.getTotalExpenses());
+        assertEquals(original.getRemainingBalance(), replayed.getRemainingBalance());
+    }
+
+    @Test
+    void replay_bulkDelete_rebuildsSameState() throws Exception {
+        ExpenseJournal.reset(file, 2);
+        ExpenseJournal journal = new ExpenseJournal(2, 0);
+        ExpenseManager original = new ExpenseManager();
+        original.attachJournal(journal);
+        for (int i = 1; i <= 10; i++) {
+            original.addExpense(new Expense(100 * i, "Item " + i, "Misc"));
+        }
+        original.setBudget(10000);
+        original.markExpense(4);
+        BitSet indices = new BitSet();
+        indices.set(2);
+        indices.set(4, 8);
+        original.deleteExpenses(indices);
+        ExpenseJournal.append(file, journal.drainPending());
+
+        ExpenseManager replayed = new ExpenseManager();
+        assertEquals(13, ExpenseJournal.replay(file, replayed, 2));
+        assertEquals(5, replayed.getSize());
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(original.getExpense(i).getDescription(), replayed.getExpense(i).getDescription());
+        }
+        assertEquals(original.getTotalExpensesCents(), replayed.getTotalExpensesCents());
+        assertEquals(0, replayed.getTotalExpensesCents());
+    }
+
+    @Test
+    void replay_bulkMarkAndUnmark_rebuildsSameState() throws Exception {
+        ExpenseJournal.reset(file, 5);
+        ExpenseJournal journal = new ExpenseJournal(5, 0);
+        ExpenseManager original = new ExpenseManager();
+        original.attachJournal(journal);
+        for (int i = 1; i <= 10; i++) {
+            original.addExpense(new Expense(100 * i, "Item " + i, i % 2 == 0 ? "Even" : "Odd"));
+        }
+        BitSet range = new BitSet();
+        range.set(2, 9);
+        original.markExpenses(range);
+        original.unmarkExpenses(original.findIndicesByCategory("Odd"));
+        ExpenseJournal.append(file, journal.drainPending());
+
+        ExpenseManager replayed = new ExpenseManager();
+        assertEquals(12, ExpenseJournal.replay(file, replayed, 5));
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(original.getExpense(i).isMarked(), replayed.getExpense(i).isMarked());
+        }
+        assertEquals(200 + 400 + 600 + 800, replayed.getTotalExpensesCents());
+        assertEquals(original.getRemainingBalanceCents(), replayed.getRemainingBalanceCents());
+    }
+
+    @Test
+    void replay_addedBatchWithMarkedExpenses_rebuildsSameState() throws Exception {
+        ExpenseJournal.reset(file, 6);
+        ExpenseJournal journal = new ExpenseJournal(6, 0);
+        ExpenseManager original = new ExpenseManager();
+        original.attachJournal(journal);
+        original.addExpense(new Expense(100, "Pen", "Stationery"));
+        Expense marked = new Expense(250, "Taxi", "Transport");
+        marked.mark();
+        original.addExpenses(List.of(new Expense(400, "Book", "School"), marked));
+        ExpenseJournal.append(file, journal.drainPending());
+
+        ExpenseManager replayed = new ExpenseManager();
+        assertEquals(4, ExpenseJournal.replay(file, replayed, 6));
+        assertEquals(3, replayed.getSize());
+        assertFalse(replayed.getExpense(2).isMarked());
+        assertTrue(replayed.getExpense(3).isMarked());
+        assertEquals(250, replayed.getTotalExpensesCents());
+    }
+
+    @Test
+    void addExpenses_batchReachingSnapshotInterval_detachesJournalInsteadOfRecording() {
+        ExpenseJournal journal = new ExpenseJournal(6, 0);
+        ExpenseManager manager = new ExpenseManager();
+        manager.attachJournal(journal);
+        manager.addExpense(new Expense(100, "Pen", "Stationery"));
+        List<Expense> batch = new ArrayList<>();
+        for (int i = 1; i < StorageManager.SNAPSHOT_INTERVAL; i++) {
+            batch.add(new Expense(100, "Row " + i, "Import"));
+        }
+
+        manager.addExpenses(batch);
+
+        assertNull(manager.getJournal());
+        assertEquals(1, journal.getRecordCount());
+        assertEquals(StorageManager.SNAPSHOT_INTERVAL, manager.getSize());
+    }
+
+    @Test
+    void replay_otherGeneration_isIgnored() throws Exception {
+        ExpenseJournal.reset(file, 3);
+        ExpenseJournal journal = new ExpenseJournal(3, 0);
+        journal.recordAdd(new Expense(100, "Pen", "Stationery"));
+        ExpenseJournal.append(file, journal.drainPending());
+
+        ExpenseManager manager = new ExpenseManager();
+        assertEquals(-1, ExpenseJournal.replay(file, manager, 4));
+        assertEquals(0, manager.getSize());
+    }
+
+    @Test
+    void replay_partialTrailingRecord_isDroppedAndTruncated() throws Exception {
+        ExpenseJournal.reset(file, 1);
+        ExpenseJournal journal = new ExpenseJournal(1, 0);
+        journal.recordAdd(new Expense(100, "Pen", "Stationery"));
+        ExpenseJournal.append(file, journal.drainPending());
+        long goodLength = file.length();
+
+        // Simulate a crash halfway through appending the next record
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[]{1, 0x40, 0x14});
+        }
+
+        ExpenseManager manager = new ExpenseManager();
+        assertEquals(1, ExpenseJournal.replay(file, manager, 1));
+        assertEquals(1, manager.getSize());
+        assertEquals(goodLength, file.length());
+    }
+
+    @Test
+    void replay_otherVersion_isIgnored() throws Exception {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(ExpenseJournal.MAGIC);
+            out.writeShort(ExpenseJournal.VERSION + 1);
+            out.writeLong(5);
+            out.writeByte(6); // set budget
+            out.writeLong(2000);
+        }
+
+        ExpenseManager manager = new ExpenseManager();
+        assertEquals(-1, ExpenseJournal.replay(file, manager, 5));
+        assertEquals(0, manager.getBudgetCents());
+    }
+}
@@ -0,0 +1,140 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the binary ledger format written by {@link LedgerWriter} and read by {@link LedgerReader}.
+ */
+class LedgerReaderTest {
+
+    @Test
+    void read_writtenLedger_restoresExpensesAndTotals() throws Exception {
+        ExpenseManager original = sampleManager();
+
+        LedgerReader reader = new LedgerReader(ByteBuffer.wrap(write(original, 9)));
+        ExpenseManager loaded = reader.read();
+
+        assertEquals(9, reader.getGeneration());
+        assertSameLedger(original, loaded);
+    }
+
+    @Test
+    void readLazy_writtenLedger_restoresExpensesAndTotals() throws Exception {
+        ExpenseManager original = sampleManager();
+
+        LedgerReader reader = new LedgerReader(ByteBuffer.wrap(write(original, 4)));
+        ExpenseManager loaded = reader.readLazy();
+
+        assertEquals(4, reader.getGeneration());
+        assertTrue(loaded.getStore() instanceof MappedExpenseList);
+        assertSameLedger(original, loaded);
+    }
+
+    @Test
+    void write_recordsAreFixedWidthWithCategoriesStoredOnce() throws Exception {
+        ExpenseManager one = new ExpenseManager();
+        one.addExpense(new Expense(100, "a", "Groceries"));
+        ExpenseManager two = new ExpenseManager();
+        two.addExpense(new Expense(100, "a", "Groceries"));
+        two.addExpense(new Expense(100, "a", "Groceries"));
+
+        assertEquals(LedgerWriter.RECORD_BYTES + 1, write(two, 1).length - write(one, 1).length);
+    }
+
+    @Test
+    void read_otherVersion_throwsInvalidObjectException() throws Exception {
+        byte[] bytes = write(sampleManager(), 2);
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) (LedgerWriter.VERSION + 1));
+
+        assertThrows(InvalidObjectException.class, () -> new LedgerReader(ByteBuffer.wrap(bytes)).read());
+        assertThrows(InvalidObjectException.class, () -> new LedgerReader(ByteBuffer.wrap(bytes)).readLazy());
+    }
+
+    @Test
+    void read_wrongMagic_throwsInvalidObjectException() {
+        byte[] bytes = "not a ledger at all, just text".getBytes();
+        assertThrows(InvalidObjectException.class, () -> new LedgerReader(ByteBuffer.wrap(bytes)).read());
+    }
+
+    @Test
+    void read_truncatedLedger_throwsEofException() throws Exception {
+        ExpenseManager original = new ExpenseManager();
+        original.addExpense(new Expense(1250, "Lunch", "Food"));
+        byte[] bytes = write(original, 1);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - LedgerWriter.RECORD_BYTES - "Lunch".length());
+
+        LedgerReader reader = new LedgerReader(ByteBuffer.wrap(truncated));
+        assertThrows(EOFException.class, reader::read);
+        assertFalse(reader.getGeneration() >= 0);
+    }
+
+    @Test
+    void readLazy_corruptedRecord_throwsInvalidObjectException() throws Exception {
+        byte[] bytes = write(sampleManager(), 3);
+        int lastRecord = bytes.length - "LunchKopiBus ride to café".getBytes(StandardCharsets.UTF_8).length
+                - LedgerWriter.RECORD_BYTES;
+
+        byte[] badCategory = bytes.clone();
+        ByteBuffer.wrap(badCategory).putInt(lastRecord + 16, 99);
+        LedgerReader reader = new LedgerReader(ByteBuffer.wrap(badCategory));
+        assertThrows(InvalidObjectException.class, reader::readLazy);
+        assertFalse(reader.getGeneration() >= 0);
+
+        byte[] badDescription = bytes.clone();
+        ByteBuffer.wrap(badDescription).putInt(lastRecord + 12, 1 << 20);
+        assertThrows(InvalidObjectException.class, () -> new LedgerReader(ByteBuffer.wrap(badDescription)).readLazy());
+    }
+
+    @Test
+    void read_emptyLedger_hasNoExpenses() throws Exception {
+        ExpenseManager loaded = new LedgerReader(ByteBuffer.wrap(write(new ExpenseManager(), 2))).read();
+        assertEquals(0, loaded.getSize());
+        assertTrue(loaded.getExpenses().isEmpty());
+    }
+
+    private static ExpenseManager sampleManager() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        manager.addExpense(new Expense(1250, "Lunch", "Food"));
+        manager.addExpense(new Expense(300, "Kopi", "Food"));
+        manager.addExpense(new Expense(200, "Bus ride to café", "Transport"));
+        manager.setBudget(5000);
+        manager.markExpense(2);
+        return manager;
+    }
+
+    private static void assertSameLedger(ExpenseManager expected, ExpenseManager actual) throws Exception {
+        assertEquals(expected.getSize(), actual.getSize());
+        assertEquals(expected.getBudget(), actual.getBudget());
+        assertEquals(expected.getTotalExpenses(), actual.getTotalExpenses());
+        assertEquals(expected.getRemainingBalance(), actual.getRemainingBalance());
+        for (int i = 1; i <= expected.getSize(); i++) {
+            Expense expectedExpense = expected.getExpense(i);
+            Expense actualExpense = actual.getExpense(i);
+            assertEquals(expectedExpense.getAmount(), actualExpense.getAmount());
+            assertEquals(expectedExpense.getDescription(), actualExpense.getDescription());
+            assertEquals(expectedExpense.getCategory(), actualExpense.getCategory());
+            assertEquals(expectedExpense.isMarked(), actualExpense.isMarked());
+        }
+    }
+
+    private static byte[] write(ExpenseManager manager, long generation) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LedgerWriter.write(manager, generation, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,83 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MappedExpenseList} over a memory-mapped ledger.
+ */
+class MappedExpenseListTest {
+    private File file;
+    private ExpenseManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ExpenseManager original = new ExpenseManager();
+        for (int i = 1; i <= 5; i++) {
+            original.addExpense(new Expense(i * 100L, "Item " + i, i % 2 == 0 ? "Even" : "Odd"));
+        }
+        original.setBudget(10000);
+        original.markExpense(4);
+
+        file = File.createTempFile("orcashbuddy", ".bin");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            LedgerWriter.write(original, 1, out);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            manager = new LedgerReader(buffer).readLazy();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    void get_sameIndexTwice_returnsSameMaterializedExpense() throws Exception {
+        Expense first = manager.getExpense(3);
+        assertSame(first, manager.getExpense(3));
+        assertEquals("Item 3", first.getDescription());
+        assertEquals("Odd", first.getCategory());
+        assertTrue(manager.getExpense(4).isMarked());
+        assertEquals(4.0, manager.getTotalExpenses());
+    }
+
+    @Test
+    void mutations_keepRemainingRecordsInOrder() throws Exception {
+        manager.deleteExpense(2);
+        manager.addExpense(new Expense(900, "Item 9", "Odd"));
+        manager.replaceExpense(1, new Expense(700, "Item 7", "Odd"));
+        manager.markExpense(2);
+
+        List<Expense> expenses = manager.getExpenses();
+        assertEquals(5, expenses.size());
+        String[] expected = {"Item 7", "Item 3", "Item 4", "Item 5", "Item 9"};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], expenses.get(i).getDescription());
+        }
+        assertEquals(7.0, manager.getTotalExpenses());
+    }
+
+    @Test
+    void sortExpenses_lazyList_matchesEagerOrder() {
+        List<Expense> sorted = manager.sortExpenses();
+        assertEquals("Item 5", sorted.get(0).getDescription());
+        assertEquals("Item 1", sorted.get(4).getDescription());
+    }
+}
@@ -0,0 +1,139 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link SlottedExpenseList} and the expense ids {@link ExpenseManager} exposes.
+ */
+class SlottedExpenseListTest {
+    @Test
+    void getAndRemove_interleavedWithAdds_matchesArrayList() {
+        SlottedExpenseList slotted = new SlottedExpenseList(new ArrayList<>());
+        List<Expense> expected = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 3000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                Expense expense = new Expense(100 + i, "Item " + i, "Misc");
+                slotted.add(expense);
+                expected.add(expense);
+            } else {
+                // Deleting near the front is the case tombstones are for
+                int index = random.nextInt(Math.min(expected.size(), 5));
+                assertSame(expected.remove(index), slotted.remove(index));
+            }
+        }
+
+        assertEquals(expected.size(), slotted.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), slotted.get(i));
+        }
+        assertEquals(expected, new ArrayList<>(slotted));
+    }
+
+    @Test
+    void addAtIndex_afterDeletes_keepsIdsOfEveryExpense() {
+        SlottedExpenseList slotted = new SlottedExpenseList(new ArrayList<>());
+        for (int i = 0; i < 10; i++) {
+            slotted.add(new Expense(100 + i, "Item " + i, "Misc"));
+        }
+        slotted.remove(2);
+        int idOfLast = slotted.getId(8);
+
+        Expense inserted = new Expense(500, "Inserted", "Misc");
+        slotted.add(1, inserted);
+
+        assertEquals(10, slotted.size());
+        assertSame(inserted, slotted.get(1));
+        assertEquals("Item 9", slotted.getAtSlot(slotted.slotOfId(idOfLast)).getDescription());
+        assertEquals(9, slotted.indexOfSlot(slotted.slotOfId(idOfLast)));
+    }
+
+    @Test
+    void expenseIds_acrossDeletesAndCompaction_stayWithTheirExpense() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        for (int i = 0; i < 3000; i++) {
+            manager.addExpense(new Expense(100 + i, "Item " + i, "Misc"));
+        }
+        manager.sortExpenses();
+        int idOfLast = manager.getExpenseId(3000);
+        int idOfFirst = manager.getExpenseId(1);
+
+        // Enough front deletes to make the list compact itself
+        for (int i = 0; i < 2000; i++) {
+            manager.deleteExpense(1);
+        }
+
+        assertTrue(manager.getStore().size() < 3000);
+        assertNull(manager.getExpenseById(idOfFirst));
+        assertEquals(0, manager.indexOfExpenseId(idOfFirst));
+        assertEquals("Item 2999", manager.getExpenseById(idOfLast).getDescription());
+        assertEquals(1000, manager.indexOfExpenseId(idOfLast));
+        assertEquals(idOfLast, manager.getExpenseId(1000));
+        // The amount index was remapped onto the compacted slots
+        assertEquals("Item 2999", manager.sortExpenses().get(0).getDescription());
+        assertEquals("Item 2000", manager.getExpense(1).getDescription());
+    }
+
+    @Test
+    void deleteExpenses_withBuiltIndexes_matchesArrayList() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            manager.addExpense(new Expense(100 + i % 7, "Item " + i, "Misc"));
+            expected.add("Item " + i);
+        }
+        manager.sortExpenses();
+        manager.findExpensesByDescription("item 1");
+
+        // Small deletes keep the indexes up to date; large ones drop them
+        for (int[] range : new int[][]{{3, 4}, {10, 10}, {4000, 4001}, {20, 2500}}) {
+            BitSet indices = new BitSet();
+            indices.set(range[0], range[1] + 1);
+            indices.set(1);
+            manager.deleteExpenses(indices);
+            expected.subList(range[0] - 1, range[1]).clear();
+            expected.remove(0);
+        }
+
+        assertEquals(expected, descriptionsOf(manager.getExpenses()));
+        assertEquals(expected.get(expected.size() - 1), manager.getExpense(expected.size()).getDescription());
+        List<Expense> stableSort = new ArrayList<>(manager.getExpenses());
+        stableSort.sort((e1, e2) -> Long.compare(e2.getAmountCents(), e1.getAmountCents()));
+        assertEquals(descriptionsOf(stableSort), descriptionsOf(manager.sortExpenses()));
+        assertEquals(1, manager.findExpensesByDescription("item 4999").size());
+    }
+
+    @Test
+    void replaceExpense_keepsId() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        manager.addExpense(new Expense(100, "Coffee", "Food"));
+        manager.addExpense(new Expense(200, "Bus", "Transport"));
+        int id = manager.getExpenseId(2);
+
+        manager.deleteExpense(1);
+        manager.replaceExpense(1, new Expense(250, "Taxi", "Transport"));
+
+        assertEquals(1, manager.indexOfExpenseId(id));
+        assertEquals("Taxi", manager.getExpenseById(id).getDescription());
+    }
+
+    private static List<String> descriptionsOf(List<Expense> expenses) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expense expense : expenses) {
+            descriptions.add(expense.getDescription());
+        }
+        return descriptions;
+    }
+}
@@ -1,6 +1,9 @@
 //@@author saheer17
 package seedu.orcashbuddy.storage;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,10 @@ import seedu.orcashbuddy.ui.Ui;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -29,7 +36,10 @@ class MockUi extends Ui { }
 public class StorageManagerTest {
 
     private static final String DIRECTORY = "data";
-    private static final String FILE_NAME = "appdata.ser";
+    private static final String FILE_NAME = "appdata.bin";
+    private static final String LEGACY_FILE_NAME = "appdata.ser";
+    private static final String JOURNAL_FILE_NAME = "appdata.journal";
+    private static final String BACKUP_FILE_NAME = "appdata.bin.bak";
 
     private Ui ui;
     private ExpenseManager manager;
@@ -53,9 +63,9 @@ public class StorageManagerTest {
     @Test
     void testSaveAndLoadExpenseManager() {
         // Add an expense
-        Expense expense = new Expense(50.0, "Groceries", "Food");
+        Expense expense = new Expense(5000, "Groceries", "Food");
         manager.addExpense(expense);
-        manager.setBudget(200.0);
+        manager.setBudget(20000);
 
         // Save
         StorageManager.saveExpenseManager(manager, ui);
@@ -119,14 +129,14 @@ public class StorageManagerTest {
     @Test
     void testSaveAndLoadMultipleExpenses() throws OrCashBuddyException {
         // Add multiple expenses
-        Expense expense1 = new Expense(50.0, "Groceries", "Food");
-        Expense expense2 = new Expense(100.0, "Electricity", "Utilities");
-        Expense expense3 = new Expense(25.50, "Coffee", "Food");
+        Expense expense1 = new Expense(5000, "Groceries", "Food");
+        Expense expense2 = new Expense(10000, "Electricity", "Utilities");
+        Expense expense3 = new Expense(2550, "Coffee", "Food");
 
         manager.addExpense(expense1);
         manager.addExpense(expense2);
         manager.addExpense(expense3);
-        manager.setBudget(500.0);
+        manager.setBudget(50000);
 
         // Mark one expense
         manager.markExpense(2);
@@ -234,9 +244,9 @@ public class StorageManagerTest {
     @Test
     void testSaveAndLoadMarkedExpenses() throws OrCashBuddyException {
         // Add expenses
-        manager.addExpense(new Expense(100.0, "Rent", "Housing"));
-        manager.addExpense(new Expense(50.0, "Food", "Groceries"));
-        manager.setBudget(500.0);
+        manager.addExpense(new Expense(10000, "Rent", "Housing"));
+        manager.addExpense(new Expense(5000, "Food", "Groceries"));
+        manager.setBudget(50000);
 
         // Mark first expense
         manager.markExpense(1);
@@ -260,9 +270,9 @@ public class StorageManagerTest {
     @Test
     void testBudgetCalculationsPreserved() throws OrCashBuddyException {
         // Set up expenses and budget
-        manager.addExpense(new Expense(150.0, "Shopping", "Retail"));
-        manager.addExpense(new Expense(75.0, "Dining", "Food"));
-        manager.setBudget(300.0);
+        manager.addExpense(new Expense(15000, "Shopping", "Retail"));
+        manager.addExpense(new Expense(7500, "Dining", "Food"));
+        manager.setBudget(30000);
 
         // Mark expenses
         manager.markExpense(1);
@@ -287,13 +297,13 @@ public class StorageManagerTest {
     @Test
     void testMultipleSavesOverwrite() {
         // First save
-        manager.addExpense(new Expense(100.0, "First", "Category1"));
-        manager.setBudget(200.0);
+        manager.addExpense(new Expense(10000, "First", "Category1"));
+        manager.setBudget(20000);
         StorageManager.saveExpenseManager(manager, ui);
 
         // Second save with different data
-        manager.addExpense(new Expense(50.0, "Second", "Category2"));
-        manager.setBudget(300.0);
+        manager.addExpense(new Expense(5000, "Second", "Category2"));
+        manager.setBudget(30000);
         StorageManager.saveExpenseManager(manager, ui);
 
         // Load and verify latest data
@@ -308,9 +318,9 @@ public class StorageManagerTest {
     @Test
     void testExpenseCategoriesPreserved() {
         // Add expenses with different categories
-        manager.addExpense(new Expense(50.0, "Lunch", "Food"));
-        manager.addExpense(new Expense(100.0, "Internet", "Utilities"));
-        manager.addExpense(new Expense(25.0, "Movie", "Entertainment"));
+        manager.addExpense(new Expense(5000, "Lunch", "Food"));
+        manager.addExpense(new Expense(10000, "Internet", "Utilities"));
+        manager.addExpense(new Expense(2500, "Movie", "Entertainment"));
 
         // Save and load
         StorageManager.saveExpenseManager(manager, ui);
@@ -333,9 +343,9 @@ public class StorageManagerTest {
     @Test
     void testLargeExpenseAmounts() throws OrCashBuddyException {
         // Add expense with large amount
-        double largeAmount = 999999.99;
+        long largeAmount = 99999999;
         manager.addExpense(new Expense(largeAmount, "Large Purchase", "Major"));
-        manager.setBudget(1000000.0);
+        manager.setBudget(100000000);
         manager.markExpense(1);
 
         // Save and load
@@ -344,7 +354,7 @@ public class StorageManagerTest {
 
         // Verify large amount preserved
         List<Expense> expenses = loadedManager.getExpenses();
-        assertEquals(largeAmount, expenses.get(0).getAmount(), 0.01);
+        assertEquals(largeAmount, expenses.get(0).getAmountCents());
     }
 
     /**
@@ -353,7 +363,7 @@ public class StorageManagerTest {
     @Test
     void testSpecialCharactersInDescription() {
         // Add expense with special characters
-        manager.addExpense(new Expense(50.0, "Café & Restaurant: 50% off!", "Food"));
+        manager.addExpense(new Expense(5000, "Café & Restaurant: 50% off!", "Food"));
 
         // Save and load
         StorageManager.saveExpenseManager(manager, ui);
@@ -364,15 +374,242 @@ public class StorageManagerTest {
         assertEquals("Café & Restaurant: 50% off!", expenses.get(0).getDescription());
     }
 
+    //@@author aydrienlaw
     /**
-     * Helper method to clean up test files and directories.
+     * Tests that saves after the first snapshot only append to the journal,
+     * and that loading replays those changes.
      */
-    private void cleanupTestFiles() {
+    @Test
+    void testChangesAfterSnapshotAreJournaled() throws OrCashBuddyException {
+        manager.addExpense(new Expense(4000, "Books", "Education"));
+        StorageManager.saveExpenseManager(manager, ui);
+        File snapshot = new File(DIRECTORY, FILE_NAME);
+        File journal = new File(DIRECTORY, JOURNAL_FILE_NAME);
+        long snapshotLength = snapshot.length();
+        long emptyJournalLength = journal.length();
+
+        manager.addExpense(new Expense(1000, "Pens", "Education"));
+        manager.setBudget(10000);
+        manager.markExpense(2);
+        manager.replaceExpense(1, new Expense(4500, "Textbook", "Education"));
+        manager.deleteExpense(1);
+        StorageManager.saveExpenseManager(manager, ui);
+
+        assertEquals(snapshotLength, snapshot.length());
+        assertTrue(journal.length() > emptyJournalLength);
+
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(1, loadedManager.getSize());
+        assertEquals("Pens", loadedManager.getExpense(1).getDescription());
+        assertTrue(loadedManager.getExpense(1).isMarked());
+        assertEquals(100.0, loadedManager.getBudget());
+        assertEquals(10.0, loadedManager.getTotalExpenses());
+        assertEquals(90.0, loadedManager.getRemainingBalance());
+    }
+
+    /**
+     * Tests that a loaded manager keeps appending to the same journal.
+     */
+    @Test
+    void testLoadedManagerContinuesJournal() throws OrCashBuddyException {
+        manager.addExpense(new Expense(2000, "Taxi", "Transport"));
+        StorageManager.saveExpenseManager(manager, ui);
+        manager.addExpense(new Expense(500, "Bus", "Transport"));
+        StorageManager.saveExpenseManager(manager, ui);
+
+        ExpenseManager reloaded = StorageManager.loadExpenseManager(ui);
+        reloaded.markExpense(1);
+        StorageManager.saveExpenseManager(reloaded, ui);
+
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(2, loadedManager.getSize());
+        assertTrue(loadedManager.getExpense(1).isMarked());
+        assertEquals(20.0, loadedManager.getTotalExpenses());
+    }
+
+    /**
+     * Tests that a long journal is folded back into a fresh snapshot.
+     */
+    @Test
+    void testJournalFoldedIntoSnapshot() {
+        StorageManager.saveExpenseManager(manager, ui);
+        File journal = new File(DIRECTORY, JOURNAL_FILE_NAME);
+        long emptyJournalLength = journal.length();
+
+        for (int i = 0; i < StorageManager.SNAPSHOT_INTERVAL; i++) {
+            manager.addExpense(new Expense(100, "Item " + i, "Misc"));
+            StorageManager.saveExpenseManager(manager, ui);
+        }
+        assertEquals(emptyJournalLength, journal.length());
+
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(StorageManager.SNAPSHOT_INTERVAL, loadedManager.getSize());
+    }
+
+    /**
+     * Tests that a snapshot replaces the previous one without leaving a temporary file,
+     * and keeps the previous one as a backup.
+     */
+    @Test
+    void testSnapshotKeepsPreviousGenerationAsBackup() {
+        manager.addExpense(new Expense(1000, "Lunch", "Food"));
+        StorageManager.saveExpenseManager(manager, ui);
+        manager.attachJournal(null);
+        StorageManager.saveExpenseManager(manager, ui);
+
+        String[] names = new File(DIRECTORY).list();
+        assertNotNull(names);
+        assertTrue(new File(DIRECTORY, BACKUP_FILE_NAME).exists());
+        for (String name : names) {
+            assertFalse(name.endsWith(".tmp"));
+        }
+    }
+
+    /**
+     * Tests that a corrupted snapshot falls back to the previous generation.
+     */
+    @Test
+    void testLoadCorruptedSnapshotRestoresBackup() throws IOException {
+        manager.addExpense(new Expense(1000, "Lunch", "Food"));
+        StorageManager.saveExpenseManager(manager, ui);
+        manager.attachJournal(null);
+        manager.addExpense(new Expense(400, "Bus", "Transport"));
+        StorageManager.saveExpenseManager(manager, ui);
+
+        try (FileOutputStream fos = new FileOutputStream(new File(DIRECTORY, FILE_NAME))) {
+            fos.write("torn write".getBytes());
+        }
+
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(1, loadedManager.getSize());
+        assertEquals(1, loadedManager.findExpensesByDescription("Lunch").size());
+    }
+
+    /**
+     * Tests that a save interrupted between its two renames still loads every change,
+     * since the backup and the journal both still belong to the same generation.
+     */
+    @Test
+    void testLoadAfterInterruptedRenameUsesBackupAndJournal() {
+        manager.addExpense(new Expense(1000, "Lunch", "Food"));
+        StorageManager.saveExpenseManager(manager, ui);
+        manager.addExpense(new Expense(400, "Bus", "Transport"));
+        StorageManager.saveExpenseManager(manager, ui);
+
         File file = new File(DIRECTORY, FILE_NAME);
-        if (file.exists()) {
-            file.delete();
+        assertTrue(file.renameTo(new File(DIRECTORY, BACKUP_FILE_NAME)));
+
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(2, loadedManager.getSize());
+    }
+
+    /**
+     * Tests that a ledger saved with Java serialization is loaded once and rewritten
+     * in the binary format.
+     */
+    @Test
+    void testLegacySerializedLedgerIsMigrated() throws Exception {
+        manager.addExpense(new Expense(1000, "Lunch", "Food"));
+        manager.setBudget(4000);
+        manager.markExpense(1);
+        File dir = new File(DIRECTORY);
+        dir.mkdir();
+        try (ObjectOutputStream oos = new ObjectOutputStream(
+                new FileOutputStream(new File(dir, LEGACY_FILE_NAME)))) {
+            oos.writeObject(manager);
+        }
+
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(1, loadedManager.getSize());
+        assertEquals(30.0, loadedManager.getRemainingBalance());
+        assertTrue(loadedManager.getExpense(1).isMarked());
+        assertFalse(new File(dir, LEGACY_FILE_NAME).exists());
+        assertTrue(new File(dir, FILE_NAME).exists());
+
+        ExpenseManager reloadedManager = StorageManager.loadExpenseManager(ui);
+        assertEquals(1, reloadedManager.getSize());
+        assertEquals(30.0, reloadedManager.getRemainingBalance());
+    }
+
+    @Test
+    void testSaveLoadAndIndexBuildAreRecordedAsFlightRecorderEvents() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            manager.addExpense(new Expense(100 + i, "Item " + i, "Misc"));
+        }
+        Path recordingFile = Files.createTempFile("orcashbuddy", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("orcashbuddy.StorageSave").withThreshold(Duration.ZERO);
+            recording.enable("orcashbuddy.StorageLoad").withThreshold(Duration.ZERO);
+            recording.enable("orcashbuddy.IndexBuild").withThreshold(Duration.ZERO);
+            recording.start();
+            StorageManager.saveExpenseManager(manager, ui);
+            StorageManager.loadExpenseManager(ui).findExpensesByDescription("item 5");
+            recording.stop();
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+
+        RecordedEvent save = findEvent(events, "orcashbuddy.StorageSave");
+        assertTrue(save.getBoolean("isSnapshot"));
+        assertEquals(new File(DIRECTORY, FILE_NAME).length(), save.getLong("snapshotBytes"));
+        RecordedEvent load = findEvent(events, "orcashbuddy.StorageLoad");
+        assertEquals(100, load.getInt("expenseCount"));
+        RecordedEvent indexBuild = findEvent(events, "orcashbuddy.IndexBuild");
+        assertEquals("description", indexBuild.getString("index"));
+        assertEquals(100, indexBuild.getInt("expenseCount"));
+    }
+
+    @Test
+    void testCompactionIsRecordedAsItsOwnFlightRecorderEvent() throws Exception {
+        for (int i = 0; i < 2048; i++) {
+            manager.addExpense(new Expense(100 + i, "Item " + i, "Misc"));
+        }
+        manager.findExpensesByDescription("item 5");
+        Path recordingFile = Files.createTempFile("orcashbuddy", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("orcashbuddy.Compaction").withThreshold(Duration.ZERO);
+            recording.enable("orcashbuddy.IndexBuild").withThreshold(Duration.ZERO);
+            recording.start();
+            // Only the last of these deletes leaves enough tombstones to compact
+            for (int i = 0; i < 1024; i++) {
+                manager.deleteExpense(1);
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+            events = RecordingFile.readAllEvents(recordingFile);
+        } finally {
+            Files.deleteIfExists(recordingFile);
         }
+
+        assertEquals(1, events.size());
+        RecordedEvent compaction = findEvent(events, "orcashbuddy.Compaction");
+        assertEquals(1024, compaction.getInt("expenseCount"));
+        assertEquals(1024, compaction.getInt("removedCount"));
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+
+    //@@author saheer17
+    /**
+     * Helper method to clean up test files and directories.
+     */
+    private void cleanupTestFiles() {
         File dir = new File(DIRECTORY);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
         if (dir.exists()) {
             dir.delete();
         }
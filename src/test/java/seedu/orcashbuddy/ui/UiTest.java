@@ -1,6 +1,5 @@
 package seedu.orcashbuddy.ui;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.expense.Expense;
@@ -9,29 +8,24 @@ import seedu.orcashbuddy.storage.BudgetStatus;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UiTest {
 
     private Ui ui;
-    private PrintStream originalOut;
     private ByteArrayOutputStream out;
 
     @BeforeEach
     void setUp() {
-        ui = new Ui();
-        originalOut = System.out;
         out = new ByteArrayOutputStream();
-        System.setOut(new PrintStream(out));
-    }
-
-    @AfterEach
-    void tearDown() {
-        System.setOut(originalOut);
+        ui = new Ui(new PrintStream(out));
     }
 
     private String capturedOutput() {
+        ui.flush();
         return out.toString();
     }
 
@@ -47,10 +41,10 @@ class UiTest {
     @Test
     void showFinancialSummary_withExpenses_displaysEntries() {
         ArrayList<Expense> expenses = new ArrayList<>();
-        expenses.add(new Expense(12.50, "Lunch", "Food"));
-        expenses.add(new Expense(5.20, "Coffee", "Drinks"));
+        expenses.add(new Expense(1250, "Lunch", "Food"));
+        expenses.add(new Expense(520, "Coffee", "Drinks"));
 
-        ui.showFinancialSummary(100.0, 17.70, 82.30, expenses);
+        ui.showFinancialSummary(10000, 1770, 8230, expenses);
 
         String output = capturedOutput();
         assertTrue(output.contains("FINANCIAL SUMMARY"));
@@ -61,29 +55,66 @@ class UiTest {
     @Test
     void showFinancialSummary_empty_displaysGuidance() {
         ArrayList<Expense> emptyList = new ArrayList<>();
-        ui.showFinancialSummary(0.0, 0.0, 0.0, emptyList);
+        ui.showFinancialSummary(0, 0, 0, emptyList);
         assertTrue(capturedOutput().contains("No expenses added so far."));
     }
 
     @Test
     void showBudgetStatus_handlesDifferentStatuses() {
-        ui.showBudgetStatus(BudgetStatus.EXCEEDED, -12.3);
+        ui.showBudgetStatus(BudgetStatus.EXCEEDED, -1230);
         String output = capturedOutput();
         assertTrue(output.contains("exceeded your budget"));
 
         out.reset();
-        ui.showBudgetStatus(BudgetStatus.NEAR, 15.0);
+        ui.showBudgetStatus(BudgetStatus.NEAR, 1500);
         output = capturedOutput();
         assertTrue(output.contains("remaining balance is low"));
 
         out.reset();
-        ui.showBudgetStatus(BudgetStatus.EQUAL, 0.0);
+        ui.showBudgetStatus(BudgetStatus.EQUAL, 0);
         output = capturedOutput();
         assertTrue(output.contains("used up your budget"));
 
         out.reset();
-        ui.showBudgetStatus(BudgetStatus.OK, 80.0);
+        ui.showBudgetStatus(BudgetStatus.OK, 8000);
         output = capturedOutput();
         assertTrue(output.isBlank(), "OK status should not print alerts");
     }
+
+    //@@author aydrienlaw
+    @Test
+    void flush_writesBufferedOutputOnlyWhenCalled() {
+        ui.showMessage("Saved");
+        assertEquals(0, out.size());
+
+        ui.flush();
+        assertEquals("Saved" + System.lineSeparator(), out.toString());
+    }
+
+    @Test
+    void showFinancialSummary_progressBar_showsRoundedAndClampedPercentages() {
+        ui.showFinancialSummary(30000, 20000, 10000, new ArrayList<>());
+        assertTrue(capturedOutput().contains("66.67%  (Remaining: $100.00)"));
+
+        out.reset();
+        ui.showFinancialSummary(10000, 12345, -2345, new ArrayList<>());
+        assertTrue(capturedOutput().contains("100.00%  (Over by $23.45)"));
+
+        out.reset();
+        ui.showFinancialSummary(0, 0, 0, new ArrayList<>());
+        assertTrue(capturedOutput().contains("0.00%  (Remaining: $0.00)"));
+    }
+
+    @Test
+    void showSortedExpenseList_longListing_writesBeforeFlush() {
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            expenses.add(new Expense(100 + i, "Item " + i, "Misc"));
+        }
+
+        ui.showSortedExpenseList(expenses);
+
+        assertTrue(out.size() > 0, "Long listings should not be held until the flush");
+        assertTrue(capturedOutput().contains("Item 4999"));
+    }
 }